@@ -28,6 +28,7 @@
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.world.WorldTickScheduler;
 
 class TimingHandler implements Timing {
 
@@ -106,7 +107,8 @@ public void stopTimingIfSync() {
 
     @Override
     public TimingHandler startTiming() {
-        if (!this.enabled || SpongeImpl.getGame().getPlatform().getExecutionType().isClient()) {
+        // Timings are not thread safe, worlds ticking in parallel are measured by the WorldTickScheduler
+        if (!this.enabled || SpongeImpl.getGame().getPlatform().getExecutionType().isClient() || WorldTickScheduler.isWorldTickThread()) {
             return this;
         }
 
@@ -120,7 +122,7 @@ public TimingHandler startTiming() {
 
     @Override
     public void stopTiming() {
-        if (!this.enabled || SpongeImpl.getGame().getPlatform().getExecutionType().isClient()) {
+        if (!this.enabled || SpongeImpl.getGame().getPlatform().getExecutionType().isClient() || WorldTickScheduler.isWorldTickThread()) {
             return;
         }
 
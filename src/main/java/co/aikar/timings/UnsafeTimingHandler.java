@@ -25,6 +25,7 @@
 package co.aikar.timings;
 
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.world.WorldTickScheduler;
 
 class UnsafeTimingHandler extends TimingHandler {
 
@@ -33,7 +34,8 @@ class UnsafeTimingHandler extends TimingHandler {
     }
 
     private static void checkThread() {
-        if (!SpongeImpl.getServer().isCallingFromMinecraftThread()) {
+        // World tick threads are allowed, timings are simply not recorded on them
+        if (!SpongeImpl.getServer().isCallingFromMinecraftThread() && !WorldTickScheduler.isWorldTickThread()) {
             throw new IllegalStateException("Calling Timings from Async Operation");
         }
     }
@@ -85,7 +85,7 @@ public class SpongeBlockSnapshot implements BlockSnapshot {
     private final BlockState blockState;
     private final BlockState extendedState;
     private final UUID worldUniqueId;
-    private final Vector3i pos;
+    @Nullable private Vector3i pos;
     private final ImmutableList<ImmutableDataManipulator<?, ?>> extraData;
     private ImmutableMap<Key<?>, ImmutableValue<?>> keyValueMap;
     private ImmutableSet<ImmutableValue<?>> valueSet;
@@ -116,22 +116,35 @@ public SpongeBlockSnapshot(SpongeBlockSnapshotBuilder builder) {
         this.notifierUniqueId = builder.notifierUuid;
         this.pos = checkNotNull(builder.coords);
         this.blockPos = VecHelper.toBlockPos(this.pos);
-
-        // This avoids cross contamination of block state based values versus tile entity values.
-        // TODO - delegate this to NbtProcessors when schematics are merged.
-        final ImmutableMap.Builder<Key<?>, ImmutableValue<?>> tileBuilder = ImmutableMap.builder();
+        // The tile key/value maps are built on first access, see getTileMap()
         this.extraData = builder.manipulators == null ? ImmutableList.<ImmutableDataManipulator<?, ?>>of() : ImmutableList.copyOf(builder.manipulators);
-        for (ImmutableDataManipulator<?, ?> manipulator : this.extraData) {
-            for (ImmutableValue<?> value : manipulator.getValues()) {
-                tileBuilder.put(value.getKey(), value);
-            }
-        }
-        this.keyValueMap = tileBuilder.build();
-        this.valueSet = this.keyValueMap.isEmpty() ? ImmutableSet.of() : ImmutableSet.copyOf(this.keyValueMap.values());
         this.compound = builder.compound == null ? null : builder.compound.copy();
         this.changeFlag = BlockChangeFlag.ALL;
     }
 
+    /**
+     * Internal use for block captures. Most captured snapshots are only ever
+     * used to restore or compare the original block, so this skips the shared
+     * builder, keeps the {@link BlockPos} as is and defers building the
+     * {@link Vector3i} position and value maps until they are requested.
+     *
+     * <p>Ownership of the passed compound is taken over by the snapshot, it
+     * is not copied again.</p>
+     */
+    public SpongeBlockSnapshot(IBlockState state, IBlockState extendedState, UUID worldUniqueId, BlockPos pos, @Nullable UUID creatorUniqueId,
+            @Nullable UUID notifierUniqueId, List<ImmutableDataManipulator<?, ?>> extraData, @Nullable NBTTagCompound compound, int updateFlag) {
+        this.blockState = (BlockState) state;
+        this.extendedState = (BlockState) extendedState;
+        this.worldUniqueId = worldUniqueId;
+        this.blockPos = pos.toImmutable();
+        this.creatorUniqueId = creatorUniqueId;
+        this.notifierUniqueId = notifierUniqueId;
+        this.extraData = extraData.isEmpty() ? ImmutableList.<ImmutableDataManipulator<?, ?>>of() : ImmutableList.copyOf(extraData);
+        this.compound = compound;
+        this.updateFlag = updateFlag;
+        this.changeFlag = BlockChangeFlag.ALL.setUpdateNeighbors((updateFlag & 1) != 0);
+    }
+
     @Override
     public BlockState getState() {
         return this.blockState;
@@ -167,6 +180,9 @@ public UUID getWorldUniqueId() {
 
     @Override
     public Vector3i getPosition() {
+        if (this.pos == null) {
+            this.pos = VecHelper.toVector3i(this.blockPos);
+        }
         return this.pos;
     }
 
@@ -188,7 +204,7 @@ public boolean restore(boolean force, BlockChangeFlag flag) {
                             .complete());
         }
 
-        BlockPos pos = VecHelper.toBlockPos(this.pos);
+        BlockPos pos = this.blockPos;
         IBlockState current = world.getBlockState(pos);
         IBlockState replaced = (IBlockState) this.blockState;
         if (!force && (current.getBlock() != replaced.getBlock() || current.getBlock().getMetaFromState(current) != replaced.getBlock().getMetaFromState(replaced))) {
@@ -248,9 +264,9 @@ public DataContainer toContainer() {
             .set(Queries.CONTENT_VERSION, getContentVersion())
             .set(Queries.WORLD_ID, this.worldUniqueId.toString())
             .createView(DataQueries.SNAPSHOT_WORLD_POSITION)
-                .set(Queries.POSITION_X, this.pos.getX())
-                .set(Queries.POSITION_Y, this.pos.getY())
-                .set(Queries.POSITION_Z, this.pos.getZ())
+                .set(Queries.POSITION_X, this.blockPos.getX())
+                .set(Queries.POSITION_Y, this.blockPos.getY())
+                .set(Queries.POSITION_Z, this.blockPos.getZ())
             .getContainer()
             .set(DataQueries.BLOCK_STATE, this.blockState);
 
@@ -377,7 +393,7 @@ public BlockSnapshot merge(BlockSnapshot that, MergeFunction function) {
 
     @Override
     public <E> Optional<E> get(Key<? extends BaseValue<E>> key) {
-        if (this.keyValueMap.containsKey(key)) {
+        if (getTileMap().containsKey(key)) {
             return Optional.of((E) this.keyValueMap.get(key).get());
         } else if (getKeyValueMap().containsKey(key)) {
             return Optional.of((E) this.blockKeyValueMap.get(key).get());
@@ -412,6 +428,8 @@ private ImmutableSet<ImmutableValue<?>> getTileValueSet() {
 
     private ImmutableMap<Key<?>, ImmutableValue<?>> getTileMap() {
         if (this.keyValueMap == null) {
+            // This avoids cross contamination of block state based values versus tile entity values.
+            // TODO - delegate this to NbtProcessors when schematics are merged.
             final ImmutableMap.Builder<Key<?>, ImmutableValue<?>> tileBuilder = ImmutableMap.builder();
             for (ImmutableDataManipulator<?, ?> manipulator : this.extraData) {
                 for (ImmutableValue<?> value : manipulator.getValues()) {
@@ -433,7 +451,7 @@ private ImmutableMap<Key<?>, ImmutableValue<?>> getTileMap() {
 
     @Override
     public <E, V extends BaseValue<E>> Optional<V> getValue(Key<V> key) {
-        if (this.keyValueMap.containsKey(key)) {
+        if (getTileMap().containsKey(key)) {
             return Optional.of((V) this.keyValueMap.get(key).asMutable());
         } else if (getKeyValueMap().containsKey(key)) {
             return Optional.of((V) this.blockKeyValueMap.get(key).asMutable());
@@ -444,7 +462,7 @@ public <E, V extends BaseValue<E>> Optional<V> getValue(Key<V> key) {
     @Override
     public boolean supports(Key<?> key) {
         checkNotNull(key, "Key");
-        return this.keyValueMap.containsKey(key) || getKeyValueMap().containsKey(key);
+        return getTileMap().containsKey(key) || getKeyValueMap().containsKey(key);
     }
 
     @Override
@@ -479,7 +497,7 @@ public SpongeBlockSnapshotBuilder createBuilder() {
         final SpongeBlockSnapshotBuilder builder = new SpongeBlockSnapshotBuilder();
         builder.blockState(this.blockState)
             .extendedState(this.extendedState)
-            .position(this.pos)
+            .position(this.getPosition())
             .worldId(this.worldUniqueId);
         for (ImmutableDataManipulator<?, ?> manipulator : this.extraData) {
             builder.add((ImmutableDataManipulator) manipulator);
@@ -508,7 +526,7 @@ public BlockPos getBlockPos() {
     public String toString() {
         return Objects.toStringHelper(this)
                 .add("worldUniqueId", this.worldUniqueId)
-                .add("position", this.pos)
+                .add("position", this.getPosition())
                 .add("blockState", this.blockState)
                 .add("extendedState", this.extendedState)
                 .toString();
@@ -560,7 +578,7 @@ public boolean equals(Object o) {
         return this.changeFlag == that.changeFlag &&
                Objects.equal(this.extendedState, that.extendedState) &&
                Objects.equal(this.worldUniqueId, that.worldUniqueId) &&
-               Objects.equal(this.pos, that.pos) &&
+               Objects.equal(this.blockPos, that.blockPos) &&
                Objects.equal(this.extraData, that.extraData) &&
                Objects.equal(this.compound, that.compound);
     }
@@ -570,7 +588,7 @@ public int hashCode() {
         return Objects
             .hashCode(this.extendedState,
                 this.worldUniqueId,
-                this.pos,
+                this.blockPos,
                 this.extraData,
                 this.changeFlag,
                 this.compound);
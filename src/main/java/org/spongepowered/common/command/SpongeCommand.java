@@ -79,24 +79,44 @@
 import org.spongepowered.common.config.type.GlobalConfig;
 import org.spongepowered.common.config.type.WorldConfig;
 import org.spongepowered.common.entity.EntityUtil;
+import org.spongepowered.common.event.SkippedEvents;
+import org.spongepowered.common.event.tracking.CaptureElision;
+import org.spongepowered.common.event.tracking.PhaseProfiler;
 import org.spongepowered.common.interfaces.IMixinChunk;
 import org.spongepowered.common.interfaces.IMixinMinecraftServer;
 import org.spongepowered.common.interfaces.entity.IMixinEntity;
 import org.spongepowered.common.interfaces.world.IMixinDimensionType;
 import org.spongepowered.common.interfaces.world.IMixinWorldInfo;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+import org.spongepowered.common.scheduler.TaskStatistics;
 import org.spongepowered.common.util.SpongeHooks;
+import org.spongepowered.common.world.ChunkGarbageCollector;
 import org.spongepowered.common.world.WorldManager;
+import org.spongepowered.common.world.WorldTickScheduler;
+import org.spongepowered.common.world.lighting.LightingEngine;
+import org.spongepowered.common.world.storage.ChunkSaveQueue;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.text.DecimalFormat;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.function.Function;
 
+import javax.annotation.Nullable;
+
 @NonnullByDefault
 public class SpongeCommand {
     static final String INDENT = "    ";
@@ -125,6 +145,10 @@ public static CommandSpec getCommand() {
         nonFlagChildren.register(getPluginsCommand(), "plugins");
         nonFlagChildren.register(getTimingsCommand(), "timings");
         nonFlagChildren.register(getWhichCommand(), "which");
+        nonFlagChildren.register(getTasksCommand(), "tasks");
+        nonFlagChildren.register(getCapturesCommand(), "captures");
+        nonFlagChildren.register(getEventsCommand(), "events");
+        nonFlagChildren.register(getTrackerCommand(), "tracker");
         flagChildren.register(getChunksCommand(), "chunks");
         flagChildren.register(getConfigCommand(), "config");
         flagChildren.register(getReloadCommand(), "reload"); // TODO: Should these two be subcommands of config, and what is now config be set?
@@ -142,6 +166,10 @@ INDENT, title("version"), LONG_INDENT, "Prints current Sponge version\n",
                         INDENT, title("audit"), LONG_INDENT, "Audit mixin classes for implementation\n",
                         INDENT, title("plugins"), LONG_INDENT, "List currently installed plugins\n",
                         INDENT, title("which"), LONG_INDENT, "List plugins that own a specific command\n",
+                        INDENT, title("tasks"), LONG_INDENT, "Prints scheduled task counts and execution times by plugin\n",
+                        INDENT, title("captures"), LONG_INDENT, "Prints performed and skipped captures by tracker phase\n",
+                        INDENT, title("events"), LONG_INDENT, "Prints events skipped because nothing listened to them\n",
+                        INDENT, title("tracker"), LONG_INDENT, "Profiles cause tracker phases and exports flame graph stacks\n",
                         INDENT, title("tps"), LONG_INDENT, "Provides TPS (ticks per second) data for loaded worlds"))
                 .arguments(firstParsing(nonFlagChildren, flags()
                         .flag("-global", "g")
@@ -240,6 +268,12 @@ protected Text processGlobal(SpongeConfig<GlobalConfig> config, CommandSource so
                             source.sendMessage(Text.of("World ", Text.of(TextStyles.BOLD, world.getName()),
                                     getChunksInfo(((WorldServer) world))));
                         }
+                        final ChunkSaveQueue saveQueue = ChunkSaveQueue.getInstance();
+                        source.sendMessage(Text.of("Chunk saving", NEWLINE_TEXT,
+                                key("Save threads: "), value(saveQueue.getThreadCount()), NEWLINE_TEXT,
+                                key("Queued chunks: "), value(saveQueue.getQueueDepth() + "/" + saveQueue.getMaxBacklog()), NEWLINE_TEXT,
+                                key("Written chunks: "), value(saveQueue.getChunksWritten()), NEWLINE_TEXT,
+                                key("Write rate: "), value(THREE_DECIMAL_DIGITS_FORMATTER.format(saveQueue.getBytesPerSecond() / 1024) + " KB/s")));
                         return Text.of("Printed chunk info for all worlds ");
                     }
 
@@ -268,15 +302,35 @@ protected Text value(Object text) {
                     }
 
                     protected Text getChunksInfo(WorldServer worldserver) {
+                        final ChunkGarbageCollector chunkGC = ((IMixinWorldServer) worldserver).getChunkGC();
                         return Text.of(NEWLINE_TEXT, key("DimensionId: "), value(WorldManager.getDimensionId(worldserver)), NEWLINE_TEXT,
                                 key("Loaded chunks: "), value(worldserver.getChunkProvider().getLoadedChunkCount()), NEWLINE_TEXT,
                                 key("Active chunks: "), value(worldserver.getChunkProvider().getLoadedChunks().size()), NEWLINE_TEXT,
                                 key("Entities: "), value(worldserver.loadedEntityList.size()), NEWLINE_TEXT,
                                 key("Tile Entities: "), value(worldserver.loadedTileEntityList.size()), NEWLINE_TEXT,
                                 key("Removed Entities:"), value(worldserver.unloadedEntityList.size()), NEWLINE_TEXT,
-                                key("Removed Tile Entities: "), value(worldserver.tileEntitiesToBeRemoved), NEWLINE_TEXT
+                                key("Removed Tile Entities: "), value(worldserver.tileEntitiesToBeRemoved), NEWLINE_TEXT,
+                                key("GC candidates: "), value(chunkGC.getCandidateCount()), NEWLINE_TEXT,
+                                key("Last GC pass: "), value(chunkGC.getLastPassChecked() + " checked, " + chunkGC.getLastPassLeaked() + " queued in "
+                                        + THREE_DECIMAL_DIGITS_FORMATTER.format(chunkGC.getLastPassTime() / 1000000.0) + " ms"), NEWLINE_TEXT,
+                                key("GC queued total: "), value(chunkGC.getTotalLeaked()), NEWLINE_TEXT,
+                                getLightingInfo(worldserver)
                         );
                     }
+
+                    protected Text getLightingInfo(WorldServer worldserver) {
+                        if (!SpongeImpl.getGlobalConfig().getConfig().getModules().useOptimizations()
+                                || !SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useAsyncLighting()) {
+                            return Text.of();
+                        }
+                        final LightingEngine lightingEngine = ((IMixinWorldServer) worldserver).getLightingEngine();
+                        return Text.of(key("Queued light updates: "), value(lightingEngine.getQueuedUpdates() + " in "
+                                        + lightingEngine.getQueuedChunks() + " chunks"), NEWLINE_TEXT,
+                                key("Processed light updates: "), value(lightingEngine.getProcessedUpdates()), NEWLINE_TEXT,
+                                key("Light latency: "), value(THREE_DECIMAL_DIGITS_FORMATTER.format(lightingEngine.getAverageLatency() / 1000000.0)
+                                        + " ms (max " + THREE_DECIMAL_DIGITS_FORMATTER.format(lightingEngine.getMaxLatency() / 1000000.0) + " ms)"),
+                                NEWLINE_TEXT);
+                    }
                 })
                 .build();
     }
@@ -623,6 +677,144 @@ private static CommandSpec getWhichCommand() {
                 .build();
     }
 
+    private static CommandSpec getTasksCommand() {
+        return CommandSpec.builder()
+                .permission("sponge.command.tasks")
+                .description(Text.of("Prints scheduled task counts and execution times by plugin."))
+                .executor((src, args) -> {
+                    final Map<String, TaskStatistics> syncStatistics = SpongeImpl.getScheduler().getTaskStatistics(false);
+                    final Map<String, TaskStatistics> asyncStatistics = SpongeImpl.getScheduler().getTaskStatistics(true);
+                    final Set<String> pluginIds = new TreeSet<>(syncStatistics.keySet());
+                    pluginIds.addAll(asyncStatistics.keySet());
+                    if (pluginIds.isEmpty()) {
+                        src.sendMessage(Text.of("No tasks have been scheduled."));
+                    }
+                    for (String pluginId : pluginIds) {
+                        src.sendMessage(Text.of("Plugin [", TextColors.DARK_GREEN, pluginId, TextColors.RESET, "]"));
+                        printTaskStatistics(src, "Sync", syncStatistics.get(pluginId));
+                        printTaskStatistics(src, "Async", asyncStatistics.get(pluginId));
+                    }
+                    return CommandResult.success();
+                })
+                .build();
+    }
+
+    private static CommandSpec getCapturesCommand() {
+        return CommandSpec.builder()
+                .permission("sponge.command.captures")
+                .description(Text.of("Prints how many captures were performed and skipped by tracker phase."))
+                .executor((src, args) -> {
+                    final Map<String, CaptureElision.Counts> statistics = new TreeMap<>();
+                    CaptureElision.getStatistics().forEach((state, counts) -> statistics.put(state.toString(), counts));
+                    if (statistics.isEmpty()) {
+                        src.sendMessage(Text.of("No captures have been recorded."));
+                    }
+                    statistics.forEach((state, counts) -> src.sendMessage(Text.of(TextColors.DARK_GREEN, state, TextColors.RESET, ": ",
+                            TextColors.LIGHT_PURPLE, counts.getPerformed(), TextColors.RESET, " captured, ",
+                            TextColors.LIGHT_PURPLE, counts.getSkipped(), TextColors.RESET, " skipped")));
+                    return CommandResult.success();
+                })
+                .build();
+    }
+
+    private static CommandSpec getEventsCommand() {
+        return CommandSpec.builder()
+                .permission("sponge.command.events")
+                .description(Text.of("Prints how many events were never constructed because nothing listened to them."))
+                .executor((src, args) -> {
+                    final Map<String, Long> counts = new TreeMap<>();
+                    SkippedEvents.getCounts().forEach((eventClass, count) -> {
+                        final String name = eventClass.getName();
+                        counts.put(name.substring(name.lastIndexOf('.') + 1).replace('$', '.'), count);
+                    });
+                    if (counts.isEmpty()) {
+                        src.sendMessage(Text.of("No events have been skipped."));
+                    }
+                    counts.forEach((event, count) -> src.sendMessage(Text.of(TextColors.DARK_GREEN, event, TextColors.RESET, ": ",
+                            TextColors.LIGHT_PURPLE, count, TextColors.RESET, " skipped")));
+                    return CommandResult.success();
+                })
+                .build();
+    }
+
+    private static CommandCallable getTrackerCommand() {
+        return CommandSpec.builder()
+                .permission("sponge.command.tracker")
+                .description(Text.of("Profiles the time spent in each cause tracker phase."))
+                .child(CommandSpec.builder()
+                        .executor((src, args) -> {
+                            PhaseProfiler.setEnabled(true);
+                            src.sendMessage(Text.of("Enabled tracker profiling & reset"));
+                            return CommandResult.success();
+                        })
+                        .build(), "on")
+                .child(CommandSpec.builder()
+                        .executor((src, args) -> {
+                            PhaseProfiler.setEnabled(false);
+                            src.sendMessage(Text.of("Disabled tracker profiling"));
+                            return CommandResult.success();
+                        })
+                        .build(), "off")
+                .child(CommandSpec.builder()
+                        .executor((src, args) -> {
+                            PhaseProfiler.reset();
+                            src.sendMessage(Text.of("Tracker profiling reset"));
+                            return CommandResult.success();
+                        })
+                        .build(), "reset")
+                .child(CommandSpec.builder()
+                        .executor((src, args) -> {
+                            final List<PhaseProfiler.Node> nodes = PhaseProfiler.getNodes();
+                            if (nodes.isEmpty()) {
+                                src.sendMessage(Text.of("Nothing has been recorded, enable profiling by typing /sponge tracker on"));
+                                return CommandResult.empty();
+                            }
+                            nodes.sort(Comparator.comparingLong(PhaseProfiler.Node::getSelfTime).reversed());
+                            src.sendMessage(Text.of("Phases by self time over the last ",
+                                    THREE_DECIMAL_DIGITS_FORMATTER.format(PhaseProfiler.getRecordingTime() * 1.0e-9d), "s:"));
+                            for (PhaseProfiler.Node node : nodes.subList(0, Math.min(10, nodes.size()))) {
+                                final long count = node.getCount();
+                                src.sendMessage(Text.of(TextColors.DARK_GREEN, node.getPath()));
+                                src.sendMessage(Text.of(INDENT, TextColors.LIGHT_PURPLE, count, TextColors.RESET, " runs, Self: ", TextColors.RED,
+                                        THREE_DECIMAL_DIGITS_FORMATTER.format(node.getSelfTime() * 1.0e-6d), "ms", TextColors.RESET, ", Mean: ",
+                                        TextColors.RED, THREE_DECIMAL_DIGITS_FORMATTER.format(count == 0 ? 0 : node.getTotalTime() * 1.0e-6d / count), "ms",
+                                        TextColors.RESET, ", 99th percentile: < ", TextColors.RED,
+                                        THREE_DECIMAL_DIGITS_FORMATTER.format(node.getPercentile(0.99d) * 1.0e-3d), "ms", TextColors.RESET, ", Unwind: ",
+                                        TextColors.RED, THREE_DECIMAL_DIGITS_FORMATTER.format(node.getUnwindTime() * 1.0e-6d), "ms", TextColors.RESET,
+                                        ", Captures: ", TextColors.LIGHT_PURPLE, node.getCaptures()));
+                            }
+                            return CommandResult.success();
+                        })
+                        .build(), "report")
+                .child(CommandSpec.builder()
+                        .executor((src, args) -> {
+                            final File file = new File(new File(new File("."), "dumps"),
+                                    "tracker-" + DateTimeFormatter.ofPattern("yyyy-MM-dd_HH.mm.ss").format(LocalDateTime.now()) + ".folded");
+                            file.getParentFile().mkdirs();
+                            try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+                                PhaseProfiler.writeCollapsedStacks(writer);
+                            } catch (IOException e) {
+                                throw new CommandException(Text.of("Could not write tracker stacks to ", file), e);
+                            }
+                            src.sendMessage(Text.of("Wrote collapsed tracker stacks to: ", file));
+                            return CommandResult.success();
+                        })
+                        .build(), "export")
+                .build();
+    }
+
+    private static void printTaskStatistics(CommandSource src, String type, @Nullable TaskStatistics statistics) {
+        if (statistics == null) {
+            return;
+        }
+        final long executions = statistics.getExecutions();
+        final double meanTime = executions == 0 ? 0 : statistics.getTotalTime() * 1.0e-6d / executions;
+        src.sendMessage(Text.of(INDENT, type, ": ", TextColors.LIGHT_PURPLE, statistics.getScheduledTasks(), TextColors.RESET,
+                " scheduled, ", TextColors.LIGHT_PURPLE, executions, TextColors.RESET, " runs, Mean: ", TextColors.RED,
+                THREE_DECIMAL_DIGITS_FORMATTER.format(meanTime), "ms", TextColors.RESET, ", 99th percentile: < ", TextColors.RED,
+                THREE_DECIMAL_DIGITS_FORMATTER.format(statistics.getPercentile(0.99d) * 1.0e-3d), "ms"));
+    }
+
     private static CommandSpec getTpsCommand() {
         return CommandSpec.builder()
                 .permission("sponge.command.tps")
@@ -646,6 +838,10 @@ private static CommandSpec getTpsCommand() {
                             THREE_DECIMAL_DIGITS_FORMATTER.format(Math.min(1000.0 / (serverMeanTickTime), 20)),
                             TextColors.RESET, ", Mean: ", TextColors.RED, THREE_DECIMAL_DIGITS_FORMATTER.
                                     format(serverMeanTickTime), "ms"));
+                    if (SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useParallelWorldTicking()) {
+                        src.sendMessage(Text.of("Parallel world tick speedup: ", TextColors.LIGHT_PURPLE,
+                                THREE_DECIMAL_DIGITS_FORMATTER.format(WorldTickScheduler.getInstance().getParallelSpeedup()), "x"));
+                    }
                     return CommandResult.success();
                 })
                 .build();
@@ -660,6 +856,11 @@ private static void printWorldTickTime(CommandSource src, World world) {
                 ((IMixinWorldServer) world).getDimensionId(), ") TPS: ", TextColors.LIGHT_PURPLE,
                 THREE_DECIMAL_DIGITS_FORMATTER.format(worldTps), TextColors.RESET,  ", Mean: ", TextColors.RED,
                 THREE_DECIMAL_DIGITS_FORMATTER.format(worldMeanTickTime), "ms"));
+        final long[] parallelTickTimes = WorldTickScheduler.getInstance().getWorldTickTimes(((IMixinWorldServer) world).getDimensionId());
+        if (parallelTickTimes != null) {
+            src.sendMessage(Text.of(INDENT, "Parallel tick mean: ", TextColors.RED,
+                    THREE_DECIMAL_DIGITS_FORMATTER.format(mean(parallelTickTimes) * 1.0e-6d), "ms"));
+        }
     }
 
     private static Long mean(long[] values) {
@@ -51,6 +51,11 @@ public class CauseTrackerCategory extends ConfigCategory {
                                                                  + "than what is expected.")
     boolean reportWorldTickDifferentWorlds = false;
 
+    @Setting(value = "capture-elision", comment = "If true, phases that only capture block changes and entity spawns\n"
+                                                  + "to throw events will apply them directly when no plugin listens\n"
+                                                  + "for those events. Disable if a mod relies on the captures.")
+    boolean elideCaptures = true;
+
     public boolean isVerbose() {
         return this.isVerbose;
     }
@@ -67,6 +72,10 @@ public boolean reportWorldTickDifferences() {
         return this.reportWorldTickDifferentWorlds;
     }
 
+    public boolean elideCaptures() {
+        return this.elideCaptures;
+    }
+
     public void setReportWorldTickDifferentWorlds(boolean reportWorldTickDifferentWorlds) {
         this.reportWorldTickDifferentWorlds = reportWorldTickDifferentWorlds;
     }
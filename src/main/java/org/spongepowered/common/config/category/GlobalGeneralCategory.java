@@ -33,6 +33,14 @@ public class GlobalGeneralCategory extends GeneralCategory {
     @Setting(value = "file-io-thread-sleep", comment = "Enabled sleeping between chunk saves, beware of memory issues")
     private boolean fileIOThreadSleep = false;
 
+    @Setting(value = "chunk-save-threads", comment = "The number of threads used to write chunks to region files. Saves to the same region file\n"
+            + "always use the same thread. Set to 0 to use half of the available processors.")
+    private int chunkSaveThreads = 0;
+
+    @Setting(value = "chunk-save-backlog", comment = "The maximum number of distinct chunks waiting to be written. Once reached, saving\n"
+            + "more chunks waits for the writer threads to catch up.")
+    private int chunkSaveBacklog = 20000;
+
     public GlobalGeneralCategory() {
         
     }
@@ -40,4 +48,12 @@ public GlobalGeneralCategory() {
     public boolean getFileIOThreadSleep() {
         return this.fileIOThreadSleep;
     }
+
+    public int getChunkSaveThreads() {
+        return this.chunkSaveThreads;
+    }
+
+    public int getChunkSaveBacklog() {
+        return this.chunkSaveBacklog;
+    }
 }
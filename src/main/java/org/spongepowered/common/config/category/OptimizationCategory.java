@@ -53,6 +53,24 @@ public class OptimizationCategory extends ConfigCategory {
     @Setting(value = "async-lighting", comment = "Runs lighting updates async.")
     private boolean asyncLighting = true;
 
+    @Setting(value = "async-lighting-threads", comment = "The number of threads each world uses for async lighting.\n"
+            + "Light updates in distant parts of a world run in parallel, updates in the same area never do.")
+    private int asyncLightingThreads = 2;
+
+    @Setting(value = "async-chunk-serialization", comment = "If enabled, chunk sections are copied on the server thread when saving and\n"
+            + "encoded to NBT on worker threads. Entities and tile entities are still written on the server thread.\n"
+            + "Mods reading section data in chunk save events will see it before it is encoded.")
+    private boolean asyncChunkSerialization = false;
+
+    @Setting(value = "parallel-world-ticking", comment = "Ticks independent worlds concurrently instead of one after another.")
+    private ParallelWorldTickingCategory parallelWorldTickingCategory = new ParallelWorldTickingCategory();
+
+    @Setting(value = "parallel-block-workers", comment = "If enabled, block workers reduce large block buffers on the common fork-join pool,\n"
+            + "one slab of the volume per task. Every slab starts from the same identity, so only reductions with an\n"
+            + "immutable identity (a number, string or block state) are split up, all others stay on the calling thread.\n"
+            + "The reducers and merge functions passed by plugins must be thread safe.")
+    private boolean parallelBlockWorkers = false;
+
     public StructureSaveCategory getStructureSaveCategory() {
         return this.structureSaveCategory;
     }
@@ -72,4 +90,24 @@ public boolean useCacheTameableOwners() {
     public boolean useAsyncLighting() {
         return this.asyncLighting;
     }
+
+    public int getAsyncLightingThreads() {
+        return this.asyncLightingThreads;
+    }
+
+    public boolean useAsyncChunkSerialization() {
+        return this.asyncChunkSerialization;
+    }
+
+    public ParallelWorldTickingCategory getParallelWorldTickingCategory() {
+        return this.parallelWorldTickingCategory;
+    }
+
+    public boolean useParallelWorldTicking() {
+        return this.parallelWorldTickingCategory.isEnabled();
+    }
+
+    public boolean useParallelBlockWorkers() {
+        return this.parallelBlockWorkers;
+    }
 }
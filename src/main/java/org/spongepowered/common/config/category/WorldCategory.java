@@ -85,6 +85,11 @@ public class WorldCategory extends ConfigCategory {
                                                           + "\nDisabled by default.")
     private int chunkGCLoadThreshold = 0;
 
+    @Setting(value = "chunk-gc-tick-budget", comment = "The maximum number of milliseconds the chunk gc may spend in a single tick. "
+                                                       + "\nA gc pass that does not finish in time continues on the next tick. "
+                                                       + "\nSet to 0 to always finish a pass in one tick. (Default: 2)")
+    private int chunkGCTickBudget = 2;
+
     @Setting(value = "chunk-unload-delay", comment = "The number of seconds to delay a chunk unload once marked inactive. (Default: 15)"
                                                      + "\nNote: This gets reset if the chunk becomes active again.")
     private int chunkUnloadDelay = 15;
@@ -201,6 +206,10 @@ public int getChunkLoadThreadhold() {
         return this.chunkGCLoadThreshold;
     }
 
+    public int getChunkGCTickBudget() {
+        return this.chunkGCTickBudget;
+    }
+
     public int getMaxChunkUnloads() {
         return this.maxChunkUnloads;
     }
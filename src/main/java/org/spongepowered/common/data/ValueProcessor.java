@@ -139,6 +139,17 @@
      */
     boolean supports(ValueContainer<?> container);
 
+    /**
+     * Gets whether {@link #supports(ValueContainer)} only depends on the
+     * class of the {@link ValueContainer}. If it does, the result for one
+     * container is reused for every other container of the same class.
+     *
+     * @return True if support is determined by the container class
+     */
+    default boolean isSupportDeterminedByClass() {
+        return false;
+    }
+
     /**
      * Offers the provided {@link BaseValue} containing a value of the
      * appropriate value type of this {@link ValueProcessor} to offer
@@ -47,10 +47,12 @@
         extends AbstractSingleDataProcessor<T, V, M, I> implements ValueProcessor<T, V> {
 
     protected final Class<Holder> holderClass;
+    private final boolean supportDeterminedByClass;
 
     protected AbstractSingleDataSingleTargetProcessor(Key<V> key, Class<Holder> holderClass) {
         super(key);
         this.holderClass = checkNotNull(holderClass);
+        this.supportDeterminedByClass = !DataUtil.overridesSupports(getClass(), AbstractSingleDataSingleTargetProcessor.class);
     }
 
     protected boolean supports(Holder dataHolder) {
@@ -154,6 +156,11 @@ public final boolean supports(ValueContainer<?> container) {
         return this.holderClass.isInstance(container) && supports((Holder) container);
     }
 
+    @Override
+    public boolean isSupportDeterminedByClass() {
+        return this.supportDeterminedByClass;
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public final Optional<T> getValueFromContainer(ValueContainer<?> container) {
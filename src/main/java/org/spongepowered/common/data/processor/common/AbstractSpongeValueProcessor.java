@@ -34,6 +34,7 @@
 import org.spongepowered.api.data.value.mutable.Value;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.data.ValueProcessor;
+import org.spongepowered.common.data.util.DataUtil;
 
 import java.util.Optional;
 
@@ -41,10 +42,12 @@
 
     private final Class<C> containerClass;
     protected final Key<V> key;
+    private final boolean supportDeterminedByClass;
 
     protected AbstractSpongeValueProcessor(Class<C> containerClass, Key<V> key) {
         this.key = checkNotNull(key, "The key is null!");
         this.containerClass = containerClass;
+        this.supportDeterminedByClass = !DataUtil.overridesSupports(getClass(), AbstractSpongeValueProcessor.class);
     }
 
     /**
@@ -72,6 +75,11 @@ public boolean supports(ValueContainer<?> container) {
         return this.containerClass.isInstance(container) && supports((C) container);
     }
 
+    @Override
+    public boolean isSupportDeterminedByClass() {
+        return this.supportDeterminedByClass;
+    }
+
 
     @Override
     public final Key<? extends BaseValue<E>> getKey() {
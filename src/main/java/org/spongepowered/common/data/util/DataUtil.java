@@ -64,6 +64,7 @@
 import org.spongepowered.common.data.persistence.SerializedDataTransaction;
 import org.spongepowered.common.data.processor.common.AbstractSingleDataSingleTargetProcessor;
 
+import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.Collection;
 import java.util.List;
@@ -392,6 +393,26 @@ public static <E, V extends BaseValue<E>> Optional<ValueProcessor<E, V>> getValu
         return Optional.ofNullable((ValueProcessor<E, ? extends BaseValue<E>>) SpongeManipulatorRegistry.getInstance().getDelegate(key));
     }
 
+    /**
+     * Gets whether a class between the processor class and the given base
+     * class declares a {@code supports} method. If one does, support may
+     * depend on the state of a holder and not only on its class.
+     *
+     * @param processorClass The processor class
+     * @param baseClass The base class declaring the default support check
+     * @return True if the support check is overridden
+     */
+    public static boolean overridesSupports(Class<?> processorClass, Class<?> baseClass) {
+        for (Class<?> clazz = processorClass; clazz != null && clazz != baseClass; clazz = clazz.getSuperclass()) {
+            for (Method method : clazz.getDeclaredMethods()) {
+                if (method.getName().equals("supports") && method.getParameterCount() == 1) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     public static RawDataValidator getValidators(ValidationType validationType) {
 
         return new DelegateDataValidator(ImmutableList.of(), validationType);
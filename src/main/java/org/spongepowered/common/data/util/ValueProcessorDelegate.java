@@ -33,12 +33,21 @@
 import org.spongepowered.api.data.value.mutable.Value;
 import org.spongepowered.common.data.ValueProcessor;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * This is really just a lazy class to handle processing on multiple
  * {@link ValueProcessor} registrations.
  *
+ * <p>The processors that can handle a container are resolved once per
+ * container class. Processors whose support is determined by the class
+ * are then either always used or dropped, only the others are still asked
+ * whether they support each container. Delegates are rebuilt whenever the
+ * registrations are baked, which discards these resolutions.</p>
+ *
  * @param <E>
  * @param <V>
  */
@@ -46,6 +55,7 @@
 
     private final Key<V> key;
     private final ImmutableList<ValueProcessor<E, V>> processors;
+    private final Map<Class<?>, Candidates<E, V>> candidates = new ConcurrentHashMap<>();
 
     public ValueProcessorDelegate(Key<V> key, ImmutableList<ValueProcessor<E, V>> processors) {
         this.key = key;
@@ -64,8 +74,10 @@ public int getPriority() {
 
     @Override
     public Optional<E> getValueFromContainer(ValueContainer<?> container) {
-        for (ValueProcessor<E, V> processor : this.processors) {
-            if (processor.supports(container)) {
+        final Candidates<E, V> candidates = getCandidates(container);
+        for (int i = 0; i < candidates.processors.size(); i++) {
+            final ValueProcessor<E, V> processor = candidates.processors.get(i);
+            if (candidates.supports(i, container)) {
                 final Optional<E> optional = processor.getValueFromContainer(container);
                 if (optional.isPresent()) {
                     return optional;
@@ -77,8 +89,10 @@ public Optional<E> getValueFromContainer(ValueContainer<?> container) {
 
     @Override
     public Optional<V> getApiValueFromContainer(ValueContainer<?> container) {
-        for (ValueProcessor<E, V> processor : this.processors) {
-            if (processor.supports(container)) {
+        final Candidates<E, V> candidates = getCandidates(container);
+        for (int i = 0; i < candidates.processors.size(); i++) {
+            final ValueProcessor<E, V> processor = candidates.processors.get(i);
+            if (candidates.supports(i, container)) {
                 final Optional<V> optional = processor.getApiValueFromContainer(container);
                 if (optional.isPresent()) {
                     return optional;
@@ -90,8 +104,9 @@ public Optional<V> getApiValueFromContainer(ValueContainer<?> container) {
 
     @Override
     public boolean supports(ValueContainer<?> container) {
-        for (ValueProcessor<E, V> processor : this.processors) {
-            if (processor.supports(container)) {
+        final Candidates<E, V> candidates = getCandidates(container);
+        for (int i = 0; i < candidates.processors.size(); i++) {
+            if (candidates.supports(i, container)) {
                 return true;
             }
         }
@@ -101,16 +116,19 @@ public boolean supports(ValueContainer<?> container) {
     @SuppressWarnings("unchecked")
     @Override
     public DataTransactionResult offerToStore(ValueContainer<?> container, E value) {
-        for (ValueProcessor<E, V> processor : this.processors) {
-            if (processor.supports(container)) {
+        final Candidates<E, V> candidates = getCandidates(container);
+        for (int i = 0; i < candidates.processors.size(); i++) {
+            final ValueProcessor<E, V> processor = candidates.processors.get(i);
+            if (candidates.supports(i, container)) {
                 final DataTransactionResult result = processor.offerToStore(container, value);
                 if (!result.getType().equals(DataTransactionResult.Type.FAILURE)) {
                     return result;
                 }
             }
         }
-        for (ValueProcessor<E, V> processor : this.processors) {
-            if (processor.supports(container)) {
+        for (int i = 0; i < candidates.processors.size(); i++) {
+            final ValueProcessor<E, V> processor = candidates.processors.get(i);
+            if (candidates.supports(i, container)) {
                 final Optional<V> optional = processor.getApiValueFromContainer(container);
                 if (optional.isPresent()) {
                     V mutable = optional.get();
@@ -124,8 +142,10 @@ public DataTransactionResult offerToStore(ValueContainer<?> container, E value)
 
     @Override
     public DataTransactionResult removeFrom(ValueContainer<?> container) {
-        for (ValueProcessor<E, V> processor : this.processors) {
-            if (processor.supports(container)) {
+        final Candidates<E, V> candidates = getCandidates(container);
+        for (int i = 0; i < candidates.processors.size(); i++) {
+            final ValueProcessor<E, V> processor = candidates.processors.get(i);
+            if (candidates.supports(i, container)) {
                 final DataTransactionResult result = processor.removeFrom(container);
                 if (!result.getType().equals(DataTransactionResult.Type.FAILURE)) {
                     return result;
@@ -134,4 +154,42 @@ public DataTransactionResult removeFrom(ValueContainer<?> container) {
         }
         return DataTransactionResult.failNoData();
     }
+
+    private Candidates<E, V> getCandidates(ValueContainer<?> container) {
+        // Not computeIfAbsent, resolving calls into the processors which may look up other keys
+        Candidates<E, V> candidates = this.candidates.get(container.getClass());
+        if (candidates == null) {
+            candidates = new Candidates<>(this.processors, container);
+            this.candidates.put(container.getClass(), candidates);
+        }
+        return candidates;
+    }
+
+    private static final class Candidates<E, V extends BaseValue<E>> {
+
+        private final List<ValueProcessor<E, V>> processors;
+        // Whether the processor at the same index still has to be asked for every container
+        private final boolean[] checked;
+
+        Candidates(List<ValueProcessor<E, V>> processors, ValueContainer<?> container) {
+            final ImmutableList.Builder<ValueProcessor<E, V>> builder = ImmutableList.builder();
+            final boolean[] checked = new boolean[processors.size()];
+            int size = 0;
+            for (ValueProcessor<E, V> processor : processors) {
+                if (!processor.isSupportDeterminedByClass()) {
+                    builder.add(processor);
+                    checked[size++] = true;
+                } else if (processor.supports(container)) {
+                    builder.add(processor);
+                    checked[size++] = false;
+                }
+            }
+            this.processors = builder.build();
+            this.checked = checked;
+        }
+
+        boolean supports(int index, ValueContainer<?> container) {
+            return !this.checked[index] || this.processors.get(index).supports(container);
+        }
+    }
 }
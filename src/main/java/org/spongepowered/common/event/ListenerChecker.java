@@ -28,9 +28,14 @@
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
+import com.google.common.collect.HashMultiset;
+import com.google.common.collect.Multiset;
 import com.google.common.reflect.TypeToken;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.SpongeEventFactory;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.Collection;
 import java.util.HashMap;
@@ -56,14 +61,19 @@ public Optional<Field> load(Class<?> key) throws Exception {
         }
     });
 
-    private LoadingCache<Class<?>, Set<Class<?>>> subtypeMappings = CacheBuilder.newBuilder().build(new CacheLoader<Class<?>, Set<Class<?>>>() {
+    // A multiset, as several listeners may be registered for the same event class
+    private LoadingCache<Class<?>, Multiset<Class<?>>> subtypeMappings = CacheBuilder.newBuilder().build(new CacheLoader<Class<?>, Multiset<Class<?>>>() {
 
         @Override
-        public Set<Class<?>> load(Class<?> key) throws Exception {
-            return new HashSet<>();
+        public Multiset<Class<?>> load(Class<?> key) throws Exception {
+            return HashMultiset.create();
         }
     });
 
+    // The event class of each flag, so a listener for a supertype such as Event can turn on the flags below it
+    private final Map<Class<?>, Field> flagsByEventClass = new HashMap<>();
+    private final Multiset<Class<?>> registeredClasses = HashMultiset.create();
+
     private static String getName(Class<?> clazz) {
         // Properly account for inner classes. Class#getName uses a $
         // to separate inner classes, so the last '.' is the end of the package name
@@ -89,9 +99,13 @@ public <T> void registerListenerFor(Class<T> eventClass) {
         // The actual type might be SpawnEntityEvent.ChunkLoad, which might have no listeners.
         // However, the base flags takes into account that some of the subevent *do* have listeners.
 
-        // We don't need to walk down the tree, because a more-specific flag can never be turned
-        // from false to true by a less-specific event (and therefore flag) being registered.
-        this.updateFields(types, c -> true);
+        // Walk down the tree as well. A listener for a supertype of a flag's event, such as
+        // CollideEvent or a catch-all Event listener, receives that event too. For example a
+        // listener registered for CollideEvent sets COLLIDE_ENTITY_EVENT to 'true'.
+        this.registeredClasses.add(eventClass);
+        final Set<Class<?>> classes = new HashSet<>(types);
+        classes.addAll(this.getFlagSubtypes(eventClass));
+        this.updateFields(classes, c -> true);
     }
 
     public <T> void unregisterListenerFor(Class<T> eventClass) {
@@ -100,17 +114,41 @@ public <T> void unregisterListenerFor(Class<T> eventClass) {
             this.subtypeMappings.getUnchecked(type).remove(eventClass);
         }
 
-        // As in 'registerListenerFor', we only set flags when walking up the tree - that is,
-        // only the flags for the event class and its superinterfaces can be flipped (from 'true'
-        // to 'false' in this case). However, we need to look *down* the tree to see if we can
-        // flip the flag. If a given class has any listeners registered for its subtypes (recorded
+        // As in 'registerListenerFor', the flags for the event class, its superinterfaces and the
+        // flagged events below it can be flipped (from 'true' to 'false' in this case). We need
+        // to look *down* the tree to see if we can flip the flag. If a given class has any listeners registered for its subtypes (recorded
         // earlier in 'registerListenerFor'), we can't set the flag to false, because there's still
         // the possibility that an event which matches that type will have a listener (if it's the correct
         // subtype, which the less-specific flag cannot make assumptions about).
 
         // If the set is empty for a class (there are no direct listeners or subclass listeners)
-        // we set it to false (opposite of isEmpty/true)
-        this.updateFields(types, c -> !this.subtypeMappings.getUnchecked(c).isEmpty());
+        // we set it to false (opposite of isEmpty/true), unless a listener for one of its supertypes remains
+        this.registeredClasses.remove(eventClass);
+        final Set<Class<?>> classes = new HashSet<>(types);
+        classes.addAll(this.getFlagSubtypes(eventClass));
+        this.updateFields(classes, this::hasListeners);
+    }
+
+    private boolean hasListeners(Class<?> eventClass) {
+        if (!this.subtypeMappings.getUnchecked(eventClass).isEmpty()) {
+            return true;
+        }
+        for (Class<?> registered : this.registeredClasses.elementSet()) {
+            if (registered.isAssignableFrom(eventClass)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Set<Class<?>> getFlagSubtypes(Class<?> eventClass) {
+        final Set<Class<?>> subtypes = new HashSet<>();
+        for (Class<?> flagClass : this.flagsByEventClass.keySet()) {
+            if (eventClass.isAssignableFrom(flagClass)) {
+                subtypes.add(flagClass);
+            }
+        }
+        return subtypes;
     }
 
     public ListenerChecker(Class<?> clazz) {
@@ -130,9 +168,20 @@ public ListenerChecker(Class<?> clazz) {
                 }
             }
         }
+        // Every event the factory creates and their supertypes, which covers the events behind the flags
+        for (Method method : SpongeEventFactory.class.getMethods()) {
+            for (Class<?> type : TypeToken.of(method.getReturnType()).getTypes().rawTypes()) {
+                if (Event.class.isAssignableFrom(type)) {
+                    final Field field = this.fields.get(getName(type));
+                    if (field != null) {
+                        this.flagsByEventClass.putIfAbsent(type, field);
+                    }
+                }
+            }
+        }
     }
 
-    public <T> void updateFields(Collection<Class<? super T>> classes, Predicate<Class<?>> enable) {
+    public void updateFields(Collection<Class<?>> classes, Predicate<Class<?>> enable) {
         if (ALL_TRUE) {
             return;
         }
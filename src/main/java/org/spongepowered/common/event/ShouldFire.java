@@ -35,6 +35,8 @@ public class ShouldFire {
     // but one is registered for SpawnEntityEvent.SPAWNER, both
     // SPAWN_ENTITY_EVENT and SPAWN_ENTITY_EVENT_SPAWNER will be true
     // However, SPAWN_ENTITY_EVENT_CHUNKLOAD will be false
+    // A listener for a supertype, such as a catch-all Event listener,
+    // sets the flags of every event below it
 
     public static boolean SPAWN_ENTITY_EVENT = false;
     public static boolean SPAWN_ENTITY_EVENT_CHUNKLOAD = false;
@@ -60,4 +62,10 @@ public class ShouldFire {
     public static boolean DEFUSE_EXPLOSIVE_EVENT_POST = false;
 
     public static boolean TICK_BLOCK_EVENT = false;
+
+    public static boolean COLLIDE_ENTITY_EVENT = false;
+
+    public static boolean MOVE_ENTITY_EVENT = false;
+
+    public static boolean CHANGE_INVENTORY_EVENT = false;
 }
@@ -0,0 +1,58 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import org.spongepowered.api.event.Event;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the events which were never constructed because {@link ShouldFire}
+ * reported that no listener could receive them.
+ */
+public final class SkippedEvents {
+
+    private static final Map<Class<? extends Event>, LongAdder> COUNTS = new ConcurrentHashMap<>();
+
+    public static void skip(Class<? extends Event> eventClass) {
+        LongAdder count = COUNTS.get(eventClass);
+        if (count == null) {
+            count = COUNTS.computeIfAbsent(eventClass, k -> new LongAdder());
+        }
+        count.increment();
+    }
+
+    public static Map<Class<? extends Event>, Long> getCounts() {
+        final Map<Class<? extends Event>, Long> counts = new HashMap<>();
+        COUNTS.forEach((eventClass, count) -> counts.put(eventClass, count.sum()));
+        return counts;
+    }
+
+    private SkippedEvents() {
+    }
+}
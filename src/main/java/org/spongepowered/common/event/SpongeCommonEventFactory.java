@@ -161,6 +161,10 @@ public static boolean callPlayerChangeInventoryPickupEvent(EntityPlayer player,
         }
 
         if (pickupDelay <= 0 && slot != null) {
+            if (!ShouldFire.CHANGE_INVENTORY_EVENT) {
+                SkippedEvents.skip(ChangeInventoryEvent.Pickup.class);
+                return true;
+            }
             ItemStackSnapshot sourceSnapshot = slot.getStack().isEmpty() ? ItemStackSnapshot.NONE
                     : ((org.spongepowered.api.item.inventory.ItemStack) slot.getStack()).createSnapshot();
             ItemStackSnapshot targetSnapshot;
@@ -187,9 +191,17 @@ public static boolean callPlayerChangeInventoryPickupEvent(EntityPlayer player,
         return true;
     }
 
+    /**
+     * Throws a {@link CollideEntityEvent} for the entities found by an entity
+     * lookup within an area.
+     *
+     * @param world The world
+     * @param sourceEntity The entity looking for colliding entities, if any
+     * @param entities The found entities
+     * @return True if the found entities should be discarded
+     */
     @SuppressWarnings("unchecked")
-    @Nullable
-    public static CollideEntityEvent callCollideEntityEvent(net.minecraft.world.World world, @Nullable net.minecraft.entity.Entity sourceEntity,
+    public static boolean callCollideEntityEvent(net.minecraft.world.World world, @Nullable net.minecraft.entity.Entity sourceEntity,
             List<net.minecraft.entity.Entity> entities) {
 
         CauseTracker causeTracker = CauseTracker.getInstance();
@@ -211,9 +223,15 @@ public static CollideEntityEvent callCollideEntityEvent(net.minecraft.world.Worl
             }
 
             if (builder == null) {
-                return null;
+                // Without a source, collisions are only kept outside of ticking phases
+                final PhaseData peek = causeTracker.getCurrentPhaseData();
+                return peek.state.getPhase().isTicking(peek.state);
             }
         }
+        if (!ShouldFire.COLLIDE_ENTITY_EVENT) {
+            SkippedEvents.skip(CollideEntityEvent.class);
+            return false;
+        }
         final Optional<User> owner = causeTracker.getCurrentPhaseData()
                 .context
                 .firstNamed(NamedCause.OWNER, User.class);
@@ -223,8 +241,7 @@ public static CollideEntityEvent callCollideEntityEvent(net.minecraft.world.Worl
 
         List<Entity> spEntities = (List<Entity>) (List<?>) entities;
         CollideEntityEvent event = SpongeEventFactory.createCollideEntityEvent(builder.build(), spEntities);
-        SpongeImpl.postEvent(event);
-        return event;
+        return SpongeImpl.postEvent(event);
     }
 
     public static ChangeBlockEvent.Pre callChangeBlockEventPre(IMixinWorldServer worldIn, BlockPos pos, NamedCause namedWorldCause) {
@@ -586,10 +603,14 @@ public static boolean handleCollideImpactEvent(net.minecraft.entity.Entity proje
                 spongeChunk.addTrackedBlockPosition((Block) targetBlock.getState().getType(), targetPos, owner.get(), PlayerTracker.Type.NOTIFIER);
             }
         } else if (movingObjectPosition.entityHit != null) { // entity
-            ArrayList<Entity> entityList = new ArrayList<>();
-            entityList.add((Entity) movingObjectPosition.entityHit);
-            CollideEntityEvent.Impact event = SpongeEventFactory.createCollideEntityEventImpact(builder.build(), entityList, impactPoint);
-            cancelled = SpongeImpl.postEvent(event);
+            if (ShouldFire.COLLIDE_ENTITY_EVENT) {
+                ArrayList<Entity> entityList = new ArrayList<>();
+                entityList.add((Entity) movingObjectPosition.entityHit);
+                CollideEntityEvent.Impact event = SpongeEventFactory.createCollideEntityEventImpact(builder.build(), entityList, impactPoint);
+                cancelled = SpongeImpl.postEvent(event);
+            } else {
+                SkippedEvents.skip(CollideEntityEvent.Impact.class);
+            }
         }
 
         if (cancelled) {
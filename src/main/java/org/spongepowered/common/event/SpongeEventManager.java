@@ -27,8 +27,7 @@
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
-import com.github.benmanes.caffeine.cache.Caffeine;
-import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Multimap;
@@ -48,10 +47,10 @@
 import org.spongepowered.common.event.gen.DefineableClassLoader;
 import org.spongepowered.common.event.tracking.CauseTracker;
 
-import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -81,40 +80,37 @@ public class SpongeEventManager implements EventManager {
     public final ListenerChecker checker = new ListenerChecker(ShouldFire.class);
 
     /**
-     * A cache of all the handlers for an event type for quick event posting.
-     * <p>The cache is currently entirely invalidated if handlers are added or
-     * removed.</p>
+     * The baked handlers of every event type that was posted so far. Reads
+     * never lock; when handlers are added or removed, only the entries of
+     * the affected event types are replaced with updated copies.
      */
-    private final LoadingCache<Class<? extends Event>, RegisteredListener.Cache> handlersCache =
-            Caffeine.newBuilder().initialCapacity(150).build((eventClass) -> bakeHandlers(eventClass));
+    private final Map<Class<? extends Event>, RegisteredListener.Cache> handlersCache = new ConcurrentHashMap<>(150, 0.75f, 1);
+
+    /**
+     * The baked event types by each of their supertypes, used to find the
+     * entries of {@link #handlersCache} affected by a handler. Guarded by
+     * {@link #lock}.
+     */
+    private final Multimap<Class<?>, Class<? extends Event>> bakedTypesBySupertype = HashMultimap.create();
 
     @Inject
     public SpongeEventManager(Logger logger, PluginManager pluginManager) {
         this.logger = logger;
         this.pluginManager = checkNotNull(pluginManager, "pluginManager");
+    }
 
-        // Caffeine offers no control over the concurrency level of the
-        // ConcurrentHashMap which backs the cache. By default this concurrency
-        // level is 16. We replace the backing map before any use can occur
-        // a new ConcurrentHashMap with a concurrency level of 1
-        try {
-            // Cache impl class is UnboundedLocalLoadingCache which extends
-            // UnboundedLocalManualCache
-
-            // UnboundedLocalManualCache has a field 'cache' with an
-            // UnboundedLocalCache which contains the actual backing map
-            Field innerCache = this.handlersCache.getClass().getSuperclass().getDeclaredField("cache");
-            innerCache.setAccessible(true);
-            Object innerCacheValue = innerCache.get(this.handlersCache);
-            Class<?> innerCacheClass = innerCacheValue.getClass(); // UnboundedLocalCache
-            Field cacheData = innerCacheClass.getDeclaredField("data");
-            cacheData.setAccessible(true);
-            ConcurrentHashMap<Class<? extends Event>, RegisteredListener.Cache> newBackingData = new ConcurrentHashMap<>(150, 0.75f, 1);
-            cacheData.set(innerCacheValue, newBackingData);
-        } catch (NoSuchFieldException | SecurityException | IllegalArgumentException | IllegalAccessException e) {
-            this.logger.warn("Failed to set event cache backing array, type was " + this.handlersCache.getClass().getName());
-            this.logger.warn("  Caused by: " + e.getClass().getName() + ": " + e.getMessage());
+    private RegisteredListener.Cache getCache(Class<? extends Event> eventClass) {
+        RegisteredListener.Cache cache = this.handlersCache.get(eventClass);
+        if (cache == null) {
+            synchronized (this.lock) {
+                cache = this.handlersCache.get(eventClass);
+                if (cache == null) {
+                    cache = bakeHandlers(eventClass);
+                    this.handlersCache.put(eventClass, cache);
+                }
+            }
         }
+        return cache;
     }
 
     <T extends Event> RegisteredListener.Cache bakeHandlers(Class<T> rootEvent) {
@@ -125,6 +121,7 @@ <T extends Event> RegisteredListener.Cache bakeHandlers(Class<T> rootEvent) {
             for (Class<? super T> type : types) {
                 if (Event.class.isAssignableFrom(type)) {
                     handlers.addAll(this.handlersByEvent.get(type));
+                    this.bakedTypesBySupertype.put(type, rootEvent);
                 }
             }
         }
@@ -169,18 +166,45 @@ private void register(RegisteredListener<? extends Event> handler) {
 
     private void register(List<RegisteredListener<? extends Event>> handlers) {
         synchronized (this.lock) {
-            boolean changed = false;
+            final Multimap<Class<? extends Event>, RegisteredListener<?>> added = ArrayListMultimap.create();
 
             for (RegisteredListener<?> handler : handlers) {
                 if (this.handlersByEvent.put(handler.getEventClass(), handler)) {
-                    changed = true;
                     this.checker.registerListenerFor(handler.getEventClass());
+                    for (Class<? extends Event> bakedType : this.bakedTypesBySupertype.get(handler.getEventClass())) {
+                        added.put(bakedType, handler);
+                    }
                 }
             }
 
-            if (changed) {
-                this.handlersCache.invalidateAll();
+            for (Map.Entry<Class<? extends Event>, Collection<RegisteredListener<?>>> entry : added.asMap().entrySet()) {
+                final RegisteredListener.Cache cache = this.handlersCache.get(entry.getKey());
+                if (cache == null) {
+                    continue;
+                }
+                final List<RegisteredListener<?>> listeners = Lists.newArrayList(cache.getListeners());
+                listeners.addAll(entry.getValue());
+                // The sort is stable, so listeners with the same order keep their position
+                Collections.sort(listeners);
+                this.handlersCache.put(entry.getKey(), new RegisteredListener.Cache(listeners));
+            }
+        }
+    }
+
+    private void unregisterFromCache(Set<RegisteredListener<?>> removed) {
+        final Set<Class<? extends Event>> affected = Sets.newHashSet();
+        for (RegisteredListener<?> handler : removed) {
+            affected.addAll(this.bakedTypesBySupertype.get(handler.getEventClass()));
+        }
+
+        for (Class<? extends Event> bakedType : affected) {
+            final RegisteredListener.Cache cache = this.handlersCache.get(bakedType);
+            if (cache == null) {
+                continue;
             }
+            final List<RegisteredListener<?>> listeners = Lists.newArrayList(cache.getListeners());
+            listeners.removeIf(removed::contains);
+            this.handlersCache.put(bakedType, new RegisteredListener.Cache(listeners));
         }
     }
 
@@ -201,7 +225,7 @@ private void disableFields(Collection<RegisteredListener<? extends Event>> handl
 
     // Override in SpongeModEventManager
     protected boolean hasAnyListeners(Class<? extends Event> clazz) {
-        return !this.handlersCache.get(clazz).getListeners().isEmpty();
+        return !getCache(clazz).getListeners().isEmpty();
     }
 
     public void registerListener(PluginContainer plugin, Object listenerObject) {
@@ -302,20 +326,20 @@ public <T extends Event> void registerListener(Object plugin, Class<T> eventClas
 
     private void unregister(Predicate<RegisteredListener<?>> unregister) {
         synchronized (this.lock) {
-            boolean changed = false;
+            final Set<RegisteredListener<?>> removed = Sets.newIdentityHashSet();
 
             Iterator<RegisteredListener<?>> itr = this.handlersByEvent.values().iterator();
             while (itr.hasNext()) {
                 RegisteredListener<?> handler = itr.next();
                 if (unregister.test(handler)) {
                     itr.remove();
-                    changed = true;
+                    removed.add(handler);
                     this.checker.unregisterListenerFor(handler.getEventClass());
                 }
             }
 
-            if (changed) {
-                this.handlersCache.invalidateAll();
+            if (!removed.isEmpty()) {
+                unregisterFromCache(removed);
             }
         }
     }
@@ -334,7 +358,7 @@ public void unregisterPluginListeners(Object pluginObj) {
     }
 
     protected RegisteredListener.Cache getHandlerCache(Event event) {
-        return this.handlersCache.get(checkNotNull(event, "event").getClass());
+        return getCache(checkNotNull(event, "event").getClass());
     }
 
     @SuppressWarnings("unchecked")
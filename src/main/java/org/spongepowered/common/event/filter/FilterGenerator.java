@@ -31,11 +31,13 @@
 import static org.objectweb.asm.Opcodes.ALOAD;
 import static org.objectweb.asm.Opcodes.ANEWARRAY;
 import static org.objectweb.asm.Opcodes.ARETURN;
+import static org.objectweb.asm.Opcodes.ASTORE;
 import static org.objectweb.asm.Opcodes.BIPUSH;
 import static org.objectweb.asm.Opcodes.DUP;
 import static org.objectweb.asm.Opcodes.ICONST_0;
 import static org.objectweb.asm.Opcodes.ICONST_1;
 import static org.objectweb.asm.Opcodes.ILOAD;
+import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
 import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
 import static org.objectweb.asm.Opcodes.RETURN;
 import static org.objectweb.asm.Opcodes.V1_6;
@@ -46,6 +48,7 @@
 import org.objectweb.asm.Type;
 import org.spongepowered.api.event.Cancellable;
 import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.cause.Cause;
 import org.spongepowered.api.event.filter.Getter;
 import org.spongepowered.api.event.filter.IsCancelled;
 import org.spongepowered.api.event.filter.cause.After;
@@ -66,6 +69,7 @@
 import org.spongepowered.common.event.filter.delegate.AllCauseFilterSourceDelegate;
 import org.spongepowered.common.event.filter.delegate.BeforeCauseFilterSourceDelegate;
 import org.spongepowered.common.event.filter.delegate.CancellationEventFilterDelegate;
+import org.spongepowered.common.event.filter.delegate.CauseFilterSourceDelegate;
 import org.spongepowered.common.event.filter.delegate.ExcludeSubtypeFilterDelegate;
 import org.spongepowered.common.event.filter.delegate.FilterDelegate;
 import org.spongepowered.common.event.filter.delegate.FirstCauseFilterSourceDelegate;
@@ -86,7 +90,9 @@
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class FilterGenerator {
 
@@ -162,6 +168,9 @@ public byte[] generateClass(String name, Method method) {
 
             // local var indices of the parameters values
             int[] plocals = new int[params.length - 1];
+            // the cause is loaded at most once and identical cause lookups are shared between parameters
+            int causeLocal = -1;
+            Map<String, Integer> causeLookups = new HashMap<>();
             for (int i = 1; i < params.length; i++) {
                 Parameter param = params[i];
                 ParameterFilterSourceDelegate source = null;
@@ -188,7 +197,19 @@ public byte[] generateClass(String name, Method method) {
                     throw new IllegalStateException(
                             "Cannot have additional parameters filters without an array source (for " + param.getName() + ")");
                 }
-                Tuple<Integer, Integer> localState = source.write(cw, mv, method, param, local);
+                Tuple<Integer, Integer> localState;
+                if (source instanceof CauseFilterSourceDelegate) {
+                    if (causeLocal == -1) {
+                        mv.visitVarInsn(ALOAD, 1);
+                        mv.visitMethodInsn(INVOKEINTERFACE, Type.getInternalName(Event.class), "getCause",
+                                "()" + Type.getDescriptor(Cause.class), true);
+                        causeLocal = local++;
+                        mv.visitVarInsn(ASTORE, causeLocal);
+                    }
+                    localState = ((CauseFilterSourceDelegate) source).write(cw, mv, method, param, local, causeLocal, causeLookups);
+                } else {
+                    localState = source.write(cw, mv, method, param, local);
+                }
                 local = localState.getFirst();
                 plocals[i - 1] = localState.getSecond();
 
@@ -62,6 +62,12 @@ protected void insertCauseCall(MethodVisitor mv, Parameter param, Class<?> targe
                 "(Ljava/lang/Class;)Ljava/util/List;", false);
     }
 
+    @Override
+    protected String getLookupKey(Parameter param, Class<?> targetType) {
+        // Non array parameters are rejected by the cause call
+        return targetType.isArray() ? "allOf:" + targetType.getComponentType().getName() : null;
+    }
+
     @Override
     protected void insertTransform(MethodVisitor mv, Parameter param, Class<?> targetType, int local) {
         if (this.anno.ignoreEmpty()) {
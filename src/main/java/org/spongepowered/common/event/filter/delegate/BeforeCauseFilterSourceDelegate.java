@@ -57,6 +57,11 @@ protected void insertCauseCall(MethodVisitor mv, Parameter param, Class<?> targe
         mv.visitMethodInsn(INVOKEVIRTUAL, Type.getInternalName(Cause.class), "before", "(Ljava/lang/Class;)Ljava/util/Optional;", false);
     }
 
+    @Override
+    protected String getLookupKey(Parameter param, Class<?> targetType) {
+        return "before:" + this.anno.value().getName();
+    }
+
     @Override
     protected void insertTransform(MethodVisitor mv, Parameter param, Class<?> targetType, int local) {
         mv.visitVarInsn(ALOAD, local);
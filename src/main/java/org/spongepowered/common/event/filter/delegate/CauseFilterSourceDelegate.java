@@ -26,6 +26,7 @@
 
 import static org.objectweb.asm.Opcodes.ALOAD;
 import static org.objectweb.asm.Opcodes.ASTORE;
+import static org.objectweb.asm.Opcodes.DUP;
 import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
 
 import org.objectweb.asm.ClassWriter;
@@ -37,6 +38,9 @@
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.util.Map;
+
+import javax.annotation.Nullable;
 
 public abstract class CauseFilterSourceDelegate implements ParameterFilterSourceDelegate {
 
@@ -58,6 +62,63 @@ public Tuple<Integer, Integer> write(ClassWriter cw, MethodVisitor mv, Method me
         return new Tuple<>(local, paramLocal);
     }
 
+    /**
+     * Writes this source against a cause which was already loaded into a
+     * local variable, sharing the result of the cause lookup with any other
+     * parameter of the same listener which performs the identical lookup.
+     *
+     * @param cw The class writer
+     * @param mv The filter method visitor
+     * @param method The listener method
+     * @param param The parameter
+     * @param local The next available local variable index
+     * @param causeLocal The local variable index holding the event cause
+     * @param lookups The local variable indices of the lookups already made,
+     *     by lookup key
+     * @return The next available local variable index and the index of the
+     *     parameter value
+     */
+    public Tuple<Integer, Integer> write(ClassWriter cw, MethodVisitor mv, Method method, Parameter param, int local, int causeLocal,
+            Map<String, Integer> lookups) {
+        Class<?> targetType = param.getType();
+
+        String key = getLookupKey(param, targetType);
+        Integer lookupLocal = key == null ? null : lookups.get(key);
+        if (lookupLocal != null) {
+            mv.visitVarInsn(ALOAD, lookupLocal);
+        } else {
+            mv.visitVarInsn(ALOAD, causeLocal);
+            insertCauseCall(mv, param, targetType);
+            if (key != null) {
+                // The transform overwrites the parameter local, keep the raw lookup around for the next parameters
+                lookupLocal = local++;
+                mv.visitInsn(DUP);
+                mv.visitVarInsn(ASTORE, lookupLocal);
+                lookups.put(key, lookupLocal);
+            }
+        }
+        int paramLocal = local++;
+        mv.visitVarInsn(ASTORE, paramLocal);
+
+        insertTransform(mv, param, targetType, paramLocal);
+
+        return new Tuple<>(local, paramLocal);
+    }
+
+    /**
+     * Gets a key which identifies the cause lookup made by
+     * {@link #insertCauseCall}, two sources with an equal key must push an
+     * equal value. Sources whose lookup should not be shared return null.
+     *
+     * @param param The parameter
+     * @param targetType The parameter type
+     * @return The lookup key, or null
+     */
+    @Nullable
+    protected String getLookupKey(Parameter param, Class<?> targetType) {
+        return null;
+    }
+
     protected abstract void insertCauseCall(MethodVisitor mv, Parameter param, Class<?> targetType);
 
     protected abstract void insertTransform(MethodVisitor mv, Parameter param, Class<?> targetType, int local);
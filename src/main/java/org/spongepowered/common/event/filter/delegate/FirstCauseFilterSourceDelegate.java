@@ -58,6 +58,11 @@ protected void insertCauseCall(MethodVisitor mv, Parameter param, Class<?> targe
                 "(Ljava/lang/Class;)Ljava/util/Optional;", false);
     }
 
+    @Override
+    protected String getLookupKey(Parameter param, Class<?> targetType) {
+        return "first:" + targetType.getName();
+    }
+
     @Override
     protected void insertTransform(MethodVisitor mv, Parameter param, Class<?> targetType, int local) {
         mv.visitVarInsn(ALOAD, local);
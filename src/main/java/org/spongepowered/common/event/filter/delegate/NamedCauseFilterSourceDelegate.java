@@ -58,6 +58,11 @@ protected void insertCauseCall(MethodVisitor mv, Parameter param, Class<?> targe
         mv.visitMethodInsn(INVOKEVIRTUAL, Type.getInternalName(Cause.class), "get", "(Ljava/lang/String;Ljava/lang/Class;)Ljava/util/Optional;", false);
     }
 
+    @Override
+    protected String getLookupKey(Parameter param, Class<?> targetType) {
+        return "named:" + targetType.getName() + ':' + this.anno.value();
+    }
+
     @Override
     protected void insertTransform(MethodVisitor mv, Parameter param, Class<?> targetType, int local) {
         mv.visitVarInsn(ALOAD, local);
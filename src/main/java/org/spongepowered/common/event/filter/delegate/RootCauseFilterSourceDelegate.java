@@ -56,6 +56,11 @@ protected void insertCauseCall(MethodVisitor mv, Parameter param, Class<?> targe
                 "()Ljava/lang/Object;", false);
     }
 
+    @Override
+    protected String getLookupKey(Parameter param, Class<?> targetType) {
+        return "root";
+    }
+
     @Override
     protected void insertTransform(MethodVisitor mv, Parameter param, Class<?> targetType, int local) {
         Label failure = new Label();
@@ -0,0 +1,121 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking;
+
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.event.ShouldFire;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Decides whether the current phase may skip capturing block changes or
+ * entity spawns because no listener would observe the captures.
+ *
+ * <p>The listener flags are sampled from {@link ShouldFire} once per server
+ * tick, so a phase never sees listeners come or go half way through its
+ * captures. Whether a phase can do without its captures is decided by the
+ * phase state itself, see {@link IPhaseState#canElideBlockCaptures(PhaseContext)}
+ * and {@link IPhaseState#canElideEntityCaptures(PhaseContext)}.</p>
+ */
+public final class CaptureElision {
+
+    public static final int BLOCK_CHANGES = 1;
+    public static final int ENTITY_SPAWNS = 1 << 1;
+    public static final int ITEM_DROPS = 1 << 2;
+    private static final int ALL = BLOCK_CHANGES | ENTITY_SPAWNS | ITEM_DROPS;
+
+    private static volatile int listeners = ALL;
+    // Worlds may tick in parallel, each with their own cause tracker
+    private static final Map<IPhaseState, Counts> STATISTICS = new ConcurrentHashMap<>();
+
+    /**
+     * Samples the listener flags for the upcoming tick.
+     */
+    public static void refresh() {
+        if (!SpongeImpl.getGlobalConfig().getConfig().getCauseTracker().elideCaptures()) {
+            listeners = ALL;
+            return;
+        }
+        int flags = 0;
+        if (ShouldFire.CHANGE_BLOCK_EVENT) {
+            flags |= BLOCK_CHANGES;
+        }
+        if (ShouldFire.SPAWN_ENTITY_EVENT) {
+            flags |= ENTITY_SPAWNS;
+        }
+        if (ShouldFire.DROP_ITEM_EVENT) {
+            flags |= ITEM_DROPS;
+        }
+        listeners = flags;
+    }
+
+    public static boolean hasListeners(int flags) {
+        return (listeners & flags) != 0;
+    }
+
+    static boolean capturesBlockChanges(IPhaseState state, PhaseContext context) {
+        final boolean capture = hasListeners(BLOCK_CHANGES) || !state.canElideBlockCaptures(context);
+        getCounts(state).record(capture);
+        return capture;
+    }
+
+    static boolean capturesEntitySpawns(IPhaseState state, PhaseContext context) {
+        final boolean capture = hasListeners(ENTITY_SPAWNS | ITEM_DROPS) || !state.canElideEntityCaptures(context);
+        getCounts(state).record(capture);
+        return capture;
+    }
+
+    private static Counts getCounts(IPhaseState state) {
+        final Counts counts = STATISTICS.get(state);
+        return counts != null ? counts : STATISTICS.computeIfAbsent(state, k -> new Counts());
+    }
+
+    public static Map<IPhaseState, Counts> getStatistics() {
+        return STATISTICS;
+    }
+
+    public static final class Counts {
+
+        private final LongAdder performed = new LongAdder();
+        private final LongAdder skipped = new LongAdder();
+
+        void record(boolean captured) {
+            (captured ? this.performed : this.skipped).increment();
+        }
+
+        public long getPerformed() {
+            return this.performed.sum();
+        }
+
+        public long getSkipped() {
+            return this.skipped.sum();
+        }
+    }
+
+    private CaptureElision() {
+    }
+}
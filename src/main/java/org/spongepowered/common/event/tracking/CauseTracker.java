@@ -62,6 +62,7 @@
 import org.spongepowered.common.interfaces.IMixinChunk;
 import org.spongepowered.common.interfaces.entity.IMixinEntity;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+import org.spongepowered.common.world.WorldTickScheduler;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -101,6 +102,7 @@ public final class CauseTracker {
     };
 
     private final CauseStack stack = new CauseStack();
+    private final PhaseProfiler.Frames profilerFrames = new PhaseProfiler.Frames();
 
     @Nullable private PhaseData currentProcessingState = null;
 
@@ -108,17 +110,38 @@ public final class CauseTracker {
     public final boolean verboseErrors = SpongeImpl.getGlobalConfig().getConfig().getCauseTracker().verboseErrors();
 
     @SuppressWarnings("ConstantConditions")
-    private CauseTracker() {
-        // We cannot have two instances ever. ever ever.
-        checkState(INSTANCE == null, "More than one CauseTracker instance is being created!!! Two cannot exist at once!");
+    private CauseTracker(boolean worldTickThread) {
+        // We cannot have two server thread instances ever. ever ever.
+        checkState(worldTickThread || INSTANCE == null, "More than one CauseTracker instance is being created!!! Two cannot exist at once!");
     }
 
-    private static final CauseTracker INSTANCE = new CauseTracker();
+    private static final CauseTracker INSTANCE = new CauseTracker(false);
 
+    /**
+     * Gets the {@link CauseTracker} of the current thread. World tick
+     * threads used by parallel world ticking each own a separate tracker,
+     * every other thread shares the server thread's tracker.
+     *
+     * @return The cause tracker
+     */
     public static CauseTracker getInstance() {
+        final Thread thread = Thread.currentThread();
+        if (thread instanceof WorldTickScheduler.WorldTickThread) {
+            return ((WorldTickScheduler.WorldTickThread) thread).getCauseTracker();
+        }
         return checkNotNull(INSTANCE, "CauseTracker instance was illegally set to null!");
     }
 
+    /**
+     * Creates a new tracker for a {@link WorldTickScheduler.WorldTickThread}.
+     * Should not be used for anything else.
+     *
+     * @return The new cause tracker
+     */
+    public static CauseTracker createWorldTickTracker() {
+        return new CauseTracker(true);
+    }
+
     // ----------------- STATE ACCESS ----------------------------------
 
     public void switchToPhase(IPhaseState state, PhaseContext phaseContext) {
@@ -140,6 +163,9 @@ public void switchToPhase(IPhaseState state, PhaseContext phaseContext) {
         }
 
         this.stack.push(state, phaseContext);
+        if (PhaseProfiler.isEnabled()) {
+            this.profilerFrames.enter(state, phaseContext);
+        }
     }
 
     /**
@@ -176,6 +202,9 @@ public void abortCurrentPhase(Throwable t) {
         // Therefore, we skip running the normal unwind functions that completePhase calls,
         // and simply op the phase from the stack.
         this.stack.pop();
+        if (this.profilerFrames.isRecording()) {
+            this.profilerFrames.exit(data.context, 0, 0);
+        }
     }
 
     public void completePhase(IPhaseState prevState) {
@@ -209,6 +238,9 @@ public void completePhase(IPhaseState prevState) {
         // so it's an error properly handled.
         final TrackingPhase phase = state.getPhase();
         final PhaseContext context = currentPhaseData.context;
+        final boolean profiling = this.profilerFrames.isRecording();
+        final int captures = profiling ? context.getCaptureCount() : 0;
+        final long unwindStart = profiling ? System.nanoTime() : 0;
         try {
             if (state != GeneralPhase.Post.UNWINDING && phase.requiresPost(state)) {
                 // Note that UnwindingPhaseContext is required for something? I don't think it requires anything tbh.
@@ -234,6 +266,9 @@ public void completePhase(IPhaseState prevState) {
         } catch (Exception | NoClassDefFoundError e) {
             printMessageWithCaughtException("Exception Post Dispatching Phase", "Something happened when trying to post dispatch state", state, context, e);
         }
+        if (profiling) {
+            this.profilerFrames.exit(context, System.nanoTime() - unwindStart, captures);
+        }
     }
 
     private void printRunnawayPhaseCompletion(IPhaseState state) {
@@ -449,7 +484,8 @@ public boolean setBlockState(final IMixinWorldServer mixinWorld, final BlockPos
                     .trace(System.err, SpongeImpl.getLogger(), Level.ERROR);
 
         }
-        if (CauseTracker.ENABLED && phaseState.getPhase().requiresBlockCapturing(phaseState)) {
+        if (CauseTracker.ENABLED && phaseState.getPhase().requiresBlockCapturing(phaseState)
+                && CaptureElision.capturesBlockChanges(phaseState, phaseData.context)) {
             try {
                 // Default, this means we've captured the block. Keeping with the semantics
                 // of the original method where true means it successfully changed.
@@ -632,6 +668,14 @@ public boolean spawnEntity(Entity entity) {
             // will not actively capture entity spawns, but will still throw events for them. Some phases
             // capture all entities until the phase is marked for completion.
             if (!isForced) {
+                if (!CaptureElision.capturesEntitySpawns(phaseState, context)) {
+                    // Nothing would observe the spawn, only assign the creator the phase would have
+                    final User user = context.getNotifier().orElseGet(() -> context.getOwner().orElse(null));
+                    if (user != null) {
+                        entity.setCreator(user.getUniqueId());
+                    }
+                    return mixinWorldServer.forceSpawnEntity(entity);
+                }
                 try {
                     return phase.spawnEntityOrCapture(phaseState, context, entity, chunkX, chunkZ);
                 } catch (Exception | NoClassDefFoundError e) {
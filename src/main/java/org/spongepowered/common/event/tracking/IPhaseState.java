@@ -100,6 +100,32 @@ default boolean tracksEntityDeaths() {
     default boolean shouldCaptureBlockChangeOrSkip(PhaseContext phaseContext, BlockPos pos) {
         return true;
     }
+
+    /**
+     * Whether block changes in this state may be applied directly instead of
+     * being captured when no {@code ChangeBlockEvent} listeners are present.
+     * Only states that do nothing with their captured blocks besides throwing
+     * events may return {@code true}, see {@link CaptureElision}.
+     *
+     * @param context The current context
+     * @return True if block captures may be skipped
+     */
+    default boolean canElideBlockCaptures(PhaseContext context) {
+        return false;
+    }
+
+    /**
+     * Whether entities spawned in this state may be spawned directly, with
+     * the context notifier or owner as creator, when no spawn or drop event
+     * listeners are present.
+     *
+     * @param context The current context
+     * @return True if entity captures may be skipped
+     */
+    default boolean canElideEntityCaptures(PhaseContext context) {
+        return false;
+    }
+
     default boolean isInteraction() {
         return false;
     }
@@ -89,6 +89,26 @@ public static PhaseContext start() {
         return new PhaseContext();
     }
 
+    /**
+     * Gets the number of blocks, entities and items captured so far, as
+     * recorded by the {@link PhaseProfiler}.
+     *
+     * @return The number of captures
+     */
+    int getCaptureCount() {
+        int count = 0;
+        if (this.blocksSupplier != null) {
+            count += this.blocksSupplier.orEmptyList().size();
+        }
+        if (this.capturedEntitiesSupplier != null) {
+            count += this.capturedEntitiesSupplier.orEmptyList().size();
+        }
+        if (this.capturedItemsSupplier != null) {
+            count += this.capturedItemsSupplier.orEmptyList().size();
+        }
+        return count;
+    }
+
     public PhaseContext add(@Nullable NamedCause namedCause) {
         if (namedCause == null) {
             return this;
@@ -283,6 +303,36 @@ public boolean isComplete() {
         return this.isCompleted;
     }
 
+    /**
+     * Clears everything added to this context so it can be built again.
+     * Only to be used on a context that is no longer on the phase stack.
+     *
+     * @return This context, not completed
+     */
+    public PhaseContext reset() {
+        this.isCompleted = false;
+        this.contextObjects.clear();
+        this.cause = null;
+        this.blocksSupplier = null;
+        this.blockItemDropsSupplier = null;
+        this.blockItemEntityDropsSupplier = null;
+        this.capturedItemsSupplier = null;
+        this.capturedEntitiesSupplier = null;
+        this.capturedItemStackSupplier = null;
+        this.entityItemDropsSupplier = null;
+        this.entityItemEntityDropsSupplier = null;
+        this.blockEntitySpawnSupplier = null;
+        this.captureBlockPos = null;
+        this.owner = null;
+        this.notifier = null;
+        this.activeContainer = null;
+        this.source = null;
+        this.cachedClass = null;
+        this.cachedObject = null;
+        this.cachedName = null;
+        return this;
+    }
+
     @Nullable private Class<?> cachedClass;
     @Nullable private Object cachedObject;
     @Nullable private String cachedName;
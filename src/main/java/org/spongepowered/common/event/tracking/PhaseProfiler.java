@@ -0,0 +1,319 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking;
+
+import org.spongepowered.common.util.DurationHistogram;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nullable;
+
+/**
+ * Optional instrumentation of the {@link CauseTracker} recording how long
+ * every {@link IPhaseState} took, keyed by the path of states it was
+ * entered from.
+ *
+ * <p>The duration of a phase runs from {@link CauseTracker#switchToPhase}
+ * until {@link CauseTracker#completePhase} has finished unwinding it, so
+ * the {@code UNWINDING} post phase shows up as a child of the state it
+ * unwinds. While disabled, the tracker only pays for a volatile read per
+ * phase switch.</p>
+ *
+ * <p>The durations of each node are recorded in a
+ * {@link DurationHistogram}.</p>
+ */
+public final class PhaseProfiler {
+
+    private static volatile boolean enabled;
+    private static volatile Node root = new Node(null, null);
+    private static volatile long startTime = System.nanoTime();
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enable) {
+        if (enable && !enabled) {
+            reset();
+        }
+        enabled = enable;
+    }
+
+    /**
+     * Discards everything recorded so far.
+     */
+    public static void reset() {
+        root = new Node(null, null);
+        startTime = System.nanoTime();
+    }
+
+    /**
+     * Gets the time since recording was last started or reset.
+     *
+     * @return The time in nanoseconds
+     */
+    public static long getRecordingTime() {
+        return System.nanoTime() - startTime;
+    }
+
+    public static Node getRoot() {
+        return root;
+    }
+
+    /**
+     * Gets every recorded node, parents before their children.
+     *
+     * @return The recorded nodes
+     */
+    public static List<Node> getNodes() {
+        final List<Node> nodes = new ArrayList<>();
+        final List<Node> pending = new ArrayList<>(root.getChildren());
+        while (!pending.isEmpty()) {
+            final Node node = pending.remove(pending.size() - 1);
+            nodes.add(node);
+            pending.addAll(node.getChildren());
+        }
+        return nodes;
+    }
+
+    /**
+     * Writes the recorded self times in the collapsed stack format read by
+     * flame graph tools: one line per path, the state names separated by
+     * {@code ;}, followed by the self time in microseconds.
+     *
+     * @param out The output to append to
+     * @throws IOException If the output could not be written to
+     */
+    public static void writeCollapsedStacks(Appendable out) throws IOException {
+        for (Node node : getNodes()) {
+            final long selfTime = node.getSelfTime() / 1000;
+            if (selfTime <= 0) {
+                continue;
+            }
+            out.append(node.getPath()).append(' ').append(Long.toString(selfTime)).append('\n');
+        }
+    }
+
+    static String getName(IPhaseState state) {
+        final String name = String.valueOf(state);
+        final StringBuilder builder = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            final char c = name.charAt(i);
+            builder.append(c == ';' || Character.isWhitespace(c) ? '_' : c);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * The statistics of a phase state entered through a specific path.
+     */
+    public static final class Node {
+
+        @Nullable private final IPhaseState state;
+        @Nullable private final Node parent;
+        private final Map<IPhaseState, Node> children = new ConcurrentHashMap<>();
+        private final DurationHistogram histogram = new DurationHistogram();
+        private final LongAdder totalTime = new LongAdder();
+        private final LongAdder selfTime = new LongAdder();
+        private final LongAdder unwindTime = new LongAdder();
+        private final LongAdder captures = new LongAdder();
+
+        Node(@Nullable IPhaseState state, @Nullable Node parent) {
+            this.state = state;
+            this.parent = parent;
+        }
+
+        Node getChild(IPhaseState state) {
+            final Node child = this.children.get(state);
+            return child != null ? child : this.children.computeIfAbsent(state, k -> new Node(k, this));
+        }
+
+        void record(long nanos, long selfNanos, long unwindNanos, int captureCount) {
+            this.histogram.record(nanos);
+            this.totalTime.add(nanos);
+            this.selfTime.add(selfNanos);
+            if (unwindNanos > 0) {
+                this.unwindTime.add(unwindNanos);
+            }
+            if (captureCount > 0) {
+                this.captures.add(captureCount);
+            }
+        }
+
+        @Nullable
+        public IPhaseState getState() {
+            return this.state;
+        }
+
+        public Collection<Node> getChildren() {
+            return this.children.values();
+        }
+
+        /**
+         * Gets the names of the states leading to this node, separated by
+         * {@code ;}.
+         *
+         * @return The path
+         */
+        public String getPath() {
+            final List<String> names = new ArrayList<>();
+            for (Node node = this; node != null && node.state != null; node = node.parent) {
+                names.add(getName(node.state));
+            }
+            final StringBuilder builder = new StringBuilder();
+            for (int i = names.size() - 1; i >= 0; i--) {
+                builder.append(names.get(i));
+                if (i > 0) {
+                    builder.append(';');
+                }
+            }
+            return builder.toString();
+        }
+
+        public long getCount() {
+            return this.histogram.getCount();
+        }
+
+        /**
+         * Gets the time spent in this state, including nested states and
+         * unwinding.
+         *
+         * @return The time in nanoseconds
+         */
+        public long getTotalTime() {
+            return this.totalTime.sum();
+        }
+
+        /**
+         * Gets the time spent in this state, excluding nested states.
+         *
+         * @return The time in nanoseconds
+         */
+        public long getSelfTime() {
+            return this.selfTime.sum();
+        }
+
+        /**
+         * Gets the time spent unwinding this state.
+         *
+         * @return The time in nanoseconds
+         */
+        public long getUnwindTime() {
+            return this.unwindTime.sum();
+        }
+
+        /**
+         * Gets the number of blocks, entities and items this state had
+         * captured by the time it was completed.
+         *
+         * @return The number of captures
+         */
+        public long getCaptures() {
+            return this.captures.sum();
+        }
+
+        /**
+         * Gets the upper bound of the bucket containing the given percentile
+         * of durations.
+         *
+         * @param percentile The percentile, between 0 and 1
+         * @return The upper bound in microseconds, or 0 if nothing was recorded
+         */
+        public long getPercentile(double percentile) {
+            return this.histogram.getPercentile(percentile);
+        }
+    }
+
+    /**
+     * The phases a single {@link CauseTracker} has entered while recording.
+     * Each frame remembers the context it was entered with, so phases
+     * entered before recording started are ignored and phases popped
+     * without being completed are dropped, rather than attributed to the
+     * wrong node.
+     */
+    static final class Frames {
+
+        private Node[] nodes = new Node[16];
+        private PhaseContext[] contexts = new PhaseContext[16];
+        private long[] startTimes = new long[16];
+        private long[] childTimes = new long[16];
+        private int depth;
+
+        void enter(IPhaseState state, PhaseContext context) {
+            final Node parent = this.depth == 0 ? PhaseProfiler.root : this.nodes[this.depth - 1];
+            if (this.depth == this.nodes.length) {
+                final int length = this.depth * 2;
+                this.nodes = Arrays.copyOf(this.nodes, length);
+                this.contexts = Arrays.copyOf(this.contexts, length);
+                this.startTimes = Arrays.copyOf(this.startTimes, length);
+                this.childTimes = Arrays.copyOf(this.childTimes, length);
+            }
+            this.nodes[this.depth] = parent.getChild(state);
+            this.contexts[this.depth] = context;
+            this.childTimes[this.depth] = 0;
+            this.startTimes[this.depth++] = System.nanoTime();
+        }
+
+        boolean isRecording() {
+            return this.depth > 0;
+        }
+
+        void exit(PhaseContext context, long unwindNanos, int captureCount) {
+            int index = this.depth - 1;
+            while (index >= 0 && this.contexts[index] != context) {
+                index--;
+            }
+            if (index < 0) {
+                return;
+            }
+            // Frames above were popped without being completed, drop them
+            while (this.depth > index + 1) {
+                this.pop();
+            }
+            final long nanos = System.nanoTime() - this.startTimes[index];
+            if (index > 0) {
+                this.childTimes[index - 1] += nanos;
+            }
+            this.nodes[index].record(nanos, nanos - this.childTimes[index], unwindNanos, captureCount);
+            this.pop();
+        }
+
+        private void pop() {
+            this.depth--;
+            this.nodes[this.depth] = null;
+            this.contexts[this.depth] = null;
+        }
+    }
+
+    private PhaseProfiler() {
+    }
+}
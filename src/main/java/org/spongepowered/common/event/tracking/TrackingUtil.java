@@ -31,6 +31,7 @@
 import com.flowpowered.math.vector.Vector3i;
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Lists;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockEventData;
@@ -87,7 +88,6 @@
 import org.spongepowered.common.registry.type.event.InternalSpawnTypes;
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.world.BlockChange;
-import org.spongepowered.common.world.SpongeProxyBlockAccess;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -101,6 +101,8 @@
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import javax.annotation.Nullable;
+
 /**
  * A simple utility for aiding in tracking, either with resolving notifiers
  * and owners, or proxying out the logic for ticking a block, entity, etc.
@@ -121,15 +123,9 @@ public final class TrackingUtil {
                     }
             ;
     public static final int EVENT_COUNT = 5;
-    public static final Function<BlockSnapshot, Transaction<BlockSnapshot>> TRANSACTION_CREATION = (blockSnapshot) -> {
-        final Location<World> originalLocation = blockSnapshot.getLocation().get();
-        final WorldServer worldServer = (WorldServer) originalLocation.getExtent();
-        final BlockPos blockPos = ((IMixinLocation) (Object) originalLocation).getBlockPos();
-        final IBlockState newState = worldServer.getBlockState(blockPos);
-        final IBlockState newActualState = newState.getActualState(worldServer, blockPos);
-        final BlockSnapshot newSnapshot = ((IMixinWorldServer) worldServer).createSpongeBlockSnapshot(newState, newActualState, blockPos, 0);
-        return new Transaction<>(blockSnapshot, newSnapshot);
-    };
+    // Kept for the implementations, captures within common go through createTransactionArrays
+    public static final Function<BlockSnapshot, Transaction<BlockSnapshot>> TRANSACTION_CREATION = (blockSnapshot) ->
+            createTransaction((SpongeBlockSnapshot) blockSnapshot, getWorld((SpongeBlockSnapshot) blockSnapshot, null));
 
     public static void tickEntity(net.minecraft.entity.Entity entityIn) {
         checkArgument(entityIn instanceof Entity, "Entity %s is not an instance of SpongeAPI's Entity!", entityIn);
@@ -483,6 +479,63 @@ public static Supplier<IllegalStateException> throwWithContext(String s, PhaseCo
         };
     }
 
+    /**
+     * Creates the transactions for the captured snapshots, sorted into one list
+     * per {@link BlockChange} and the list of all transactions at
+     * {@link #MULTI_CHANGE_INDEX}.
+     *
+     * <p>The transactions stay {@link Transaction} objects in immutable lists
+     * rather than primitive position and state arrays, as the events hand
+     * them to plugins which may invalidate them or set custom replacements.</p>
+     *
+     * @param snapshots The captured original snapshots
+     * @return The transaction lists, indexed by {@link BlockChange#ordinal()}
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static ImmutableList<Transaction<BlockSnapshot>>[] createTransactionArrays(List<BlockSnapshot> snapshots) {
+        final ImmutableList.Builder<Transaction<BlockSnapshot>>[] transactionBuilders = new ImmutableList.Builder[EVENT_COUNT];
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            transactionBuilders[i] = new ImmutableList.Builder<>();
+        }
+        WorldServer worldServer = null;
+        for (BlockSnapshot snapshot : snapshots) {
+            final SpongeBlockSnapshot originalSnapshot = (SpongeBlockSnapshot) snapshot;
+            worldServer = getWorld(originalSnapshot, worldServer);
+            final Transaction<BlockSnapshot> transaction = createTransaction(originalSnapshot, worldServer);
+            transactionBuilders[originalSnapshot.blockChange.ordinal()].add(transaction);
+            transactionBuilders[MULTI_CHANGE_INDEX].add(transaction);
+        }
+        final ImmutableList<Transaction<BlockSnapshot>>[] transactionArrays = new ImmutableList[EVENT_COUNT];
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            transactionArrays[i] = transactionBuilders[i].build();
+        }
+        return transactionArrays;
+    }
+
+    private static Transaction<BlockSnapshot> createTransaction(SpongeBlockSnapshot originalSnapshot, WorldServer worldServer) {
+        final BlockPos blockPos = originalSnapshot.getBlockPos();
+        final IBlockState newState = worldServer.getBlockState(blockPos);
+        final IBlockState newActualState = newState.getActualState(worldServer, blockPos);
+        final BlockSnapshot newSnapshot = ((IMixinWorldServer) worldServer).createSpongeBlockSnapshot(newState, newActualState, blockPos, 0);
+        return new Transaction<>(originalSnapshot, newSnapshot);
+    }
+
+    /**
+     * Gets the world of the given snapshot, reusing the previously resolved
+     * world as captures nearly always belong to the same one.
+     *
+     * @param snapshot The snapshot
+     * @param previous The world resolved for the previous snapshot, if any
+     * @return The world
+     */
+    public static WorldServer getWorld(SpongeBlockSnapshot snapshot, @Nullable WorldServer previous) {
+        if (previous != null && ((World) previous).getUniqueId().equals(snapshot.getWorldUniqueId())) {
+            return previous;
+        }
+        return (WorldServer) SpongeImpl.getGame().getServer().getWorld(snapshot.getWorldUniqueId())
+                .orElseThrow(() -> new IllegalStateException("The world of " + snapshot + " is not loaded!"));
+    }
+
     /**
      * Processes the given list of {@link BlockSnapshot}s and creates and throws and processes
      * the {@link ChangeBlockEvent}s as appropriately determined based on the {@link BlockChange}
@@ -501,23 +554,8 @@ public static boolean processBlockCaptures(List<BlockSnapshot> snapshots, IPhase
         if (snapshots.isEmpty()) {
             return false;
         }
-        ImmutableList<Transaction<BlockSnapshot>>[] transactionArrays = new ImmutableList[EVENT_COUNT];
-        ImmutableList.Builder<Transaction<BlockSnapshot>>[] transactionBuilders = new ImmutableList.Builder[EVENT_COUNT];
-        for (int i = 0; i < EVENT_COUNT; i++) {
-            transactionBuilders[i] = new ImmutableList.Builder<>();
-        }
+        final ImmutableList<Transaction<BlockSnapshot>>[] transactionArrays = createTransactionArrays(snapshots);
         final List<ChangeBlockEvent> blockEvents = new ArrayList<>();
-
-        for (BlockSnapshot snapshot : snapshots) {
-            // This processes each snapshot to assign them to the correct event in the next area, with the
-            // correct builder array entry.
-            TRANSACTION_PROCESSOR.apply(transactionBuilders).accept(TRANSACTION_CREATION.apply(snapshot));
-        }
-
-        for (int i = 0; i < EVENT_COUNT; i++) {
-            // Build each event array
-            transactionArrays[i] = transactionBuilders[i].build();
-        }
         final ChangeBlockEvent[] mainEvents = new ChangeBlockEvent[BlockChange.values().length];
         // This likely needs to delegate to the phase in the event we don't use the source object as the main object causing the block changes
         // case in point for WorldTick event listeners since the players are captured non-deterministically
@@ -643,12 +681,11 @@ public static void iterateChangeBlockEvents(ImmutableList<Transaction<BlockSnaps
 
     public static boolean performBlockAdditions(List<Transaction<BlockSnapshot>> transactions, Cause.Builder builder, IPhaseState phaseState,
         PhaseContext phaseContext, boolean noCancelledTransactions) {
-        // We have to use a proxy so that our pending changes are notified such that any accessors from block
-        // classes do not fail on getting the incorrect block state from the IBlockAccess
-        final SpongeProxyBlockAccess proxyBlockAccess = new SpongeProxyBlockAccess(transactions);
+        final CauseTracker causeTracker = CauseTracker.getInstance();
         final CapturedMultiMapSupplier<BlockPos, ItemDropData> capturedBlockDrops = phaseContext.getBlockDropSupplier();
         final CapturedMultiMapSupplier<BlockPos, EntityItem> capturedBlockItemEntityDrops = phaseContext.getBlockItemDropSupplier();
         final CapturedMultiMapSupplier<BlockPos, net.minecraft.entity.Entity> capturedBlockEntitySpawns = phaseContext.getBlockEntitySpawnSupplier();
+        WorldServer worldServer = null;
         for (Transaction<BlockSnapshot> transaction : transactions) {
             if (!transaction.isValid()) {
                 // Rememver that this value needs to be set to false to return because of the fact that
@@ -665,48 +702,53 @@ public static boolean performBlockAdditions(List<Transaction<BlockSnapshot>> tra
             final SpongeBlockSnapshot oldBlockSnapshot = (SpongeBlockSnapshot) transaction.getOriginal();
             final SpongeBlockSnapshot newBlockSnapshot = (SpongeBlockSnapshot) transaction.getFinal();
 
-            final Location<World> worldLocation = oldBlockSnapshot.getLocation().get();
-            final IMixinWorldServer mixinWorldServer = (IMixinWorldServer) worldLocation.getExtent();
+            worldServer = getWorld(oldBlockSnapshot, worldServer);
+            final IMixinWorldServer mixinWorldServer = (IMixinWorldServer) worldServer;
             // Handle item drops captured
-            final BlockPos pos = ((IMixinLocation) (Object) oldBlockSnapshot.getLocation().get()).getBlockPos();
+            final BlockPos pos = oldBlockSnapshot.getBlockPos();
             // This is for pre-merged items
-            capturedBlockDrops.ifPresentAndNotEmpty(map -> spawnItemDataForBlockDrops(map.containsKey(pos) ? map.removeAll(pos) : Collections.emptyList(), newBlockSnapshot,
-                phaseContext, phaseState));
+            if (!capturedBlockDrops.isEmpty()) {
+                final ListMultimap<BlockPos, ItemDropData> map = capturedBlockDrops.get();
+                spawnItemDataForBlockDrops(map.containsKey(pos) ? map.removeAll(pos) : Collections.emptyList(), newBlockSnapshot, phaseContext, phaseState);
+            }
             // And this is for un-pre-merged items, these will be EntityItems, not ItemDropDatas.
-            capturedBlockItemEntityDrops.ifPresentAndNotEmpty(map -> spawnItemEntitiesForBlockDrops(map.containsKey(pos) ? map.removeAll(pos) : Collections.emptyList(), newBlockSnapshot,
-                phaseContext, phaseState));
+            if (!capturedBlockItemEntityDrops.isEmpty()) {
+                final ListMultimap<BlockPos, EntityItem> map = capturedBlockItemEntityDrops.get();
+                spawnItemEntitiesForBlockDrops(map.containsKey(pos) ? map.removeAll(pos) : Collections.emptyList(), newBlockSnapshot, phaseContext,
+                    phaseState);
+            }
             // This is for entities actually spawned
-            capturedBlockEntitySpawns.ifPresentAndNotEmpty(map -> spawnEntitiesForBlock(map.containsKey(pos) ? map.removeAll(pos) : Collections.emptyList(), newBlockSnapshot,
-                phaseContext, phaseState));
+            if (!capturedBlockEntitySpawns.isEmpty()) {
+                final ListMultimap<BlockPos, net.minecraft.entity.Entity> map = capturedBlockEntitySpawns.get();
+                spawnEntitiesForBlock(map.containsKey(pos) ? map.removeAll(pos) : Collections.emptyList(), newBlockSnapshot, phaseContext, phaseState);
+            }
 
-            SpongeHooks.logBlockAction(builder, mixinWorldServer.asMinecraftWorld(), oldBlockSnapshot.blockChange, transaction);
+            SpongeHooks.logBlockAction(builder, worldServer, oldBlockSnapshot.blockChange, transaction);
             final BlockChangeFlag changeFlag = oldBlockSnapshot.getChangeFlag();
             final IBlockState originalState = (IBlockState) oldBlockSnapshot.getState();
             final IBlockState newState = (IBlockState) newBlockSnapshot.getState();
             // We call onBlockAdded here for both TE blocks (BlockContainer's) and other blocks.
             // MixinChunk#setBlockState will only call onBlockAdded for BlockContainers when it's passed a null newBlockSnapshot,
             // which only happens when capturing is not being done.
-            final CauseTracker causeTracker = CauseTracker.getInstance();
             if (changeFlag.performBlockPhysics() && originalState.getBlock() != newState.getBlock()) {
-                newState.getBlock().onBlockAdded(mixinWorldServer.asMinecraftWorld(), pos, newState);
+                newState.getBlock().onBlockAdded(worldServer, pos, newState);
                 final PhaseData peek = causeTracker.getCurrentPhaseData();
                 if (peek.state == GeneralPhase.Post.UNWINDING) {
                     peek.state.getPhase().unwind(peek.state, peek.context);
                 }
             }
 
-            proxyBlockAccess.proceed();
             phaseState.handleBlockChangeWithUser(oldBlockSnapshot.blockChange, transaction, phaseContext);
 
             final int minecraftChangeFlag = oldBlockSnapshot.getUpdateFlag();
             if (((minecraftChangeFlag & 2) != 0)) { // Always try to notify clients of the change.
-                mixinWorldServer.asMinecraftWorld().notifyBlockUpdate(pos, originalState, newState, minecraftChangeFlag);
+                worldServer.notifyBlockUpdate(pos, originalState, newState, minecraftChangeFlag);
             }
 
             if (changeFlag.updateNeighbors()) { // Notify neighbors only if the change flag allowed it.
                 mixinWorldServer.spongeNotifyNeighborsPostBlockChange(pos, originalState, newState, oldBlockSnapshot.getUpdateFlag());
             } else if ((minecraftChangeFlag & 16) == 0) {
-                mixinWorldServer.asMinecraftWorld().updateObservingBlocksAt(pos, newState.getBlock());
+                worldServer.updateObservingBlocksAt(pos, newState.getBlock());
             }
 
             final PhaseData peek = causeTracker.getCurrentPhaseData();
@@ -0,0 +1,66 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking.phase.packet;
+
+import net.minecraft.item.ItemStack;
+import org.spongepowered.api.item.inventory.ItemStackSnapshot;
+import org.spongepowered.common.item.inventory.util.ItemStackUtil;
+
+import javax.annotation.Nullable;
+
+/**
+ * The item a player held on the cursor before a packet was processed.
+ *
+ * <p>Most packets never look at the cursor, so only a copy of the stack is
+ * taken up front, and none at all for an empty cursor. The snapshot is
+ * created once something asks for it.</p>
+ */
+public final class CursorSnapshot {
+
+    private static final CursorSnapshot EMPTY = new CursorSnapshot(ItemStack.EMPTY);
+
+    private final ItemStack cursor;
+    @Nullable private ItemStackSnapshot snapshot;
+
+    public static CursorSnapshot of(ItemStack cursor) {
+        return cursor.isEmpty() ? EMPTY : new CursorSnapshot(cursor.copy());
+    }
+
+    private CursorSnapshot(ItemStack cursor) {
+        this.cursor = cursor;
+    }
+
+    public ItemStackSnapshot get() {
+        if (this.snapshot == null) {
+            this.snapshot = ItemStackUtil.snapshotOf(this.cursor);
+        }
+        return this.snapshot;
+    }
+
+    @Override
+    public String toString() {
+        return this.cursor.toString();
+    }
+}
@@ -72,6 +72,18 @@ default boolean doesCaptureEntityDrops() {
     default boolean doBlockCapturing() {
         return true;
     }
+
+    /**
+     * Gets whether packets in this state need to enter the packet phase.
+     * States that capture nothing and have nothing to unwind can return
+     * false, their packets are then processed without a phase context.
+     *
+     * @return True if the packet phase is entered for this state
+     */
+    default boolean requiresTracking() {
+        return true;
+    }
+
     /**
      * A defaulted method to handle entities that are spawned due to packet placement during post processing.
      * Examples can include a player placing a redstone block priming a TNT explosive.
@@ -97,6 +97,7 @@ public static final class General {
         public static final IPacketState MOVEMENT = new MovementPacketState();
         public static final IPacketState INTERACTION = new InteractionPacketState();
         public static final IPacketState IGNORED = new IgnoredPacketState();
+        public static final IPacketState KEEP_ALIVE = new UntrackedPacketState();
         public static final IPacketState INTERACT_ENTITY = new InteractEntityPacketState();
         public static final IPacketState ATTACK_ENTITY = new AttackEntityPacketState();
         public static final IPacketState INTERACT_AT_ENTITY = new InteractAtEntityPacketState();
@@ -110,11 +111,11 @@ public static final class General {
         public static final IPacketState INVALID = new InvalidPacketState();
         public static final IPacketState CLIENT_SETTINGS = new BasicPacketState();
         public static final IPacketState START_RIDING_JUMP = new BasicPacketState();
-        public static final IPacketState ANIMATION = new BasicPacketState();
-        public static final IPacketState START_SNEAKING = new BasicPacketState();
-        public static final IPacketState STOP_SNEAKING = new BasicPacketState();
-        public static final IPacketState START_SPRINTING = new BasicPacketState();
-        public static final IPacketState STOP_SPRINTING = new BasicPacketState();
+        public static final IPacketState ANIMATION = new UntrackedPacketState();
+        public static final IPacketState START_SNEAKING = new UntrackedPacketState();
+        public static final IPacketState STOP_SNEAKING = new UntrackedPacketState();
+        public static final IPacketState START_SPRINTING = new UntrackedPacketState();
+        public static final IPacketState STOP_SPRINTING = new UntrackedPacketState();
         public static final IPacketState STOP_SLEEPING = new StopSleepingPacketState();
         public static final IPacketState CLOSE_WINDOW = new CloseWindowState();
         public static final IPacketState UPDATE_SIGN = new UpdateSignState();
@@ -428,7 +429,7 @@ public void setupPacketToUnwindMapping() {
 
 
     public void setupPacketToStateMapping() {
-        this.packetTranslationMap.put(CPacketKeepAlive.class, packet -> General.IGNORED);
+        this.packetTranslationMap.put(CPacketKeepAlive.class, packet -> General.KEEP_ALIVE);
         this.packetTranslationMap.put(CPacketChatMessage.class, packet -> General.HANDLED_EXTERNALLY);
         this.packetTranslationMap.put(CPacketUseEntity.class, packet -> {
             final CPacketUseEntity useEntityPacket = (CPacketUseEntity) packet;
@@ -476,7 +477,7 @@ public void setupPacketToStateMapping() {
         this.packetTranslationMap.put(CPacketInput.class, packet -> General.HANDLED_EXTERNALLY);
         this.packetTranslationMap.put(CPacketCloseWindow.class, packet -> General.CLOSE_WINDOW);
         this.packetTranslationMap.put(CPacketClickWindow.class, packet -> fromWindowPacket((CPacketClickWindow) packet));
-        this.packetTranslationMap.put(CPacketConfirmTransaction.class, packet -> General.UNKNOWN);
+        this.packetTranslationMap.put(CPacketConfirmTransaction.class, packet -> General.KEEP_ALIVE);
         this.packetTranslationMap.put(CPacketCreativeInventoryAction.class, packet -> General.CREATIVE_INVENTORY);
         this.packetTranslationMap.put(CPacketEnchantItem.class, packet -> Inventory.ENCHANT_ITEM);
         this.packetTranslationMap.put(CPacketUpdateSign.class, packet -> General.UPDATE_SIGN);
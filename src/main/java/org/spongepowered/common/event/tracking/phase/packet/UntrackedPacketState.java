@@ -22,36 +22,21 @@
  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
  * THE SOFTWARE.
  */
-package org.spongepowered.common.util;
+package org.spongepowered.common.event.tracking.phase.packet;
 
-import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
-import org.spongepowered.common.interfaces.IMixinCachable;
-
-import javax.annotation.Nullable;
-
-public class CachedLong2ObjectMap<V extends IMixinCachable> extends Long2ObjectOpenHashMap<V> {
-
-    private static final long serialVersionUID = 190617916448550012L;
-    @Nullable private V lastRetrievedValue = null;
-
-    @Override
-    public V get(long key) {
-        if (this.lastRetrievedValue != null && key == this.lastRetrievedValue.getCacheKey()) {
-            return this.lastRetrievedValue;
-        }
-        return this.lastRetrievedValue = super.get(key);
-    }
+/**
+ * A state for packets that cannot change the world, which are processed
+ * without entering the packet phase at all.
+ */
+final class UntrackedPacketState extends BasicPacketState {
 
     @Override
-    public V remove(long key) {
-        if (this.lastRetrievedValue != null && key == this.lastRetrievedValue.getCacheKey()) {
-            this.lastRetrievedValue = null;
-        }
-        return super.remove(key);
+    public boolean requiresTracking() {
+        return false;
     }
 
     @Override
-    public boolean containsKey(long key) {
-        return this.get(key) != null;
+    public boolean doBlockCapturing() {
+        return false;
     }
 }
@@ -55,6 +55,8 @@
 import org.spongepowered.api.world.World;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.entity.EntityUtil;
+import org.spongepowered.common.event.ShouldFire;
+import org.spongepowered.common.event.SkippedEvents;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.TrackingUtil;
 import org.spongepowered.common.interfaces.world.IMixinLocation;
@@ -272,10 +274,10 @@ public void processPostTick(PhaseContext phaseContext) {
                         }
                     }
                 });
-        this.fireMovementEvents(EntityUtil.toNative(tickingEntity), Cause.source(tickingEntity).build());
+        this.fireMovementEvents(EntityUtil.toNative(tickingEntity));
     }
 
-    private void fireMovementEvents(net.minecraft.entity.Entity entity, Cause cause) {
+    private void fireMovementEvents(net.minecraft.entity.Entity entity) {
         // Ignore movement event if entity is dead, a projectile, or item.
         // Note: Projectiles are handled with CollideBlockEvent.Impact
         if (entity.isDead || entity instanceof IProjectile || entity instanceof EntityItem) {
@@ -290,6 +292,10 @@ private void fireMovementEvents(net.minecraft.entity.Entity entity, Cause cause)
             || entity.rotationPitch != entity.prevRotationPitch
             || entity.rotationYaw != entity.prevRotationYaw) {
             // yes we have a move event.
+            if (!ShouldFire.MOVE_ENTITY_EVENT) {
+                SkippedEvents.skip(MoveEntityEvent.class);
+                return;
+            }
             final double currentPosX = entity.posX;
             final double currentPosY = entity.posY;
             final double currentPosZ = entity.posZ;
@@ -303,6 +309,7 @@ private void fireMovementEvents(net.minecraft.entity.Entity entity, Cause cause)
                     spongeEntity.getScale());
             final Transform<World> newTransform = new Transform<>(spongeEntity.getWorld(), currentPositionVector, currentRotationVector,
                     spongeEntity.getScale());
+            final Cause cause = Cause.source(spongeEntity).build();
             final MoveEntityEvent event = SpongeEventFactory.createMoveEntityEvent(cause, oldTransform, newTransform, spongeEntity);
 
             if (SpongeImpl.postEvent(event)) {
@@ -82,6 +82,23 @@ public void handleBlockChangeWithUser(@Nullable BlockChange blockChange,
     }
 
 
+    @Override
+    public boolean canElideBlockCaptures(PhaseContext context) {
+        // Captured changes are only used for events and to pass on the notifier, see handleBlockChangeWithUser
+        if (context.getNotifier().isPresent() || context.getOwner().isPresent()) {
+            return false;
+        }
+        final Location<World> location = getLocationSourceFromContext(context);
+        final BlockPos pos = ((IMixinLocation) (Object) location).getBlockPos();
+        final IMixinChunk mixinChunk = (IMixinChunk) ((WorldServer) location.getExtent()).getChunkFromBlockCoords(pos);
+        return !mixinChunk.getTrackedBlocks().contains(pos.getX(), pos.getY(), pos.getZ());
+    }
+
+    @Override
+    public boolean canElideEntityCaptures(PhaseContext context) {
+        return true;
+    }
+
     @Override
     public boolean canSwitchTo(IPhaseState state) {
         return super.canSwitchTo(state) || state == GenerationPhase.State.CHUNK_LOADING;
@@ -36,9 +36,9 @@
 import org.spongepowered.api.world.Chunk;
 import org.spongepowered.api.world.extent.EntityUniverse;
 import org.spongepowered.common.entity.PlayerTracker;
+import org.spongepowered.common.world.TrackedBlockStore;
 
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -49,14 +49,16 @@
 
 public interface IMixinChunk {
 
-    Map<Short, PlayerTracker> getTrackedShortPlayerPositions();
-
-    Map<Integer, PlayerTracker> getTrackedIntPlayerPositions();
+    TrackedBlockStore getTrackedBlocks();
 
     Optional<User> getBlockOwner(BlockPos pos);
 
     Optional<User> getBlockNotifier(BlockPos pos);
 
+    Optional<UUID> getBlockOwnerUUID(BlockPos pos);
+
+    Optional<UUID> getBlockNotifierUUID(BlockPos pos);
+
     @Nullable
     IBlockState setBlockState(BlockPos pos, IBlockState newState, IBlockState currentState, @Nullable BlockSnapshot originalBlockSnapshot);
 
@@ -69,9 +71,7 @@ public interface IMixinChunk {
 
     void addTrackedBlockPosition(Block block, BlockPos pos, User user, PlayerTracker.Type trackerType);
 
-    void setTrackedIntPlayerPositions(Map<Integer, PlayerTracker> trackedPlayerPositions);
-
-    void setTrackedShortPlayerPositions(Map<Short, PlayerTracker> trackedPlayerPositions);
+    void setTrackedBlocks(TrackedBlockStore trackedBlocks);
 
     void setNeighbor(Direction direction, Chunk neighbor);
 
@@ -24,6 +24,7 @@
  */
 package org.spongepowered.common.interfaces.world;
 
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
 
 import java.nio.file.Path;
@@ -35,4 +36,13 @@ public interface IMixinAnvilChunkLoader {
 
     Path getWorldDir();
 
+    /**
+     * Writes the pending compound of the given chunk to its region file,
+     * repeating the write if the chunk was saved again in the meantime.
+     *
+     * @param pos The chunk position
+     * @return The number of uncompressed bytes written
+     */
+    long writeQueuedChunk(ChunkPos pos);
+
 }
@@ -22,17 +22,18 @@
  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
  * THE SOFTWARE.
  */
-package org.spongepowered.common.util;
+package org.spongepowered.common.interfaces.world;
 
-import net.minecraft.nbt.NBTTagCompound;
-import net.minecraft.util.math.ChunkPos;
+import org.spongepowered.common.world.storage.ChunkSectionSnapshot;
 
-public class QueuedChunk {
-    public ChunkPos coords;
-    public NBTTagCompound compound;
+public interface IMixinBlockStateContainer {
+
+    /**
+     * Copies the packed block states and palette of this container so they
+     * can be encoded on another thread.
+     *
+     * @return The snapshot
+     */
+    ChunkSectionSnapshot createSnapshot();
 
-    public QueuedChunk(ChunkPos coords, NBTTagCompound compound) {
-        this.coords = coords;
-        this.compound = compound;
-    }
 }
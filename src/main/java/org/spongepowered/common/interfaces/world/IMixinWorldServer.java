@@ -42,10 +42,12 @@
 import org.spongepowered.common.config.SpongeConfig;
 import org.spongepowered.common.config.type.WorldConfig;
 import org.spongepowered.common.entity.EntityUtil;
+import org.spongepowered.common.world.ChunkGarbageCollector;
 import org.spongepowered.common.world.gen.SpongeChunkGenerator;
 import org.spongepowered.common.world.gen.SpongeWorldGenerator;
+import org.spongepowered.common.world.lighting.LightingContext;
+import org.spongepowered.common.world.lighting.LightingEngine;
 
-import java.util.List;
 import java.util.concurrent.ExecutorService;
 
 import javax.annotation.Nullable;
@@ -96,10 +98,12 @@ default boolean forceSpawnEntity(Entity entity) {
 
     boolean updateLightAsync(EnumSkyBlock lightType, BlockPos pos);
 
-    boolean checkLightAsync(EnumSkyBlock lightType, BlockPos pos, Chunk chunk, List<Chunk> neighbors);
+    boolean checkLightAsync(EnumSkyBlock lightType, BlockPos pos, LightingContext context);
 
     ExecutorService getLightingExecutor();
 
+    LightingEngine getLightingEngine();
+
     WorldTimingsHandler getTimingsHandler();
 
     int getChunkGCTickInterval();
@@ -112,6 +116,8 @@ default boolean forceSpawnEntity(Entity entity) {
 
     void doChunkGC();
 
+    ChunkGarbageCollector getChunkGC();
+
     default WorldServer asMinecraftWorld() {
         return (WorldServer) this;
     }
@@ -33,6 +33,7 @@
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.world.WorldTickScheduler;
 
 @Mixin(ClassInheritanceMultiMap.class)
 public class MixinClassInheritanceMultiMap {
@@ -40,7 +41,7 @@ public class MixinClassInheritanceMultiMap {
     @Inject(method = "addForClass", at = @At("HEAD"), cancellable = true)
     public void onAddForClass(Object entity, Class<?> parentClass, CallbackInfo ci) {
         // This class gets used on the client, but we only care about the server
-        if (!(SpongeImpl.getGame().getPlatform().getExecutionType() == Platform.Type.CLIENT) && !SpongeImpl.getServer().isCallingFromMinecraftThread()) {
+        if (!(SpongeImpl.getGame().getPlatform().getExecutionType() == Platform.Type.CLIENT) && !isServerThread()) {
             Thread.dumpStack();
             SpongeImpl.getLogger().error("Detected attempt to add entity '" + entity + "' to ClassInheritanceMultiMap asynchronously.\n"
                     + " This is very bad as it can cause ConcurrentModificationException's during a server tick.\n"
@@ -51,7 +52,7 @@ public void onAddForClass(Object entity, Class<?> parentClass, CallbackInfo ci)
 
     @Inject(method = "remove", at = @At("HEAD"), cancellable = true)
     public void onRemove(Object entity, CallbackInfoReturnable<Boolean> cir) {
-        if (!(SpongeImpl.getGame().getPlatform().getExecutionType() == Platform.Type.CLIENT) && !SpongeImpl.getServer().isCallingFromMinecraftThread()) {
+        if (!(SpongeImpl.getGame().getPlatform().getExecutionType() == Platform.Type.CLIENT) && !isServerThread()) {
             Thread.dumpStack();
             SpongeImpl.getLogger().error("Detected attempt to remove entity '" + entity + "' from ClassInheritanceMultiMap asynchronously.\n"
                     + " This is very bad as it can cause ConcurrentModificationException's during a server tick.\n"
@@ -60,4 +61,9 @@ public void onRemove(Object entity, CallbackInfoReturnable<Boolean> cir) {
         }
     }
 
+    // The maps are owned by a single world, which world tick threads only modify while ticking it
+    private static boolean isServerThread() {
+        return SpongeImpl.getServer().isCallingFromMinecraftThread() || WorldTickScheduler.isWorldTickThread();
+    }
+
 }
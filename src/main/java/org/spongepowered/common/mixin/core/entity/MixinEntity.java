@@ -130,6 +130,7 @@
 import org.spongepowered.common.text.SpongeTexts;
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.util.VecHelper;
+import org.spongepowered.common.world.WorldTickScheduler;
 
 import java.util.Collection;
 import java.util.EnumSet;
@@ -849,6 +850,11 @@ public boolean setVehicle(@Nullable Entity entity) {
     public net.minecraft.entity.Entity changeDimension(int toDimensionId) {
         if (!this.world.isRemote && !this.isDead) {
             // Sponge Start - Handle teleportation solely in TrackingUtil where everything can be debugged.
+            if (WorldTickScheduler.isWorldTickThread()) {
+                // Both worlds may be ticking right now, move the entity once they are done
+                WorldTickScheduler.getInstance().deferCrossWorld(() -> this.changeDimension(toDimensionId));
+                return null;
+            }
             return EntityUtil.transferEntityToDimension(this, toDimensionId);
             // Sponge End
         }
@@ -42,6 +42,7 @@
 import org.spongepowered.common.entity.living.human.EntityHuman;
 import org.spongepowered.common.event.tracking.CauseTracker;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+import org.spongepowered.common.world.WorldTickScheduler;
 
 @Mixin(EntityTracker.class)
 public abstract class MixinEntityTracker {
@@ -71,7 +72,7 @@ private IllegalStateException reportEntityAlreadyTrackedWithWorld(String string,
 
     @Inject(method = "track(Lnet/minecraft/entity/Entity;IIZ)V", at = @At("HEAD"), cancellable = true)
     public void onAddEntityToTracker(Entity entityIn, int trackingRange, final int updateFrequency, boolean sendVelocityUpdates, CallbackInfo ci) {
-        if (!SpongeImpl.getServer().isCallingFromMinecraftThread() ) {
+        if (!WorldTickScheduler.isOwningThread(this.world)) {
             Thread.dumpStack();
             SpongeImpl.getLogger().error("Detected attempt to add entity '" + entityIn + "' to tracker asynchronously.\n"
                     + " This is very bad as it can cause ConcurrentModificationException's during a server tick.\n"
@@ -82,7 +83,7 @@ public void onAddEntityToTracker(Entity entityIn, int trackingRange, final int u
 
     @Inject(method = "untrack", at = @At("HEAD"), cancellable = true)
     public void onUntrackEntity(Entity entityIn, CallbackInfo ci) {
-        if (!SpongeImpl.getServer().isCallingFromMinecraftThread() ) {
+        if (!WorldTickScheduler.isOwningThread(this.world)) {
             Thread.dumpStack();
             SpongeImpl.getLogger().error("Detected attempt to untrack entity '" + entityIn + "' asynchronously.\n"
                     + "This is very bad as it can cause ConcurrentModificationException's during a server tick.\n"
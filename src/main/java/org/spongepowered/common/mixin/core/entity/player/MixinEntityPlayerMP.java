@@ -163,6 +163,7 @@
 import org.spongepowered.common.util.NetworkUtil;
 import org.spongepowered.common.util.SkinUtil;
 import org.spongepowered.common.util.VecHelper;
+import org.spongepowered.common.world.WorldTickScheduler;
 import org.spongepowered.common.world.storage.SpongePlayerDataHandler;
 
 import java.time.Instant;
@@ -339,6 +340,11 @@ public IMixinWorldServer getMixinWorld() {
     @Override
     @Overwrite
     public Entity changeDimension(int dimensionId) {
+        if (WorldTickScheduler.isWorldTickThread()) {
+            // Both worlds may be ticking right now, move the player once they are done
+            WorldTickScheduler.getInstance().deferCrossWorld(() -> this.changeDimension(dimensionId));
+            return null;
+        }
         return EntityUtil.teleportPlayerToDimension(this, dimensionId);
     }
 
@@ -98,6 +98,8 @@
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.entity.player.tab.SpongeTabList;
 import org.spongepowered.common.event.InternalNamedCauses;
+import org.spongepowered.common.event.ShouldFire;
+import org.spongepowered.common.event.SkippedEvents;
 import org.spongepowered.common.event.SpongeCommonEventFactory;
 import org.spongepowered.common.event.tracking.CauseTracker;
 import org.spongepowered.common.event.tracking.PhaseContext;
@@ -457,29 +459,34 @@ private boolean throwMoveEvent(EntityPlayerMP playerMP, CPacketPlayer packetIn)
             // These magic numbers are sad but help prevent excessive lag from this event.
             // eventually it would be nice to not have them
             if (deltaSquared > ((1f / 16) * (1f / 16)) || deltaAngleSquared > (.15f * .15f)) {
-                Transform<World> fromTransform = player.getTransform().setLocation(from).setRotation(fromrot);
-                Transform<World> toTransform = player.getTransform().setLocation(to).setRotation(torot);
-                MoveEntityEvent event = SpongeEventFactory.createMoveEntityEvent(Cause.of(NamedCause.source(player)), fromTransform, toTransform, player);
-                SpongeImpl.postEvent(event);
-                if (event.isCancelled()) {
-                    mixinPlayer.setLocationAndAngles(fromTransform);
-                    this.lastMoveLocation = from;
-                    ((IMixinEntityPlayerMP) this.player).setVelocityOverride(null);
-                    return true;
-                } else if (!event.getToTransform().equals(toTransform)) {
-                    mixinPlayer.setLocationAndAngles(event.getToTransform());
-                    this.lastMoveLocation = event.getToTransform().getLocation();
-                    ((IMixinEntityPlayerMP) this.player).setVelocityOverride(null);
-                    return true;
-                } else if (!from.equals(player.getLocation()) && this.justTeleported) {
+                if (ShouldFire.MOVE_ENTITY_EVENT) {
+                    Transform<World> fromTransform = player.getTransform().setLocation(from).setRotation(fromrot);
+                    Transform<World> toTransform = player.getTransform().setLocation(to).setRotation(torot);
+                    MoveEntityEvent event = SpongeEventFactory.createMoveEntityEvent(Cause.of(NamedCause.source(player)), fromTransform, toTransform,
+                            player);
+                    SpongeImpl.postEvent(event);
+                    if (event.isCancelled()) {
+                        mixinPlayer.setLocationAndAngles(fromTransform);
+                        this.lastMoveLocation = from;
+                        ((IMixinEntityPlayerMP) this.player).setVelocityOverride(null);
+                        return true;
+                    } else if (!event.getToTransform().equals(toTransform)) {
+                        mixinPlayer.setLocationAndAngles(event.getToTransform());
+                        this.lastMoveLocation = event.getToTransform().getLocation();
+                        ((IMixinEntityPlayerMP) this.player).setVelocityOverride(null);
+                        return true;
+                    }
+                } else {
+                    SkippedEvents.skip(MoveEntityEvent.class);
+                }
+                if (!from.equals(player.getLocation()) && this.justTeleported) {
                     this.lastMoveLocation = player.getLocation();
                     // Prevent teleports during the move event from causing odd behaviors
                     this.justTeleported = false;
                     ((IMixinEntityPlayerMP) this.player).setVelocityOverride(null);
                     return true;
-                } else {
-                    this.lastMoveLocation = event.getToTransform().getLocation();
                 }
+                this.lastMoveLocation = to;
                 this.resendLatestResourcePackRequest();
             }
         }
@@ -508,6 +515,10 @@ private Entity processVehicleMoveEvent(EntityPlayerMP playerMP, CPacketVehicleMo
         }
 
         // Sponge Start - Movement event
+        if (!ShouldFire.MOVE_ENTITY_EVENT) {
+            SkippedEvents.skip(MoveEntityEvent.class);
+            return ridingEntity;
+        }
         org.spongepowered.api.entity.Entity spongeEntity = (org.spongepowered.api.entity.Entity) ridingEntity;
         Vector3d fromrot = spongeEntity.getRotation();
 
@@ -93,6 +93,7 @@
 import org.spongepowered.common.command.SpongeCommandManager;
 import org.spongepowered.common.event.InternalNamedCauses;
 import org.spongepowered.common.event.SpongeCommonEventFactory;
+import org.spongepowered.common.event.tracking.CaptureElision;
 import org.spongepowered.common.event.tracking.CauseTracker;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.phase.generation.GenerationPhase;
@@ -108,6 +109,7 @@
 import org.spongepowered.common.text.SpongeTexts;
 import org.spongepowered.common.util.VecHelper;
 import org.spongepowered.common.world.WorldManager;
+import org.spongepowered.common.world.WorldTickScheduler;
 import org.spongepowered.common.world.storage.SpongeChunkLayout;
 
 import java.net.InetSocketAddress;
@@ -622,9 +624,10 @@ public EntityTracker onUpdateTimeLightAndEntitiesGetEntityTracker(WorldServer wo
         // Chunk unloads must run after a world tick to guarantee any chunks accessed during the world tick have
         // been marked active and will not unload.
         // Note: This injection must come after Forge's post world tick event or it will cause issues with mods.
+        // Note: When worlds tick in parallel, this is deferred until every world has finished ticking.
         IMixinWorldServer spongeWorld = (IMixinWorldServer) worldServer;
         if (spongeWorld.getChunkGCTickInterval() > 0) {
-            worldServer.getChunkProvider().tick();
+            WorldTickScheduler.getInstance().afterWorldTicks(() -> worldServer.getChunkProvider().tick());
         }
         return worldServer.getEntityTracker();
     }
@@ -632,6 +635,7 @@ public EntityTracker onUpdateTimeLightAndEntitiesGetEntityTracker(WorldServer wo
     @Inject(method = "tick", at = @At(value = "HEAD"))
     public void onServerTickStart(CallbackInfo ci) {
         TimingsManager.FULL_SERVER_TICK.startTiming();
+        CaptureElision.refresh();
     }
 
     @Inject(method = "tick", at = @At(value = "RETURN"))
@@ -71,6 +71,7 @@ private void onUnloadChunk(ChunkProviderServer chunkProvider, Chunk chunk) {
             chunkProvider.queueUnload(chunk);
         } else {
             ((IMixinChunk) chunk).setScheduledForUnload(System.currentTimeMillis());
+            ((IMixinWorldServer) this.world).getChunkGC().addCandidate(chunk.xPosition, chunk.zPosition);
         }
     }
 
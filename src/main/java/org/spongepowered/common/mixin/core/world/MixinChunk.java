@@ -44,7 +44,6 @@
 import net.minecraft.util.ClassInheritanceMultiMap;
 import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
-import net.minecraft.util.math.ChunkPos;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.EnumDifficulty;
 import net.minecraft.world.EnumSkyBlock;
@@ -67,7 +66,6 @@
 import org.spongepowered.api.entity.living.player.User;
 import org.spongepowered.api.event.cause.Cause;
 import org.spongepowered.api.event.cause.NamedCause;
-import org.spongepowered.api.event.entity.CollideEntityEvent;
 import org.spongepowered.api.item.inventory.ItemStack;
 import org.spongepowered.api.util.AABB;
 import org.spongepowered.api.util.Direction;
@@ -97,13 +95,13 @@
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.PhaseData;
 import org.spongepowered.common.event.tracking.phase.generation.GenerationPhase;
-import org.spongepowered.common.interfaces.IMixinCachable;
 import org.spongepowered.common.interfaces.IMixinChunk;
 import org.spongepowered.common.interfaces.server.management.IMixinPlayerChunkMapEntry;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.util.VecHelper;
+import org.spongepowered.common.world.TrackedBlockStore;
 import org.spongepowered.common.world.extent.ExtentViewDownsize;
 import org.spongepowered.common.world.extent.worker.SpongeMutableBiomeVolumeWorker;
 import org.spongepowered.common.world.extent.worker.SpongeMutableBlockVolumeWorker;
@@ -127,7 +125,7 @@
 
 @NonnullByDefault
 @Mixin(net.minecraft.world.chunk.Chunk.class)
-public abstract class MixinChunk implements Chunk, IMixinChunk, IMixinCachable {
+public abstract class MixinChunk implements Chunk, IMixinChunk {
 
     private org.spongepowered.api.world.World sponge_world;
     private UUID uuid;
@@ -135,10 +133,11 @@ public abstract class MixinChunk implements Chunk, IMixinChunk, IMixinCachable {
     private boolean persistedChunk = false;
     private boolean isSpawning = false;
     private net.minecraft.world.chunk.Chunk[] neighbors = new net.minecraft.world.chunk.Chunk[4];
-    private long cacheKey;
     private static final Direction[] CARDINAL_DIRECTIONS = new Direction[] {Direction.NORTH, Direction.SOUTH, Direction.EAST, Direction.WEST};
 
     private static final Vector3i BIOME_SIZE = new Vector3i(SpongeChunkLayout.CHUNK_SIZE.getX(), 1, SpongeChunkLayout.CHUNK_SIZE.getZ());
+    // Chunks without block tracking never add to this
+    private static final TrackedBlockStore EMPTY_TRACKED_BLOCKS = new TrackedBlockStore();
     private Vector3i chunkPos;
     private Vector3i blockMin;
     private Vector3i blockMax;
@@ -187,12 +186,6 @@ public void onConstructed(World world, int x, int z, CallbackInfo ci) {
             this.uuid = new UUID(this.sponge_world.getUniqueId().getMostSignificantBits() ^ (x * 2 + 1),
                     this.sponge_world.getUniqueId().getLeastSignificantBits() ^ (z * 2 + 1));
         }
-        this.cacheKey = ChunkPos.asLong(this.xPosition, this.zPosition);
-    }
-
-    @Override
-    public long getCacheKey() {
-        return this.cacheKey;
     }
 
     @Override
@@ -202,6 +195,10 @@ public boolean isPersistedChunk() {
 
     @Override
     public void setPersistedChunk(boolean flag) {
+        if (this.persistedChunk && !flag && !this.world.isRemote) {
+            // The chunk gc stops checking persisted chunks, so it has to look at it again
+            ((IMixinWorldServer) this.world).getChunkGC().addCandidate(this.xPosition, this.zPosition);
+        }
         this.persistedChunk = flag;
     }
 
@@ -219,6 +216,8 @@ public void setIsSpawning(boolean spawning) {
     public void onChunkLoadInject(CallbackInfo ci) {
         if (!this.world.isRemote) {
             SpongeHooks.logChunkLoad(this.world, this.chunkPos);
+            // Every newly loaded chunk is checked once by the chunk gc, players watching it drop it from the candidates
+            ((IMixinWorldServer) this.world).getChunkGC().addCandidate(this.xPosition, this.zPosition);
         }
 
         for (Direction direction : CARDINAL_DIRECTIONS) {
@@ -239,6 +238,7 @@ public void onChunkLoadInject(CallbackInfo ci) {
     public void onChunkUnloadInject(CallbackInfo ci) {
         if (!this.world.isRemote) {
             SpongeHooks.logChunkUnload(this.world, this.chunkPos);
+            ((IMixinWorldServer) this.world).getChunkGC().removeCandidate(this.xPosition, this.zPosition);
         }
 
         for (Direction direction : CARDINAL_DIRECTIONS) {
@@ -461,13 +461,7 @@ public void onGetEntitiesWithinAABBForEntity(Entity entityIn, AxisAlignedBB aabb
             return;
         }
 
-        CollideEntityEvent event = SpongeCommonEventFactory.callCollideEntityEvent(this.world, entityIn, listToFill);
-        final PhaseData peek = CauseTracker.getInstance().getCurrentPhaseData();
-
-        if (event == null || event.isCancelled()) {
-            if (event == null && !peek.state.getPhase().isTicking(peek.state)) {
-                return;
-            }
+        if (SpongeCommonEventFactory.callCollideEntityEvent(this.world, entityIn, listToFill)) {
             listToFill.clear();
         }
     }
@@ -484,13 +478,7 @@ public void onGetEntitiesOfTypeWithinAAAB(Class<? extends Entity> entityClass, A
             return;
         }
 
-        CollideEntityEvent event = SpongeCommonEventFactory.callCollideEntityEvent(this.world, null, listToFill);
-        final PhaseData peek = CauseTracker.getInstance().getCurrentPhaseData();
-
-        if (event == null || event.isCancelled()) {
-            if (event == null && !peek.state.getPhase().isTicking(peek.state)) {
-                return;
-            }
+        if (SpongeCommonEventFactory.callCollideEntityEvent(this.world, null, listToFill)) {
             listToFill.clear();
         }
     }
@@ -677,13 +665,8 @@ public void addTrackedBlockPosition(Block block, BlockPos pos, User user, Player
     }
 
     @Override
-    public Map<Integer, PlayerTracker> getTrackedIntPlayerPositions() {
-        return Collections.emptyMap();
-    }
-
-    @Override
-    public Map<Short, PlayerTracker> getTrackedShortPlayerPositions() {
-        return Collections.emptyMap();
+    public TrackedBlockStore getTrackedBlocks() {
+        return EMPTY_TRACKED_BLOCKS;
     }
 
     @Override
@@ -697,21 +680,27 @@ public Optional<User> getBlockNotifier(BlockPos pos) {
     }
 
     @Override
-    public void setBlockNotifier(BlockPos pos, @Nullable UUID uuid) {
+    public Optional<UUID> getBlockOwnerUUID(BlockPos pos) {
+        return Optional.empty();
+    }
 
+    @Override
+    public Optional<UUID> getBlockNotifierUUID(BlockPos pos) {
+        return Optional.empty();
     }
 
     @Override
-    public void setBlockCreator(BlockPos pos, @Nullable UUID uuid) {
+    public void setBlockNotifier(BlockPos pos, @Nullable UUID uuid) {
 
     }
 
     @Override
-    public void setTrackedIntPlayerPositions(Map<Integer, PlayerTracker> trackedPositions) {
+    public void setBlockCreator(BlockPos pos, @Nullable UUID uuid) {
+
     }
 
     @Override
-    public void setTrackedShortPlayerPositions(Map<Short, PlayerTracker> trackedPositions) {
+    public void setTrackedBlocks(TrackedBlockStore trackedBlocks) {
     }
 
     // Continuing the rest of the implementation
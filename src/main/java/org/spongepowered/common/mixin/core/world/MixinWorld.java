@@ -138,6 +138,7 @@
 import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.util.VecHelper;
+import org.spongepowered.common.world.WorldTickScheduler;
 import org.spongepowered.common.world.extent.ExtentViewDownsize;
 import org.spongepowered.common.world.extent.worker.SpongeMutableBiomeVolumeWorker;
 import org.spongepowered.common.world.extent.worker.SpongeMutableBlockVolumeWorker;
@@ -175,7 +176,6 @@ public abstract class MixinWorld implements World, IMixinWorld {
     private static final String
             GET_ENTITIES_WITHIN_AABB =
             "Lnet/minecraft/world/World;getEntitiesWithinAABBExcludingEntity(Lnet/minecraft/entity/Entity;Lnet/minecraft/util/math/AxisAlignedBB;)Ljava/util/List;";
-    public SpongeBlockSnapshotBuilder builder = new SpongeBlockSnapshotBuilder();
     @Nullable private Context worldContext;
     protected boolean processingExplosion = false;
 
@@ -1250,7 +1250,7 @@ public net.minecraft.tileentity.TileEntity getTileEntity(BlockPos pos) {
             if (tileentity == null) {
                 // Sponge - Don't create tileentity async, simply check if TE exists in chunk
                 // Mods such as pixelmon call this method async, so this is a temporary workaround until fixed
-                if (!this.isRemote && !SpongeImpl.getServer().isCallingFromMinecraftThread()) {
+                if (!this.isRemote && !WorldTickScheduler.isOwningThread((net.minecraft.world.World) (Object) this)) {
                     return this.getChunkFromBlockCoords(pos).getTileEntity(pos, net.minecraft.world.chunk.Chunk.EnumCreateEntityType.CHECK);
                 } else {
                     tileentity = this.getChunkFromBlockCoords(pos).getTileEntity(pos, net.minecraft.world.chunk.Chunk.EnumCreateEntityType.IMMEDIATE);
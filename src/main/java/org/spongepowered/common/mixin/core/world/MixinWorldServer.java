@@ -88,9 +88,9 @@
 import org.spongepowered.api.block.BlockSnapshot;
 import org.spongepowered.api.block.BlockState;
 import org.spongepowered.api.block.ScheduledBlockUpdate;
-import org.spongepowered.api.block.tileentity.TileEntity;
 import org.spongepowered.api.data.DataContainer;
 import org.spongepowered.api.data.manipulator.DataManipulator;
+import org.spongepowered.api.data.manipulator.ImmutableDataManipulator;
 import org.spongepowered.api.data.persistence.DataFormats;
 import org.spongepowered.api.effect.particle.ParticleEffect;
 import org.spongepowered.api.effect.sound.SoundCategory;
@@ -169,7 +169,6 @@
 import org.spongepowered.common.interfaces.block.tile.IMixinTileEntity;
 import org.spongepowered.common.interfaces.data.IMixinCustomDataHolder;
 import org.spongepowered.common.interfaces.entity.IMixinEntity;
-import org.spongepowered.common.interfaces.server.management.IMixinPlayerChunkMap;
 import org.spongepowered.common.interfaces.util.math.IMixinBlockPos;
 import org.spongepowered.common.interfaces.world.IMixinExplosion;
 import org.spongepowered.common.interfaces.world.IMixinServerWorldEventHandler;
@@ -184,6 +183,7 @@
 import org.spongepowered.common.registry.type.event.InternalSpawnTypes;
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.util.VecHelper;
+import org.spongepowered.common.world.ChunkGarbageCollector;
 import org.spongepowered.common.world.WorldManager;
 import org.spongepowered.common.world.border.PlayerBorderListener;
 import org.spongepowered.common.world.gen.SpongeChunkGenerator;
@@ -197,6 +197,7 @@
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -231,6 +232,7 @@ public abstract class MixinWorldServer extends MixinWorld implements IMixinWorld
     private int chunkGCTickCount = 0;
     private int chunkGCLoadThreshold = 0;
     private int chunkGCTickInterval = 600;
+    private final ChunkGarbageCollector chunkGC = new ChunkGarbageCollector((WorldServer) (Object) this);
     private long chunkUnloadDelay = 30000;
     private boolean weatherThunderEnabled = true;
     private boolean weatherIceAndSnowEnabled = true;
@@ -289,6 +291,7 @@ public void onConstruct(MinecraftServer server, ISaveHandler saveHandlerIn, Worl
         // Need to set the active config before we call it.
         this.chunkGCLoadThreshold = SpongeHooks.getActiveConfig((WorldServer) (Object) this).getConfig().getWorld().getChunkLoadThreadhold();
         this.chunkGCTickInterval = this.getActiveConfig().getConfig().getWorld().getTickInterval();
+        this.chunkGC.setTickBudget(this.getActiveConfig().getConfig().getWorld().getChunkGCTickBudget());
         this.weatherIceAndSnowEnabled = this.getActiveConfig().getConfig().getWorld().getWeatherIceAndSnow();
         this.weatherThunderEnabled = this.getActiveConfig().getConfig().getWorld().getWeatherThunder();
         this.updateEntityTick = 0;
@@ -372,6 +375,7 @@ public void setActiveConfig(SpongeConfig<?> config) {
         // update cached settings
         this.chunkGCLoadThreshold = this.activeConfig.getConfig().getWorld().getChunkLoadThreadhold();
         this.chunkGCTickInterval = this.activeConfig.getConfig().getWorld().getTickInterval();
+        this.chunkGC.setTickBudget(this.activeConfig.getConfig().getWorld().getChunkGCTickBudget());
         this.weatherIceAndSnowEnabled = this.activeConfig.getConfig().getWorld().getWeatherIceAndSnow();
         this.weatherThunderEnabled = this.activeConfig.getConfig().getWorld().getWeatherThunder();
         this.chunkUnloadDelay = this.activeConfig.getConfig().getWorld().getChunkUnloadDelay() * 1000;
@@ -872,31 +876,25 @@ public boolean onTicktick(IChunkProvider chunkProvider) {
     public void doChunkGC() {
         this.chunkGCTickCount++;
 
-        ChunkProviderServer chunkProviderServer = this.getChunkProvider();
-        int chunkLoadCount = this.getChunkProvider().getLoadedChunkCount();
-        if (chunkLoadCount >= this.chunkGCLoadThreshold && this.chunkGCLoadThreshold > 0) {
-            chunkLoadCount = 0;
-        } else if (this.chunkGCTickCount >= this.chunkGCTickInterval && this.chunkGCTickInterval > 0) {
-            this.chunkGCTickCount = 0;
-        } else {
-            return;
-        }
-
-        for (net.minecraft.world.chunk.Chunk chunk : chunkProviderServer.getLoadedChunks()) {
-            IMixinChunk spongeChunk = (IMixinChunk) chunk;
-            if (chunk.unloadQueued || spongeChunk.isPersistedChunk() || !this.provider.canDropChunk(chunk.xPosition, chunk.zPosition)) {
-                continue;
+        // A pass that ran out of budget on a previous tick continues before a new one may start
+        if (!this.chunkGC.isPassRunning()) {
+            int chunkLoadCount = this.getChunkProvider().getLoadedChunkCount();
+            if (chunkLoadCount >= this.chunkGCLoadThreshold && this.chunkGCLoadThreshold > 0) {
+                chunkLoadCount = 0;
+            } else if (this.chunkGCTickCount >= this.chunkGCTickInterval && this.chunkGCTickInterval > 0) {
+                this.chunkGCTickCount = 0;
+            } else {
+                return;
             }
+            this.chunkGC.startPass();
+        }
 
-            // If a player is currently using the chunk, skip it
-            if (((IMixinPlayerChunkMap) this.getPlayerChunkMap()).isChunkInUse(chunk.xPosition, chunk.zPosition)) {
-                continue;
-            }
+        this.chunkGC.tick();
+    }
 
-            // If we reach this point the chunk leaked so queue for unload
-            chunkProviderServer.queueUnload(chunk);
-            SpongeHooks.logChunkGCQueueUnload(chunkProviderServer.world, chunk);
-        }
+    @Override
+    public ChunkGarbageCollector getChunkGC() {
+        return this.chunkGC;
     }
 
     @Override
@@ -1550,38 +1548,41 @@ private boolean forceSpawnEntity(net.minecraft.entity.Entity entity, int chunkX,
 
     @Override
     public SpongeBlockSnapshot createSpongeBlockSnapshot(IBlockState state, IBlockState extended, BlockPos pos, int updateFlag) {
-        this.builder.reset();
-        this.builder.blockState((BlockState) state)
-                .extendedState((BlockState) extended)
-                .worldId(this.getUniqueId())
-                .position(VecHelper.toVector3i(pos));
-        Optional<UUID> creator = getCreator(pos.getX(), pos.getY(), pos.getZ());
-        Optional<UUID> notifier = getNotifier(pos.getX(), pos.getY(), pos.getZ());
-        if (creator.isPresent()) {
-            this.builder.creator(creator.get());
-        }
-        if (notifier.isPresent()) {
-            this.builder.notifier(notifier.get());
+        // Captures happen for every tracked block change, so the snapshot is built directly
+        // from the raw values instead of going through the shared builder.
+        UUID creator = null;
+        UUID notifier = null;
+        final Chunk chunk = ((IMixinChunkProviderServer) this.chunkProvider).getLoadedChunkWithoutMarkingActive(pos.getX() >> 4, pos.getZ() >> 4);
+        if (chunk != null) {
+            creator = ((IMixinChunk) chunk).getBlockOwnerUUID(pos).orElse(null);
+            notifier = ((IMixinChunk) chunk).getBlockNotifierUUID(pos).orElse(null);
         }
+        List<ImmutableDataManipulator<?, ?>> manipulators = Collections.emptyList();
+        NBTTagCompound nbt = null;
         if (state.getBlock() instanceof ITileEntityProvider) {
             net.minecraft.tileentity.TileEntity te = getTileEntity(pos);
             if (te != null) {
-                TileEntity tile = (TileEntity) te;
-                for (DataManipulator<?, ?> manipulator : ((IMixinCustomDataHolder) tile).getCustomManipulators()) {
-                    this.builder.add(manipulator);
+                final List<DataManipulator<?, ?>> customManipulators = ((IMixinCustomDataHolder) te).getCustomManipulators();
+                if (!customManipulators.isEmpty()) {
+                    manipulators = new ArrayList<>(customManipulators.size());
+                    for (DataManipulator<?, ?> manipulator : customManipulators) {
+                        manipulators.add(manipulator.asImmutable());
+                    }
                 }
-                NBTTagCompound nbt = new NBTTagCompound();
+                // The tile entity is written eagerly, drops and other side effects can mutate
+                // it (e.g. emptying an inventory) before the capture is processed.
+                final NBTTagCompound tileNbt = new NBTTagCompound();
                 // Some mods like OpenComputers assert if attempting to save robot while moving
                 try {
-                    te.writeToNBT(nbt);
-                    this.builder.unsafeNbt(nbt);
+                    te.writeToNBT(tileNbt);
+                    nbt = tileNbt;
                 }
                 catch(Throwable t) {
                     // ignore
                 }
             }
         }
-        return new SpongeBlockSnapshot(this.builder, BlockChangeFlag.ALL.setUpdateNeighbors((updateFlag & 1) != 0), updateFlag);
+        return new SpongeBlockSnapshot(state, extended, this.getUniqueId(), pos, creator, notifier, manipulators, nbt, updateFlag);
     }
 
     /**
@@ -25,16 +25,20 @@
 package org.spongepowered.common.mixin.core.world.chunk.storage;
 
 import com.flowpowered.math.vector.Vector3d;
-import com.google.common.collect.Maps;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityList;
 import net.minecraft.entity.item.EntityMinecart;
+import net.minecraft.nbt.CompressedStreamTools;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
+import net.minecraft.world.chunk.BlockStateContainer;
+import net.minecraft.world.chunk.NibbleArray;
 import net.minecraft.world.chunk.storage.AnvilChunkLoader;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+import net.minecraft.world.chunk.storage.RegionFile;
 import net.minecraft.world.chunk.storage.RegionFileCache;
 import net.minecraft.world.storage.ThreadedFileIOBase;
 import org.apache.logging.log4j.Logger;
@@ -62,24 +66,35 @@
 import org.spongepowered.common.SpongeImplHooks;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.data.util.NbtDataUtil;
-import org.spongepowered.common.entity.PlayerTracker;
 import org.spongepowered.common.interfaces.IMixinChunk;
 import org.spongepowered.common.interfaces.world.IMixinAnvilChunkLoader;
+import org.spongepowered.common.interfaces.world.IMixinBlockStateContainer;
 import org.spongepowered.common.registry.type.entity.EntityTypeRegistryModule;
-import org.spongepowered.common.util.QueuedChunk;
+import org.spongepowered.common.world.TrackedBlockStore;
+import org.spongepowered.common.world.storage.ChunkSaveQueue;
+import org.spongepowered.common.world.storage.ChunkSectionEncode;
+import org.spongepowered.common.world.storage.ChunkSectionSnapshot;
+import org.spongepowered.common.world.storage.ChunkSerializationExecutor;
 
+import java.io.DataOutputStream;
 import java.io.File;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nullable;
 
 @Mixin(AnvilChunkLoader.class)
 @Implements(@Interface(iface = IMixinAnvilChunkLoader.class, prefix = "loader$"))
 public abstract class MixinAnvilChunkLoader implements IMixinAnvilChunkLoader {
 
-    private ConcurrentLinkedQueue<QueuedChunk> queue = new ConcurrentLinkedQueue<>();
     private final Object lock = new Object();
+    private final Map<ChunkPos, CompletableFuture<Void>> pendingSerializations = new ConcurrentHashMap<>();
+    @Nullable private List<ChunkSectionEncode> capturedSections;
 
     private static final String ENTITY_LIST_CREATE_FROM_NBT =
             "Lnet/minecraft/entity/EntityList;createEntityFromNBT(Lnet/minecraft/nbt/NBTTagCompound;Lnet/minecraft/world/World;)Lnet/minecraft/entity/Entity;";
@@ -90,41 +105,65 @@ public abstract class MixinAnvilChunkLoader implements IMixinAnvilChunkLoader {
     @Shadow @Final private File chunkSaveLocation;
     @Shadow private boolean savingExtraData;
 
-    @Shadow
-    public abstract void writeChunkData(ChunkPos pos, NBTTagCompound compound);
+    @Inject(method = "saveChunk", at = @At("HEAD"))
+    private void onSaveChunkHead(World worldIn, net.minecraft.world.chunk.Chunk chunkIn, CallbackInfo ci) {
+        this.capturedSections = SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useAsyncChunkSerialization() ? new ArrayList<>() : null;
+    }
+
+    @Inject(method = "saveChunk", at = @At("RETURN"))
+    private void onSaveChunkReturn(World worldIn, net.minecraft.world.chunk.Chunk chunkIn, CallbackInfo ci) {
+        this.capturedSections = null;
+    }
+
+    @Redirect(method = "writeChunkToNBT", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/chunk/BlockStateContainer;getDataForNBT([BLnet/minecraft/world/chunk/NibbleArray;)Lnet/minecraft/world/chunk/NibbleArray;"))
+    private NibbleArray onGetDataForNBT(BlockStateContainer container, byte[] blockIds, NibbleArray data) {
+        if (this.capturedSections == null) {
+            return container.getDataForNBT(blockIds, data);
+        }
+        // Only copy the packed states here, the arrays are filled in by a serialization thread
+        final ChunkSectionSnapshot snapshot = ((IMixinBlockStateContainer) container).createSnapshot();
+        this.capturedSections.add(new ChunkSectionEncode(this.capturedSections.size(), snapshot, blockIds, data));
+        return null;
+    }
+
+    @Redirect(method = "writeChunkToNBT", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/chunk/storage/ExtendedBlockStorage;getBlocklightArray()Lnet/minecraft/world/chunk/NibbleArray;"))
+    private NibbleArray onGetBlocklightArray(ExtendedBlockStorage storage) {
+        // The compound is no longer written right away, so it must not reference the live light arrays
+        return this.capturedSections == null ? storage.getBlocklightArray() : new NibbleArray(storage.getBlocklightArray().getData().clone());
+    }
+
+    @Redirect(method = "writeChunkToNBT", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/chunk/storage/ExtendedBlockStorage;getSkylightArray()Lnet/minecraft/world/chunk/NibbleArray;"))
+    private NibbleArray onGetSkylightArray(ExtendedBlockStorage storage) {
+        return this.capturedSections == null ? storage.getSkylightArray() : new NibbleArray(storage.getSkylightArray().getData().clone());
+    }
+
+    @Inject(method = "loadChunk", at = @At("HEAD"))
+    private void onLoadChunk(World worldIn, int x, int z, CallbackInfoReturnable<net.minecraft.world.chunk.Chunk> cir) {
+        // A chunk still being serialized has not reached the pending map yet, wait for it rather than reading stale data
+        final CompletableFuture<Void> serialization = this.pendingSerializations.get(new ChunkPos(x, z));
+        if (serialization != null) {
+            serialization.join();
+        }
+    }
 
     @Inject(method = "writeChunkToNBT", at = @At(value = "RETURN"))
     public void onWriteChunkToNBT(net.minecraft.world.chunk.Chunk chunkIn, World worldIn, NBTTagCompound compound, CallbackInfo ci) {
-        IMixinChunk chunk = (IMixinChunk) chunkIn;
+        final TrackedBlockStore trackedBlocks = ((IMixinChunk) chunkIn).getTrackedBlocks();
 
-        // Add tracked block positions
-        if (chunk.getTrackedShortPlayerPositions().size() > 0 || chunk.getTrackedIntPlayerPositions().size() > 0) {
+        // Add tracked block positions, as packed position, owner and notifier triples
+        if (!trackedBlocks.isEmpty()) {
+            final int[] data = new int[trackedBlocks.size() * 3];
+            final int[] cursor = new int[1];
+            trackedBlocks.forEach((x, y, z, owner, notifier) -> {
+                final int i = cursor[0];
+                data[i] = packTrackedPosition(x, y, z);
+                data[i + 1] = owner;
+                data[i + 2] = notifier;
+                cursor[0] = i + 3;
+            });
             NBTTagCompound trackedNbt = new NBTTagCompound();
-            NBTTagList positions = new NBTTagList();
-            trackedNbt.setTag(NbtDataUtil.SPONGE_BLOCK_POS_TABLE, positions);
+            trackedNbt.setIntArray(NbtDataUtil.SPONGE_TRACKED_BLOCKS, data);
             compound.setTag(NbtDataUtil.SPONGE_DATA, trackedNbt);
-
-            for (Map.Entry<Short, PlayerTracker> mapEntry : chunk.getTrackedShortPlayerPositions().entrySet()) {
-                Short pos = mapEntry.getKey();
-                Integer ownerUniqueIdIndex = mapEntry.getValue().ownerIndex;
-                Integer notifierUniqueIdIndex = mapEntry.getValue().notifierIndex;
-                NBTTagCompound valueNbt = new NBTTagCompound();
-                valueNbt.setInteger("owner", ownerUniqueIdIndex);
-                valueNbt.setInteger("notifier", notifierUniqueIdIndex);
-                valueNbt.setShort("pos", pos);
-                positions.appendTag(valueNbt);
-            }
-
-            for (Map.Entry<Integer, PlayerTracker> mapEntry : chunk.getTrackedIntPlayerPositions().entrySet()) {
-                Integer pos = mapEntry.getKey();
-                Integer ownerUniqueIdIndex = mapEntry.getValue().ownerIndex;
-                Integer notifierUniqueIdIndex = mapEntry.getValue().notifierIndex;
-                NBTTagCompound valueNbt = new NBTTagCompound();
-                valueNbt.setInteger("owner", ownerUniqueIdIndex);
-                valueNbt.setInteger("notifier", notifierUniqueIdIndex);
-                valueNbt.setInteger("ipos", pos);
-                positions.appendTag(valueNbt);
-            }
         }
     }
 
@@ -132,36 +171,46 @@ public void onWriteChunkToNBT(net.minecraft.world.chunk.Chunk chunkIn, World wor
     public void onReadChunkFromNBT(World worldIn, NBTTagCompound compound, CallbackInfoReturnable<net.minecraft.world.chunk.Chunk> ci, int chunkX,
             int chunkZ, net.minecraft.world.chunk.Chunk chunkIn) {
         if (compound.hasKey(NbtDataUtil.SPONGE_DATA)) {
-            Map<Integer, PlayerTracker> trackedIntPlayerPositions = Maps.newHashMap();
-            Map<Short, PlayerTracker> trackedShortPlayerPositions = Maps.newHashMap();
-            NBTTagList positions = compound.getCompoundTag(NbtDataUtil.SPONGE_DATA).getTagList(NbtDataUtil.SPONGE_BLOCK_POS_TABLE, 10);
-            IMixinChunk chunk = (IMixinChunk) chunkIn;
+            final NBTTagCompound spongeData = compound.getCompoundTag(NbtDataUtil.SPONGE_DATA);
+            final TrackedBlockStore trackedBlocks = new TrackedBlockStore();
+            final int[] data = spongeData.getIntArray(NbtDataUtil.SPONGE_TRACKED_BLOCKS);
+            for (int i = 0; i + 2 < data.length; i += 3) {
+                final int pos = data[i];
+                trackedBlocks.set(pos & 15, (pos >> 4) & 0xFFFFFF, (pos >>> 28) & 15, data[i + 1], data[i + 2]);
+            }
+            // Read the table of the old format, each position with its own compound
+            NBTTagList positions = spongeData.getTagList(NbtDataUtil.SPONGE_BLOCK_POS_TABLE, NbtDataUtil.TAG_COMPOUND);
             for (int i = 0; i < positions.tagCount(); i++) {
                 NBTTagCompound valueNbt = positions.getCompoundTagAt(i);
-                boolean isShortPos = valueNbt.hasKey("pos");
-                PlayerTracker tracker = new PlayerTracker();
+                int ownerIndex = TrackedBlockStore.NONE;
+                int notifierIndex = TrackedBlockStore.NONE;
                 if (valueNbt.hasKey("owner")) {
-                    tracker.ownerIndex = valueNbt.getInteger("owner");
+                    ownerIndex = valueNbt.getInteger("owner");
                 } else if (valueNbt.hasKey("uuid")) { // Migrate old data, remove in future
-                    tracker.ownerIndex = valueNbt.getInteger("uuid");
+                    ownerIndex = valueNbt.getInteger("uuid");
                 }
                 if (valueNbt.hasKey("notifier")) {
-                    tracker.notifierIndex = valueNbt.getInteger("notifier");
+                    notifierIndex = valueNbt.getInteger("notifier");
                 }
 
-                if (tracker.notifierIndex != -1 || tracker.ownerIndex != -1) {
-                    if (isShortPos) {
-                        trackedShortPlayerPositions.put(valueNbt.getShort("pos"), tracker);
+                if (notifierIndex != TrackedBlockStore.NONE || ownerIndex != TrackedBlockStore.NONE) {
+                    if (valueNbt.hasKey("pos")) {
+                        final short pos = valueNbt.getShort("pos");
+                        trackedBlocks.set(pos & 15, (pos >> 4) & 0xFF, (pos >> 12) & 15, ownerIndex, notifierIndex);
                     } else {
-                        trackedIntPlayerPositions.put(valueNbt.getInteger("ipos"), tracker);
+                        final int pos = valueNbt.getInteger("ipos");
+                        trackedBlocks.set(pos & 15, (pos >> 4) & 0xFFFFFF, (pos >>> 28) & 15, ownerIndex, notifierIndex);
                     }
                 }
             }
-            chunk.setTrackedIntPlayerPositions(trackedIntPlayerPositions);
-            chunk.setTrackedShortPlayerPositions(trackedShortPlayerPositions);
+            ((IMixinChunk) chunkIn).setTrackedBlocks(trackedBlocks);
         }
     }
 
+    private static int packTrackedPosition(int x, int y, int z) {
+        return (z & 15) << 28 | (y & 0xFFFFFF) << 4 | (x & 15);
+    }
+
     /**
      * @author gabizou - January 30th, 2016
      *
@@ -214,91 +263,134 @@ private Entity onReadEntity(NBTTagCompound compound, World world) {
         //         }
         //     }
         // }
-        if (this.chunksToRemove.containsKey(chunkcoordintpair)) {
+        if (this.chunksToRemove.containsKey(chunkcoordintpair) || this.pendingSerializations.containsKey(chunkcoordintpair)) {
             return true;
         }
         // Sponge end
 
-        return RegionFileCache.getChunkInputStream(this.chunkSaveLocation, x, z) != null;
+        // Only the region header is consulted, opening the chunk input stream would read and inflate the whole chunk
+        final RegionFile regionFile = RegionFileCache.createOrLoadRegionFile(this.chunkSaveLocation, x, z);
+        return regionFile.offsets[(x & 31) + (z & 31) * 32] != 0;
     }
 
     /**
      * @author aikar - February 19th, 2017
      * @reason Chunk queue improvements.
      *
+     * <p>Chunks are written by the {@link ChunkSaveQueue} instead of the
+     * single {@link ThreadedFileIOBase} thread. A position is only queued
+     * once, saving it again before it was written only replaces the
+     * pending compound.</p>
+     *
      * @param pos The chunk position to queue
      * @param compound The NBTTagCompound containing chunk data
      */
     @Overwrite
     protected void addChunkToPending(ChunkPos pos, NBTTagCompound compound) {
-        synchronized (this.lock) {
-            this.chunksToRemove.put(pos, compound);
+        final List<ChunkSectionEncode> sections = this.capturedSections;
+        this.capturedSections = null;
+        if (sections == null || sections.isEmpty()) {
+            this.queueChunkSave(pos, compound);
+            return;
         }
-        this.queue.add(new QueuedChunk(pos, compound));
 
-        ThreadedFileIOBase.getThreadedIOInstance().queueIO((AnvilChunkLoader) (Object) this);
+        final CompletableFuture<Void> future = ChunkSerializationExecutor.submit(this.pendingSerializations.get(pos), () -> {
+            try {
+                final NBTTagList sectionList = compound.getCompoundTag("Level").getTagList("Sections", NbtDataUtil.TAG_COMPOUND);
+                for (ChunkSectionEncode section : sections) {
+                    section.encode(sectionList);
+                }
+            } catch (Throwable t) {
+                // Never write a compound with unfilled sections, that would wipe the chunk on disk
+                LOGGER.error("Failed to serialize chunk {} in {}, keeping the previously saved copy", pos, this.chunkSaveLocation, t);
+                return;
+            }
+            this.queueChunkSave(pos, compound);
+        });
+        this.pendingSerializations.put(pos, future);
+        future.whenComplete((result, throwable) -> this.pendingSerializations.remove(pos, future));
+    }
+
+    private void queueChunkSave(ChunkPos pos, NBTTagCompound compound) {
+        final boolean alreadyPending;
+        synchronized (this.lock) {
+            alreadyPending = this.chunksToRemove.put(pos, compound) != null;
+        }
+        if (!alreadyPending) {
+            ChunkSaveQueue.getInstance().queue(this, pos);
+        }
     }
 
     /**
      * @author aikar - February 19th, 2017
      * @reason Refactor entire method for chunk queue improvements.
-     * @return Whether write was successful
+     *
+     * <p>Serialization and writing are done off the server thread, so this
+     * only waits for the pending chunks of this loader to be written. This keeps
+     * {@code flush} working as vanilla expects.</p>
+     *
+     * @return Whether chunks are still waiting to be written
      */
     @Overwrite
     public boolean writeNextIO() {
-        QueuedChunk chunk = this.queue.poll();
-        if (chunk == null) {
-            if (this.savingExtraData) {
-                LOGGER.info("ThreadedAnvilChunkStorage ({}): All chunks are saved", new Object[] {this.chunkSaveLocation.getName()});
+        synchronized (this.lock) {
+            if (this.chunksToRemove.isEmpty() && this.pendingSerializations.isEmpty()) {
+                if (this.savingExtraData) {
+                    LOGGER.info("ThreadedAnvilChunkStorage ({}): All chunks are saved", new Object[] {this.chunkSaveLocation.getName()});
+                }
+                return false;
             }
-
-            return false;
-        } else {
-            ChunkPos chunkpos = chunk.coords;
-            boolean lvt_3_1_;
-
             try {
-                // this.pendingAnvilChunksCoordinates.add(chunkpos);
-                NBTTagCompound nbttagcompound = chunk.compound;
+                this.lock.wait(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+            return !this.chunksToRemove.isEmpty() || !this.pendingSerializations.isEmpty();
+        }
+    }
 
-                if (nbttagcompound != null) {
-                    int attempts = 0;
-                    Exception laste = null;
-                    while (attempts++ < 5) {
-                        try {
-                            this.writeChunkData(chunkpos, nbttagcompound);
-                            laste = null;
-                            break;
-                        } catch (Exception exception) {
-                            // LOGGER.error((String)"Failed to save chunk",
-                            // (Throwable)exception);
-                            laste = exception;
-                        }
-                        try {
-                            Thread.sleep(10);
-                        } catch (InterruptedException e) {
-                            e.printStackTrace();
-                        }
-                    }
-                    if (laste != null) {
-                        laste.printStackTrace();
-                    }
+    @Override
+    public long writeQueuedChunk(ChunkPos pos) {
+        long bytes = 0;
+        NBTTagCompound compound = this.chunksToRemove.get(pos);
+        while (compound != null) {
+            int attempts = 0;
+            Exception laste = null;
+            while (attempts++ < 5) {
+                try {
+                    final DataOutputStream stream = RegionFileCache.getChunkOutputStream(this.chunkSaveLocation, pos.chunkXPos, pos.chunkZPos);
+                    CompressedStreamTools.write(compound, stream);
+                    stream.close();
+                    bytes += stream.size();
+                    laste = null;
+                    break;
+                } catch (Exception exception) {
+                    laste = exception;
                 }
-
-                synchronized (this.lock) {
-                    if (this.chunksToRemove.get(chunkpos) == nbttagcompound) {
-                        this.chunksToRemove.remove(chunkpos);
-                    }
+                try {
+                    Thread.sleep(10);
+                } catch (InterruptedException e) {
+                    e.printStackTrace();
                 }
-                // Sponge - This will not equal if a newer version is still
-                // pending
-                lvt_3_1_ = true;
-            } finally {
-                // this.pendingAnvilChunksCoordinates.remove(chunkpos);
+            }
+            if (laste != null) {
+                laste.printStackTrace();
             }
 
-            return lvt_3_1_;
+            synchronized (this.lock) {
+                final NBTTagCompound current = this.chunksToRemove.get(pos);
+                if (current == compound) {
+                    this.chunksToRemove.remove(pos);
+                    this.lock.notifyAll();
+                    compound = null;
+                } else {
+                    // Sponge - The chunk was saved again while writing, write the newer version
+                    compound = current;
+                }
+            }
         }
+        return bytes;
     }
 
     @Override
@@ -49,7 +49,6 @@
 import org.spongepowered.asm.mixin.injection.At.Shift;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
-import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.config.SpongeConfig;
 import org.spongepowered.common.event.InternalNamedCauses;
 import org.spongepowered.common.event.tracking.CauseTracker;
@@ -64,9 +63,10 @@
 import org.spongepowered.common.interfaces.world.IMixinAnvilChunkLoader;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
-import org.spongepowered.common.util.CachedLong2ObjectMap;
+import org.spongepowered.common.util.ConcurrentLong2ObjectMap;
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.world.SpongeEmptyChunk;
+import org.spongepowered.common.world.WorldTickScheduler;
 import org.spongepowered.common.world.storage.SpongeChunkDataStream;
 import org.spongepowered.common.world.storage.WorldStorageUtil;
 
@@ -86,8 +86,7 @@ public abstract class MixinChunkProviderServer implements WorldStorage, IMixinCh
     @Shadow @Final public WorldServer world;
     @Shadow @Final private IChunkLoader chunkLoader;
     @Shadow public IChunkGenerator chunkGenerator;
-    @SuppressWarnings({"unchecked", "rawtypes"})
-    @Shadow @Final @Mutable public Long2ObjectMap<Chunk> id2ChunkMap = new CachedLong2ObjectMap();
+    @Shadow @Final @Mutable public Long2ObjectMap<Chunk> id2ChunkMap = new ConcurrentLong2ObjectMap<>();
 
     @Shadow public abstract Chunk getLoadedChunk(int x, int z);
     @Shadow public abstract Chunk loadChunk(int x, int z);
@@ -209,7 +208,7 @@ public void onError(CallbackInfoReturnable<Chunk> ci) {
     }
 
     private boolean canDenyChunkRequest() {
-        if (!SpongeImpl.getServer().isCallingFromMinecraftThread()) {
+        if (!WorldTickScheduler.isOwningThread(this.world)) {
             return true;
         }
 
@@ -317,6 +316,7 @@ public boolean tick()
 
     // Copy of getLoadedChunk without marking chunk active.
     // This allows the chunk to unload if currently queued.
+    // Safe to call from any thread as the chunk map can be read without locking.
     @Override
     public Chunk getLoadedChunkWithoutMarkingActive(int x, int z){
         long i = ChunkPos.asLong(x, z);
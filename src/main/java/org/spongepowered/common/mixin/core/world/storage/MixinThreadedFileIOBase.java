@@ -30,8 +30,11 @@
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.world.storage.ChunkSaveQueue;
 
 import java.util.List;
 
@@ -54,4 +57,14 @@ public void onProcessQueueThreadSleep(long millis) {
             e.printStackTrace();
         }
     }
+
+    /**
+     * Chunks are written by the {@link ChunkSaveQueue} instead of this
+     * thread, wait for them as well since callers close the region files
+     * right after.
+     */
+    @Inject(method = "waitForFinish", at = @At("HEAD"))
+    private void onWaitForFinish(CallbackInfo ci) {
+        ChunkSaveQueue.drain();
+    }
 }
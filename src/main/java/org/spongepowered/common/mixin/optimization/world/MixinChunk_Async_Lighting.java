@@ -88,9 +88,9 @@ private boolean onCheckLightForSkylight(World world, EnumSkyBlock enumSkyBlock,
     @Inject(method = "recheckGaps", at = @At("HEAD"), cancellable = true)
     private void onRecheckGaps(boolean onlyOnce, CallbackInfo ci) {
         if (!this.world.isRemote) {
-            ((IMixinWorldServer) this.world).getLightingExecutor().execute(() -> {
-                this.recheckGapsAsync(onlyOnce);
-            });
+            // Runs under the area locks of the chunk, a chunk whose neighbours are not loaded is rechecked on a later tick
+            ((IMixinWorldServer) this.world).getLightingEngine().queueGapRecheck(this.xPosition, this.zPosition,
+                    () -> this.recheckGapsAsync(onlyOnce));
             ci.cancel();
         }
     }
@@ -24,7 +24,6 @@
  */
 package org.spongepowered.common.mixin.optimization.world;
 
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
@@ -35,21 +34,20 @@
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.SpongeImplHooks;
-import org.spongepowered.common.interfaces.IMixinChunk;
-import org.spongepowered.common.interfaces.util.math.IMixinBlockPos;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
-import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
 import org.spongepowered.common.mixin.core.world.MixinWorld;
+import org.spongepowered.common.world.lighting.LightingContext;
+import org.spongepowered.common.world.lighting.LightingEngine;
 
-import java.util.List;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 @Mixin(value = WorldServer.class)
 public abstract class MixinWorldServer_Async_Lighting extends MixinWorld implements IMixinWorldServer {
 
-    private ExecutorService lightExecutorService =
-            Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat("Sponge - Async Light Thread").build());
+    private static final EnumFacing[] FACINGS = EnumFacing.values();
+
+    private final LightingEngine lightingEngine = new LightingEngine((WorldServer) (Object) this,
+            SpongeImpl.getGlobalConfig().getConfig().getOptimizations().getAsyncLightingThreads());
 
     @Override
     public boolean checkLightFor(EnumSkyBlock lightType, BlockPos pos) {
@@ -57,229 +55,161 @@ public boolean checkLightFor(EnumSkyBlock lightType, BlockPos pos) {
     }
 
     @Override
-    public boolean checkLightAsync(EnumSkyBlock lightType, BlockPos pos, net.minecraft.world.chunk.Chunk currentChunk, List<Chunk> neighbors) {
-        // Sponge - This check is not needed as neighbors are checked in updateLightAsync
-        if (false && !this.isAreaLoaded(pos, 17, false)) {
-            return false;
-        } else {
-            final IMixinChunk spongeChunk = (IMixinChunk) currentChunk;
-            int i = 0;
-            int j = 0;
-            //this.profiler.startSection("getBrightness"); // Sponge - don't use profiler off of main thread
-            int k = this.getLightForAsync(lightType, pos, currentChunk, neighbors); // Sponge - use thread safe method
-            int l = this.getRawBlockLightAsync(lightType, pos, currentChunk, neighbors); // Sponge - use thread safe method
-            int i1 = pos.getX();
-            int j1 = pos.getY();
-            int k1 = pos.getZ();
-
-            if (l > k) {
-                this.lightUpdateBlockList[j++] = 133152;
-            } else if (l < k) {
-                this.lightUpdateBlockList[j++] = 133152 | k << 18;
-
-                while (i < j) {
-                    int l1 = this.lightUpdateBlockList[i++];
-                    int i2 = (l1 & 63) - 32 + i1;
-                    int j2 = (l1 >> 6 & 63) - 32 + j1;
-                    int k2 = (l1 >> 12 & 63) - 32 + k1;
-                    int l2 = l1 >> 18 & 15;
-                    BlockPos blockpos = new BlockPos(i2, j2, k2);
-                    int i3 = this.getLightForAsync(lightType, blockpos, currentChunk, neighbors); // Sponge - use thread safe method
-
-                    if (i3 == l2) {
-                        this.setLightForAsync(lightType, blockpos, 0, currentChunk, neighbors); // Sponge - use thread safe method
-
-                        if (l2 > 0) {
-                            int j3 = MathHelper.abs(i2 - i1);
-                            int k3 = MathHelper.abs(j2 - j1);
-                            int l3 = MathHelper.abs(k2 - k1);
-
-                            if (j3 + k3 + l3 < 17) {
-                                BlockPos.PooledMutableBlockPos blockpos$pooledmutableblockpos = BlockPos.PooledMutableBlockPos.retain();
-
-                                for (EnumFacing enumfacing : EnumFacing.values()) {
-                                    int i4 = i2 + enumfacing.getFrontOffsetX();
-                                    int j4 = j2 + enumfacing.getFrontOffsetY();
-                                    int k4 = k2 + enumfacing.getFrontOffsetZ();
-                                    blockpos$pooledmutableblockpos.setPos(i4, j4, k4);
-                                    // Sponge start - get chunk safely
-                                    final Chunk pooledChunk = this.getLightChunk(blockpos$pooledmutableblockpos, currentChunk, neighbors);
-                                    if (pooledChunk == null) {
-                                        continue;
-                                    }
-                                    int l4 = Math.max(1, pooledChunk.getBlockState(blockpos$pooledmutableblockpos).getLightOpacity());
-                                    i3 = this.getLightForAsync(lightType, blockpos$pooledmutableblockpos, currentChunk, neighbors);
-                                    // Sponge end
-
-                                    if (i3 == l2 - l4 && j < this.lightUpdateBlockList.length) {
-                                        this.lightUpdateBlockList[j++] = i4 - i1 + 32 | j4 - j1 + 32 << 6 | k4 - k1 + 32 << 12 | l2 - l4 << 18;
-                                    }
+    public boolean checkLightAsync(EnumSkyBlock lightType, BlockPos pos, LightingContext context) {
+        // Sponge - The area check is not needed as neighbors are checked when the update is queued
+        // Sponge start - propagate using the reusable positions and queue of the lighting thread
+        final int[] lightUpdateBlockList = context.getQueue();
+        final BlockPos.MutableBlockPos blockpos = context.getPos();
+        final BlockPos.MutableBlockPos neighborpos = context.getNeighborPos();
+        int i1 = pos.getX();
+        int j1 = pos.getY();
+        int k1 = pos.getZ();
+        // Sponge end
+        int i = 0;
+        int j = 0;
+        //this.profiler.startSection("getBrightness"); // Sponge - don't use profiler off of main thread
+        int k = this.getLightForAsync(lightType, i1, j1, k1, context); // Sponge - use thread safe method
+        int l = this.getRawBlockLightAsync(lightType, blockpos.setPos(i1, j1, k1), context); // Sponge - use thread safe method
+
+        if (l > k) {
+            lightUpdateBlockList[j++] = 133152;
+        } else if (l < k) {
+            lightUpdateBlockList[j++] = 133152 | k << 18;
+
+            while (i < j) {
+                int l1 = lightUpdateBlockList[i++];
+                int i2 = (l1 & 63) - 32 + i1;
+                int j2 = (l1 >> 6 & 63) - 32 + j1;
+                int k2 = (l1 >> 12 & 63) - 32 + k1;
+                int l2 = l1 >> 18 & 15;
+                int i3 = this.getLightForAsync(lightType, i2, j2, k2, context); // Sponge - use thread safe method
+
+                if (i3 == l2) {
+                    this.setLightForAsync(lightType, blockpos.setPos(i2, j2, k2), 0, context); // Sponge - use thread safe method
+
+                    if (l2 > 0) {
+                        int j3 = MathHelper.abs(i2 - i1);
+                        int k3 = MathHelper.abs(j2 - j1);
+                        int l3 = MathHelper.abs(k2 - k1);
+
+                        if (j3 + k3 + l3 < 17) {
+                            for (EnumFacing enumfacing : FACINGS) {
+                                int i4 = i2 + enumfacing.getFrontOffsetX();
+                                int j4 = j2 + enumfacing.getFrontOffsetY();
+                                int k4 = k2 + enumfacing.getFrontOffsetZ();
+                                // Sponge start - get chunk safely
+                                final Chunk pooledChunk = context.getChunk(i4, k4);
+                                if (pooledChunk == null) {
+                                    continue;
                                 }
+                                int l4 = Math.max(1, pooledChunk.getBlockState(neighborpos.setPos(i4, j4, k4)).getLightOpacity());
+                                i3 = this.getLightForAsync(lightType, i4, j4, k4, context);
+                                // Sponge end
 
-                                blockpos$pooledmutableblockpos.release();
+                                if (i3 == l2 - l4 && j < lightUpdateBlockList.length) {
+                                    lightUpdateBlockList[j++] = i4 - i1 + 32 | j4 - j1 + 32 << 6 | k4 - k1 + 32 << 12 | l2 - l4 << 18;
+                                }
                             }
                         }
                     }
                 }
-
-                i = 0;
             }
 
-            //this.profiler.endSection(); // Sponge - don't use profiler off of main thread
-            //this.profiler.startSection("checkedPosition < toCheckCount"); // Sponge - don't use profiler off of main thread
+            i = 0;
+        }
 
-            while (i < j) {
-                int i5 = this.lightUpdateBlockList[i++];
-                int j5 = (i5 & 63) - 32 + i1;
-                int k5 = (i5 >> 6 & 63) - 32 + j1;
-                int l5 = (i5 >> 12 & 63) - 32 + k1;
-                BlockPos blockpos1 = new BlockPos(j5, k5, l5);
-                int i6 = this.getLightForAsync(lightType, blockpos1, currentChunk, neighbors); // Sponge - use thread safe method
-                int j6 = this.getRawBlockLightAsync(lightType, blockpos1, currentChunk, neighbors); // Sponge - use thread safe method
-
-                if (j6 != i6) {
-                    this.setLightForAsync(lightType, blockpos1, j6, currentChunk, neighbors); // Sponge - use thread safe method
-
-                    if (j6 > i6) {
-                        int k6 = Math.abs(j5 - i1);
-                        int l6 = Math.abs(k5 - j1);
-                        int i7 = Math.abs(l5 - k1);
-                        boolean flag = j < this.lightUpdateBlockList.length - 6;
-
-                        if (k6 + l6 + i7 < 17 && flag) {
-                            // Sponge start - use thread safe method getLightForAsync
-                            if (this.getLightForAsync(lightType, blockpos1.west(), currentChunk, neighbors) < j6) {
-                                this.lightUpdateBlockList[j++] = j5 - 1 - i1 + 32 + (k5 - j1 + 32 << 6) + (l5 - k1 + 32 << 12);
-                            }
+        //this.profiler.endSection(); // Sponge - don't use profiler off of main thread
+        //this.profiler.startSection("checkedPosition < toCheckCount"); // Sponge - don't use profiler off of main thread
+
+        while (i < j) {
+            int i5 = lightUpdateBlockList[i++];
+            int j5 = (i5 & 63) - 32 + i1;
+            int k5 = (i5 >> 6 & 63) - 32 + j1;
+            int l5 = (i5 >> 12 & 63) - 32 + k1;
+            blockpos.setPos(j5, k5, l5);
+            int i6 = this.getLightForAsync(lightType, j5, k5, l5, context); // Sponge - use thread safe method
+            int j6 = this.getRawBlockLightAsync(lightType, blockpos, context); // Sponge - use thread safe method
+
+            if (j6 != i6) {
+                this.setLightForAsync(lightType, blockpos, j6, context); // Sponge - use thread safe method
+
+                if (j6 > i6) {
+                    int k6 = Math.abs(j5 - i1);
+                    int l6 = Math.abs(k5 - j1);
+                    int i7 = Math.abs(l5 - k1);
+                    boolean flag = j < lightUpdateBlockList.length - 6;
+
+                    if (k6 + l6 + i7 < 17 && flag) {
+                        // Sponge start - use thread safe method getLightForAsync
+                        if (this.getLightForAsync(lightType, j5 - 1, k5, l5, context) < j6) {
+                            lightUpdateBlockList[j++] = j5 - 1 - i1 + 32 + (k5 - j1 + 32 << 6) + (l5 - k1 + 32 << 12);
+                        }
 
-                            if (this.getLightForAsync(lightType, blockpos1.east(), currentChunk, neighbors) < j6) {
-                                this.lightUpdateBlockList[j++] = j5 + 1 - i1 + 32 + (k5 - j1 + 32 << 6) + (l5 - k1 + 32 << 12);
-                            }
+                        if (this.getLightForAsync(lightType, j5 + 1, k5, l5, context) < j6) {
+                            lightUpdateBlockList[j++] = j5 + 1 - i1 + 32 + (k5 - j1 + 32 << 6) + (l5 - k1 + 32 << 12);
+                        }
 
-                            if (this.getLightForAsync(lightType, blockpos1.down(), currentChunk, neighbors) < j6) {
-                                this.lightUpdateBlockList[j++] = j5 - i1 + 32 + (k5 - 1 - j1 + 32 << 6) + (l5 - k1 + 32 << 12);
-                            }
+                        if (this.getLightForAsync(lightType, j5, k5 - 1, l5, context) < j6) {
+                            lightUpdateBlockList[j++] = j5 - i1 + 32 + (k5 - 1 - j1 + 32 << 6) + (l5 - k1 + 32 << 12);
+                        }
 
-                            if (this.getLightForAsync(lightType, blockpos1.up(), currentChunk, neighbors) < j6) {
-                                this.lightUpdateBlockList[j++] = j5 - i1 + 32 + (k5 + 1 - j1 + 32 << 6) + (l5 - k1 + 32 << 12);
-                            }
+                        if (this.getLightForAsync(lightType, j5, k5 + 1, l5, context) < j6) {
+                            lightUpdateBlockList[j++] = j5 - i1 + 32 + (k5 + 1 - j1 + 32 << 6) + (l5 - k1 + 32 << 12);
+                        }
 
-                            if (this.getLightForAsync(lightType, blockpos1.north(), currentChunk, neighbors) < j6) {
-                                this.lightUpdateBlockList[j++] = j5 - i1 + 32 + (k5 - j1 + 32 << 6) + (l5 - 1 - k1 + 32 << 12);
-                            }
+                        if (this.getLightForAsync(lightType, j5, k5, l5 - 1, context) < j6) {
+                            lightUpdateBlockList[j++] = j5 - i1 + 32 + (k5 - j1 + 32 << 6) + (l5 - 1 - k1 + 32 << 12);
+                        }
 
-                            if (this.getLightForAsync(lightType, blockpos1.south(), currentChunk, neighbors) < j6) {
-                                this.lightUpdateBlockList[j++] = j5 - i1 + 32 + (k5 - j1 + 32 << 6) + (l5 + 1 - k1 + 32 << 12);
-                            }
-                            // Sponge end
+                        if (this.getLightForAsync(lightType, j5, k5, l5 + 1, context) < j6) {
+                            lightUpdateBlockList[j++] = j5 - i1 + 32 + (k5 - j1 + 32 << 6) + (l5 + 1 - k1 + 32 << 12);
                         }
+                        // Sponge end
                     }
                 }
             }
-
-            // Sponge start - Asynchronous light updates
-            if (SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useAsyncLighting()) {
-                spongeChunk.getPendingLightUpdates().decrementAndGet();
-                for (net.minecraft.world.chunk.Chunk neighborChunk : neighbors) {
-                    final IMixinChunk neighbor = (IMixinChunk) neighborChunk;
-                    neighbor.getPendingLightUpdates().decrementAndGet();
-                }
-            }
-            // Sponge end
-            //this.profiler.endSection(); // Sponge - don't use profiler off of main thread
-            return true;
         }
+
+        //this.profiler.endSection(); // Sponge - don't use profiler off of main thread
+        return true;
     }
 
     @Override
     public boolean updateLightAsync(EnumSkyBlock lightType, BlockPos pos) {
-        final net.minecraft.world.chunk.Chunk chunk =
-                ((IMixinChunkProviderServer) this.chunkProvider).getLoadedChunkWithoutMarkingActive(pos.getX() >> 4, pos.getZ() >> 4);
-        IMixinChunk spongeChunk = (IMixinChunk) chunk;
-        if (chunk == null || chunk.unloadQueued || !spongeChunk.areNeighborsLoaded()) {
-            return false;
-        }
-
-        spongeChunk.getPendingLightUpdates().incrementAndGet();
-        spongeChunk.setLightUpdateTime(chunk.getWorld().getTotalWorldTime());
-
-        List<Chunk> neighbors = spongeChunk.getNeighbors();
-        // add diagonal chunks
-        Chunk southEastChunk = ((IMixinChunk) spongeChunk.getNeighborChunk(0)).getNeighborChunk(2);
-        Chunk southWestChunk = ((IMixinChunk) spongeChunk.getNeighborChunk(0)).getNeighborChunk(3);
-        Chunk northEastChunk = ((IMixinChunk) spongeChunk.getNeighborChunk(1)).getNeighborChunk(2);
-        Chunk northWestChunk = ((IMixinChunk) spongeChunk.getNeighborChunk(1)).getNeighborChunk(3);
-        if (southEastChunk != null) {
-            neighbors.add(southEastChunk);
-        }
-        if (southWestChunk != null) {
-            neighbors.add(southWestChunk);
-        }
-        if (northEastChunk != null) {
-            neighbors.add(northEastChunk);
-        }
-        if (northWestChunk != null) {
-            neighbors.add(northWestChunk);
-        }
-
-        for (net.minecraft.world.chunk.Chunk neighborChunk : neighbors) {
-            final IMixinChunk neighbor = (IMixinChunk) neighborChunk;
-            neighbor.getPendingLightUpdates().incrementAndGet();
-            neighbor.setLightUpdateTime(chunk.getWorld().getTotalWorldTime());
-        }
-
-        this.lightExecutorService.execute(() -> {
-            this.checkLightAsync(lightType, pos, chunk, neighbors);
-        });
-
-        return true;
+        return this.lightingEngine.queueUpdate(lightType, pos);
     }
 
     @Override
     public ExecutorService getLightingExecutor() {
-        return this.lightExecutorService;
+        return this.lightingEngine.getExecutor();
     }
 
-    // Thread safe methods to retrieve a chunk during async light updates
-    // Each method avoids calling getLoadedChunk and instead accesses the passed neighbor chunk list to avoid concurrency issues
-    public Chunk getLightChunk(BlockPos pos, Chunk currentChunk, List<Chunk> neighbors) {
-        if (currentChunk.isAtLocation(pos.getX() >> 4, pos.getZ() >> 4)) {
-            if (currentChunk.unloadQueued) {
-                return null;
-            }
-            return currentChunk;
-        }
-        for (net.minecraft.world.chunk.Chunk neighbor : neighbors) {
-            if (neighbor.isAtLocation(pos.getX() >> 4, pos.getZ() >> 4)) {
-                if (neighbor.unloadQueued) {
-                    return null;
-                }
-                return neighbor;
-            }
-        }
-
-        return null;
+    @Override
+    public LightingEngine getLightingEngine() {
+        return this.lightingEngine;
     }
 
-    private int getLightForAsync(EnumSkyBlock lightType, BlockPos pos, Chunk currentChunk, List<Chunk> neighbors) {
-        if (pos.getY() < 0) {
-            pos = new BlockPos(pos.getX(), 0, pos.getZ());
+    // Thread safe methods to read and write light during async light updates
+    // Each method only accesses the chunks of the area being updated, found through the lighting context
+    private int getLightForAsync(EnumSkyBlock lightType, int x, int y, int z, LightingContext context) {
+        if (y < 0) {
+            y = 0;
         }
-        if (!((IMixinBlockPos) pos).isValidPosition()) {
+        if (y >= 256 || x < -30000000 || z < -30000000 || x >= 30000000 || z >= 30000000) {
             return lightType.defaultLightValue;
         }
 
-        final Chunk chunk = this.getLightChunk(pos, currentChunk, neighbors);
-        if (chunk == null || chunk.unloadQueued) {
+        final Chunk chunk = context.getChunk(x, z);
+        if (chunk == null) {
             return lightType.defaultLightValue;
         }
 
-        return chunk.getLightFor(lightType, pos);
+        return chunk.getLightFor(lightType, context.getLookupPos().setPos(x, y, z));
     }
 
-    private int getRawBlockLightAsync(EnumSkyBlock lightType, BlockPos pos, Chunk currentChunk, List<Chunk> neighbors) {
-        final Chunk chunk = getLightChunk(pos, currentChunk, neighbors);
-        if (chunk == null || chunk.unloadQueued) {
+    private int getRawBlockLightAsync(EnumSkyBlock lightType, BlockPos pos, LightingContext context) {
+        final Chunk chunk = context.getChunk(pos.getX(), pos.getZ());
+        if (chunk == null) {
             return lightType.defaultLightValue;
         }
         if (lightType == EnumSkyBlock.SKY && chunk.canSeeSky(pos)) {
@@ -303,9 +233,9 @@ private int getRawBlockLightAsync(EnumSkyBlock lightType, BlockPos pos, Chunk cu
             } else if (i >= 14) {
                 return i;
             } else {
-                for (EnumFacing enumfacing : EnumFacing.values()) {
-                    BlockPos blockpos = pos.offset(enumfacing);
-                    int k = this.getLightForAsync(lightType, blockpos, currentChunk, neighbors) - j;
+                for (EnumFacing enumfacing : FACINGS) {
+                    int k = this.getLightForAsync(lightType, pos.getX() + enumfacing.getFrontOffsetX(), pos.getY() + enumfacing.getFrontOffsetY(),
+                            pos.getZ() + enumfacing.getFrontOffsetZ(), context) - j;
 
                     if (k > i) {
                         i = k;
@@ -321,10 +251,10 @@ private int getRawBlockLightAsync(EnumSkyBlock lightType, BlockPos pos, Chunk cu
         }
     }
 
-    public void setLightForAsync(EnumSkyBlock type, BlockPos pos, int lightValue, Chunk currentChunk, List<Chunk> neighbors) {
-        if (((IMixinBlockPos) pos).isValidPosition()) {
-            final Chunk chunk = this.getLightChunk(pos, currentChunk, neighbors);
-            if (chunk != null && !chunk.unloadQueued) {
+    private void setLightForAsync(EnumSkyBlock type, BlockPos pos, int lightValue, LightingContext context) {
+        if (pos.getY() >= 0 && pos.getY() < 256) {
+            final Chunk chunk = context.getChunk(pos.getX(), pos.getZ());
+            if (chunk != null) {
                 chunk.setLightFor(type, pos, lightValue);
                 this.notifyLightSet(pos);
             }
@@ -85,6 +85,8 @@ public void postApply(String targetClassName, ClassNode targetClass, String mixi
     private static final Map<String, Function<OptimizationCategory, Boolean>> mixinEnabledMappings = ImmutableMap.<String, Function<OptimizationCategory, Boolean >> builder()
             .put("org.spongepowered.common.mixin.optimization.MixinExplosion_Explosion",
                     (module) -> true) // TODO the velocity changes need to be sent to the client
+            .put("org.spongepowered.common.mixin.optimization.MixinMinecraftServer_Parallel_World_Ticking",
+                    OptimizationCategory::useParallelWorldTicking)
             .put("org.spongepowered.common.mixin.optimization.MixinSpongeImplHooks_Item_Pre_Merge",
                     OptimizationCategory::doDropsPreMergeItemDrops)
             .put("org.spongepowered.common.mixin.optimization.MixinWorldServer_Explosion",
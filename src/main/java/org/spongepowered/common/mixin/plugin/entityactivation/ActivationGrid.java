@@ -0,0 +1,148 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.plugin.entityactivation;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.util.math.AxisAlignedBB;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+
+/**
+ * A flat spatial grid of player bounding boxes used by the activation
+ * range pass. Players are bucketed once per tick into square cells at
+ * least as wide as the largest activation range, so checking whether an
+ * entity is within range of any player only has to look at the handful
+ * of cells surrounding it instead of every player in the world.
+ *
+ * <p>Each world owns its own grid, which also holds the scratch state of
+ * the activation pass, so worlds that tick concurrently never share it.</p>
+ */
+public final class ActivationGrid {
+
+    private static final int MIN_CELL_SHIFT = 4;
+    private static final int BOUNDS_STRIDE = 6;
+
+    private final Long2ObjectOpenHashMap<IntArrayList> cells = new Long2ObjectOpenHashMap<>();
+    private final ArrayDeque<IntArrayList> pool = new ArrayDeque<>();
+    private double[] bounds = new double[BOUNDS_STRIDE * 16];
+    private int size;
+    private int cellShift = MIN_CELL_SHIFT;
+
+    final LongOpenHashSet visitedChunks = new LongOpenHashSet();
+    final AxisAlignedBB searchBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
+
+    /**
+     * Clears the grid and resizes the cells so that every query with a
+     * range up to the given maximum only touches neighbouring cells.
+     *
+     * @param maxRange The largest horizontal range that will be queried
+     */
+    void reset(int maxRange) {
+        for (IntArrayList cell : this.cells.values()) {
+            cell.clear();
+            this.pool.push(cell);
+        }
+        this.cells.clear();
+        this.size = 0;
+        this.cellShift = maxRange <= 1 << MIN_CELL_SHIFT ? MIN_CELL_SHIFT : 32 - Integer.numberOfLeadingZeros(maxRange - 1);
+    }
+
+    void add(double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+        final int index = this.size++;
+        final int offset = index * BOUNDS_STRIDE;
+        if (offset + BOUNDS_STRIDE > this.bounds.length) {
+            this.bounds = Arrays.copyOf(this.bounds, this.bounds.length * 2);
+        }
+        this.bounds[offset] = minX;
+        this.bounds[offset + 1] = minY;
+        this.bounds[offset + 2] = minZ;
+        this.bounds[offset + 3] = maxX;
+        this.bounds[offset + 4] = maxY;
+        this.bounds[offset + 5] = maxZ;
+
+        final long key = key(floor(minX + maxX) >> 1 >> this.cellShift, floor(minZ + maxZ) >> 1 >> this.cellShift);
+        IntArrayList cell = this.cells.get(key);
+        if (cell == null) {
+            cell = this.pool.isEmpty() ? new IntArrayList(4) : this.pool.pop();
+            this.cells.put(key, cell);
+        }
+        cell.add(index);
+    }
+
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * Checks whether the given box intersects the box of any player in the
+     * grid once that player box has been grown by the given ranges. This is
+     * equivalent to growing every player box and calling
+     * {@code AxisAlignedBB#intersectsWith}, but only players in nearby
+     * cells are tested.
+     *
+     * @return True if any player is within range
+     */
+    boolean isInRange(double minX, double minY, double minZ, double maxX, double maxY, double maxZ, int range, int yRange) {
+        if (this.size == 0) {
+            return false;
+        }
+        // Pad by a couple of blocks to account for player boxes being bucketed by their center
+        final int reach = range + 2;
+        final int cellMinX = floor(minX - reach) >> this.cellShift;
+        final int cellMaxX = floor(maxX + reach) >> this.cellShift;
+        final int cellMinZ = floor(minZ - reach) >> this.cellShift;
+        final int cellMaxZ = floor(maxZ + reach) >> this.cellShift;
+        for (int cellX = cellMinX; cellX <= cellMaxX; cellX++) {
+            for (int cellZ = cellMinZ; cellZ <= cellMaxZ; cellZ++) {
+                final IntArrayList cell = this.cells.get(key(cellX, cellZ));
+                if (cell == null) {
+                    continue;
+                }
+                final int[] elements = cell.elements();
+                for (int i = 0, cellSize = cell.size(); i < cellSize; i++) {
+                    final int offset = elements[i] * BOUNDS_STRIDE;
+                    if (maxX > this.bounds[offset] - range && minX < this.bounds[offset + 3] + range
+                            && maxY > this.bounds[offset + 1] - yRange && minY < this.bounds[offset + 4] + yRange
+                            && maxZ > this.bounds[offset + 2] - range && minZ < this.bounds[offset + 5] + range) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private static long key(int cellX, int cellZ) {
+        return (long) cellX << 32 | cellZ & 0xFFFFFFFFL;
+    }
+
+    private static int floor(double value) {
+        final int i = (int) value;
+        return value < i ? i - 1 : i;
+    }
+}
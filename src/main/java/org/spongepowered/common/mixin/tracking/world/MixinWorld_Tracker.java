@@ -27,7 +27,6 @@
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.chunk.Chunk;
 import net.minecraft.world.chunk.IChunkProvider;
-import org.spongepowered.api.util.Identifiable;
 import org.spongepowered.api.world.World;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
@@ -54,7 +53,7 @@ public Optional<UUID> getCreator(int x, int y, int z) {
         }
 
         BlockPos pos = new BlockPos(x, y, z);
-        return ((IMixinChunk) chunk).getBlockOwner(pos).map(Identifiable::getUniqueId);
+        return ((IMixinChunk) chunk).getBlockOwnerUUID(pos);
     }
 
     @Override
@@ -65,7 +64,7 @@ public Optional<UUID> getNotifier(int x, int y, int z) {
         }
 
         BlockPos pos = new BlockPos(x, y, z);
-        return ((IMixinChunk) chunk).getBlockNotifier(pos).map(Identifiable::getUniqueId);
+        return ((IMixinChunk) chunk).getBlockNotifierUUID(pos);
     }
 
     @Override
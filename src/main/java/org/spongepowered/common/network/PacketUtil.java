@@ -51,7 +51,6 @@
 import org.spongepowered.api.event.cause.Cause;
 import org.spongepowered.api.event.cause.NamedCause;
 import org.spongepowered.api.event.entity.living.humanoid.AnimateHandEvent;
-import org.spongepowered.api.item.inventory.ItemStackSnapshot;
 import org.spongepowered.api.util.Direction;
 import org.spongepowered.api.world.Location;
 import org.spongepowered.api.world.World;
@@ -61,12 +60,12 @@
 import org.spongepowered.common.event.SpongeCommonEventFactory;
 import org.spongepowered.common.event.tracking.CauseTracker;
 import org.spongepowered.common.event.tracking.PhaseContext;
-import org.spongepowered.common.event.tracking.phase.packet.IPacketState;
 import org.spongepowered.common.event.tracking.phase.TrackingPhases;
+import org.spongepowered.common.event.tracking.phase.packet.CursorSnapshot;
+import org.spongepowered.common.event.tracking.phase.packet.IPacketState;
 import org.spongepowered.common.event.tracking.phase.packet.PacketPhase;
 import org.spongepowered.common.interfaces.entity.player.IMixinEntityPlayerMP;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
-import org.spongepowered.common.item.inventory.util.ItemStackUtil;
 import org.spongepowered.common.util.VecHelper;
 
 import java.lang.ref.WeakReference;
@@ -75,6 +74,8 @@
 public class PacketUtil {
 
     private static final PhaseContext EMPTY_INVALID = PhaseContext.start().complete();
+    private static final PhaseContext REUSABLE_CONTEXT = PhaseContext.start();
+    private static boolean reusableContextInUse = false;
     private static long lastInventoryOpenPacketTimeStamp = 0;
     private static long lastTryBlockPacketTimeStamp = 0;
     private static boolean lastTryBlockPacketItemResult = true;
@@ -120,26 +121,36 @@ public static void onProcessPacket(Packet packetIn, INetHandler netHandler) {
             }
             if (!CauseTracker.ENABLED || ignoreMovementCapture || (packetIn instanceof CPacketClientSettings)) {
                 packetIn.processPacket(netHandler);
-            } else {
-                final ItemStackSnapshot cursor = ItemStackUtil.snapshotOf(packetPlayer.inventory.getItemStack());
-                final CauseTracker causeTracker = CauseTracker.getInstance();
-                IPacketState packetState = TrackingPhases.PACKET.getStateForPacket(packetIn);
-                if (packetIn instanceof CPacketPlayerTryUseItem) {
-                    if (packetPlayer.getHeldItemMainhand().getItem() instanceof ItemBucket) {
-                        // Don't capture liquids
-                        packetState = PacketPhase.General.NO_CAPTURE_USE_ITEM;
-                    }
-                }
-                if (packetState == null) {
-                    throw new IllegalArgumentException("Found a null packet phase for packet: " + packetIn.getClass());
+                return;
+            }
+            IPacketState packetState = TrackingPhases.PACKET.getStateForPacket(packetIn);
+            if (packetIn instanceof CPacketPlayerTryUseItem) {
+                if (packetPlayer.getHeldItemMainhand().getItem() instanceof ItemBucket) {
+                    // Don't capture liquids
+                    packetState = PacketPhase.General.NO_CAPTURE_USE_ITEM;
                 }
+            }
+            if (packetState == null) {
+                throw new IllegalArgumentException("Found a null packet phase for packet: " + packetIn.getClass());
+            }
+            if (!packetState.requiresTracking()) {
+                packetIn.processPacket(netHandler);
+                return;
+            }
+            final CauseTracker causeTracker = CauseTracker.getInstance();
+            // Packets are not processed re-entrantly on the main thread, so the same context can be used for all of them
+            final boolean reuseContext = !reusableContextInUse && SpongeImpl.getServer().isCallingFromMinecraftThread();
+            if (reuseContext) {
+                reusableContextInUse = true;
+            }
+            try {
                 PhaseContext context = EMPTY_INVALID;
                 if (!TrackingPhases.PACKET.isPacketInvalid(packetIn, packetPlayer, packetState)) {
-                    context = PhaseContext.start()
-                            .add(NamedCause.source(packetPlayer))
+                    context = reuseContext ? REUSABLE_CONTEXT : PhaseContext.start();
+                    context.add(NamedCause.source(packetPlayer))
                             .add(NamedCause.of(InternalNamedCauses.Packet.PACKET_PLAYER, packetPlayer))
                             .add(NamedCause.of(InternalNamedCauses.Packet.CAPTURED_PACKET, packetIn))
-                            .add(NamedCause.of(InternalNamedCauses.Packet.CURSOR, cursor))
+                            .add(NamedCause.of(InternalNamedCauses.Packet.CURSOR, CursorSnapshot.of(packetPlayer.inventory.getItemStack())))
                             .add(NamedCause.of(InternalNamedCauses.Packet.IGNORING_CREATIVE, ignoreCreative));
 
                     TrackingPhases.PACKET.populateContext(packetIn, packetPlayer, packetState, context);
@@ -149,17 +160,31 @@ public static void onProcessPacket(Packet packetIn, INetHandler netHandler) {
                 } else {
                     packetState = PacketPhase.General.INVALID;
                 }
-                causeTracker.switchToPhase(packetState, context, () -> {
+                // Same as switching with a phase body, without allocating one per packet
+                causeTracker.switchToPhase(packetState, context);
+                boolean aborted = false;
+                try {
                     packetIn.processPacket(netHandler);
-                    return null;
-                });
-
-                if (packetIn instanceof CPacketClientStatus) {
-                    // update the reference of player
-                    packetPlayer = ((NetHandlerPlayServer) netHandler).player;
+                } catch (Exception | NoClassDefFoundError e) {
+                    causeTracker.abortCurrentPhase(e);
+                    aborted = true;
                 }
-                ((IMixinEntityPlayerMP) packetPlayer).setPacketItem(null);
+                if (!aborted) {
+                    causeTracker.completePhase(packetState);
+                }
+            } finally {
+                if (reuseContext) {
+                    // Drop the references to the packet and player until the next packet
+                    REUSABLE_CONTEXT.reset();
+                    reusableContextInUse = false;
+                }
+            }
+
+            if (packetIn instanceof CPacketClientStatus) {
+                // update the reference of player
+                packetPlayer = ((NetHandlerPlayServer) netHandler).player;
             }
+            ((IMixinEntityPlayerMP) packetPlayer).setPacketItem(null);
         } else { // client
             packetIn.processPacket(netHandler);
         }
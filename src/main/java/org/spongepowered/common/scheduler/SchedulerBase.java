@@ -34,15 +34,30 @@
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.event.tracking.CauseTracker;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
 
 abstract class SchedulerBase {
 
     // The simple queue of all pending (and running) ScheduledTasks
     private final Map<UUID, ScheduledTask> taskMap = Maps.newConcurrentMap();
+    // Tasks added or cancelled since the last tick, from any thread
+    private final Queue<ScheduledTask> pendingTasks = new ConcurrentLinkedQueue<>();
+    // Waiting tasks by their next execution, in ticks and in milliseconds.
+    // Only touched by the thread running the scheduler.
+    private final TimingWheel<ScheduledTask> tickWheel = new TimingWheel<>(0);
+    private final TimingWheel<ScheduledTask> timeWheel = new TimingWheel<>(0);
+    private final long timeOrigin = System.nanoTime();
+    private final List<ScheduledTask> dueTasks = new ArrayList<>();
+    private final Map<String, TaskStatistics> statistics = Maps.newConcurrentMap();
     private long sequenceNumber = 0L;
     private final String taskNameFmt;
 
@@ -69,6 +84,26 @@ protected long getTimestamp(ScheduledTask task) {
         return System.nanoTime();
     }
 
+    /**
+     * Gets whether the timestamp of the task is currently measured in ticks
+     * rather than in nanoseconds.
+     *
+     * @param task The task
+     * @return True if the task waits for ticks
+     */
+    protected boolean isTickBased(ScheduledTask task) {
+        return false;
+    }
+
+    /**
+     * Gets the number of ticks that have passed, for tick based tasks.
+     *
+     * @return The tick count
+     */
+    protected long getTickCount() {
+        return 0L;
+    }
+
     /**
      * Adds the task to the task map, will attempt to process the task on the
      * next call to {@link #runTick}.
@@ -77,7 +112,11 @@ protected long getTimestamp(ScheduledTask task) {
      */
     protected void addTask(ScheduledTask task) {
         task.setTimestamp(this.getTimestamp(task));
-        this.taskMap.put(task.getUniqueId(), task);
+        task.scheduler = this;
+        if (this.taskMap.put(task.getUniqueId(), task) == null) {
+            this.getStatistics(task.getOwner()).taskAdded();
+        }
+        this.pendingTasks.add(task);
     }
 
     /**
@@ -86,7 +125,23 @@ protected void addTask(ScheduledTask task) {
      * @param task The task to remove
      */
     protected void removeTask(ScheduledTask task) {
-        this.taskMap.remove(task.getUniqueId());
+        if (this.taskMap.remove(task.getUniqueId()) != null) {
+            this.getStatistics(task.getOwner()).taskRemoved();
+        }
+        if (task.node != null) {
+            task.node.cancel();
+            task.node = null;
+        }
+    }
+
+    /**
+     * Called when a task is cancelled, so it can be dropped on the next tick
+     * rather than when it would have been due.
+     *
+     * @param task The cancelled task
+     */
+    void onTaskCancelled(ScheduledTask task) {
+        this.pendingTasks.add(task);
     }
 
     protected Optional<Task> getTask(UUID id) {
@@ -99,16 +154,59 @@ protected Set<Task> getScheduledTasks() {
         }
     }
 
+    Map<String, TaskStatistics> getStatistics() {
+        return Collections.unmodifiableMap(this.statistics);
+    }
+
+    private TaskStatistics getStatistics(PluginContainer plugin) {
+        return this.statistics.computeIfAbsent(plugin.getId(), id -> new TaskStatistics());
+    }
+
+    protected boolean hasPendingTasks() {
+        return !this.pendingTasks.isEmpty();
+    }
+
     /**
-     * Process all tasks in the map.
+     * Gets the time until the next task may become due. Must only be called
+     * by the thread running the scheduler.
+     *
+     * @return The time in nanoseconds, or {@link Long#MAX_VALUE} if there is
+     *     nothing to wait for
+     */
+    protected long getTimeUntilNextTask() {
+        if (this.hasPendingTasks()) {
+            return 0L;
+        }
+        final long next = this.timeWheel.nextEventTime();
+        if (next == Long.MAX_VALUE) {
+            return Long.MAX_VALUE;
+        }
+        return Math.max(0L, TimeUnit.MILLISECONDS.toNanos(next) - (System.nanoTime() - this.timeOrigin));
+    }
+
+    /**
+     * Process all due tasks.
      */
     protected final void runTick() {
         this.preTick();
         TimingsManager.PLUGIN_SCHEDULER_HANDLER.startTimingIfSync();
         try {
-            this.taskMap.values().forEach(this::processTask);
+            ScheduledTask task;
+            while ((task = this.pendingTasks.poll()) != null) {
+                if (task.getState() == ScheduledTask.ScheduledTaskState.CANCELED) {
+                    this.removeTask(task);
+                } else if (task.node == null) {
+                    this.scheduleTask(task);
+                }
+            }
+            this.tickWheel.advance(this.getTickCount(), this.dueTasks);
+            this.timeWheel.advance(Math.floorDiv(System.nanoTime() - this.timeOrigin, 1000000L), this.dueTasks);
+            for (int i = 0; i < this.dueTasks.size(); i++) {
+                this.processTask(this.dueTasks.get(i));
+            }
             this.postTick();
         } finally {
+            this.dueTasks.clear();
             this.finallyPostTick();
         }
         TimingsManager.PLUGIN_SCHEDULER_HANDLER.stopTimingIfSync();
@@ -134,25 +232,44 @@ protected void finallyPostTick() {
     }
 
     /**
-     * Processes the task.
+     * Puts the task on the wheel matching its timestamp, due after its delay
+     * or its interval depending on whether it ran yet.
+     *
+     * @param task The task to schedule
+     */
+    private void scheduleTask(ScheduledTask task) {
+        final long threshold = task.getState() == ScheduledTask.ScheduledTaskState.WAITING ? task.offset : task.period;
+        if (this.isTickBased(task)) {
+            task.node = this.tickWheel.schedule(task, task.getTimestamp() + threshold);
+        } else {
+            // Round up, so the task is never due before its time in nanoseconds
+            final long deadline = task.getTimestamp() + threshold - this.timeOrigin;
+            task.node = this.timeWheel.schedule(task, -Math.floorDiv(-deadline, 1000000L));
+        }
+    }
+
+    /**
+     * Processes a task taken off the wheel.
      *
      * @param task The task to process
      */
     protected void processTask(ScheduledTask task) {
+        task.node = null;
         // If the task is now slated to be cancelled, we just remove it as if it
         // no longer exists.
         if (task.getState() == ScheduledTask.ScheduledTaskState.CANCELED) {
             this.removeTask(task);
             return;
         }
-        long threshold = Long.MAX_VALUE;
+        // A repeating task that has not begun its previous run yet is checked
+        // again after another interval.
+        if (task.getState() == ScheduledTask.ScheduledTaskState.SWITCHING) {
+            this.scheduleTask(task);
+            return;
+        }
         // Figure out if we start a delayed Task after threshold ticks or, start
         // it after the interval (period) of the repeating task parameter.
-        if (task.getState() == ScheduledTask.ScheduledTaskState.WAITING) {
-            threshold = task.offset;
-        } else if (task.getState() == ScheduledTask.ScheduledTaskState.RUNNING) {
-            threshold = task.period;
-        }
+        final long threshold = task.getState() == ScheduledTask.ScheduledTaskState.WAITING ? task.offset : task.period;
         // This moment is 'now'
         long now = this.getTimestamp(task);
         // So, if the current time minus the timestamp of the task is greater
@@ -167,8 +284,10 @@ protected void processTask(ScheduledTask task) {
             // If task is one time shot, remove it from the map.
             if (task.period == 0L) {
                 this.removeTask(task);
+                return;
             }
         }
+        this.scheduleTask(task);
     }
 
     /**
@@ -177,18 +296,21 @@ protected void processTask(ScheduledTask task) {
      * @param task The task to start
      */
     protected void startTask(final ScheduledTask task) {
+        final TaskStatistics statistics = this.getStatistics(task.getOwner());
         this.executeTaskRunnable(task, () -> {
             task.setState(ScheduledTask.ScheduledTaskState.RUNNING);
             if (!task.isAsynchronous()) {
                 CauseTracker.getInstance().getCurrentContext().activeContainer(task.getOwner());
             }
             task.getTimingsHandler().startTimingIfSync();
+            final long start = System.nanoTime();
             try {
                 task.getConsumer().accept(task);
             } catch (Throwable t) {
                 SpongeImpl.getLogger().error("The Scheduler tried to run the task {} owned by {}, but an error occured.", task.getName(),
                                              task.getOwner(), t);
             }
+            statistics.recordExecution(System.nanoTime() - start);
             task.getTimingsHandler().stopTimingIfSync();
             if (!task.isAsynchronous()) {
                 CauseTracker.getInstance().getCurrentContext().activeContainer(null);
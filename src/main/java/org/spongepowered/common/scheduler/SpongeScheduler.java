@@ -38,6 +38,7 @@
 import org.spongepowered.api.util.Functional;
 
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -108,6 +109,20 @@ public Set<Task> getScheduledTasks(boolean async) {
         }
     }
 
+    /**
+     * Gets the task statistics of either scheduler, by plugin id.
+     *
+     * @param async Whether to get the statistics of the async scheduler
+     * @return The statistics by plugin id
+     */
+    public Map<String, TaskStatistics> getTaskStatistics(boolean async) {
+        if (async) {
+            return this.asyncScheduler.getStatistics();
+        } else {
+            return this.syncScheduler.getStatistics();
+        }
+    }
+
     @Override
     public Set<Task> getScheduledTasks(Object plugin) {
         String testOwnerId = checkPluginInstance(plugin).getId();
@@ -0,0 +1,96 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import org.spongepowered.common.util.DurationHistogram;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The scheduled tasks of a plugin and how long their executions took, see
+ * {@link DurationHistogram} for how execution times are bucketed.
+ */
+public final class TaskStatistics {
+
+    private final AtomicInteger scheduledTasks = new AtomicInteger();
+    private final DurationHistogram histogram = new DurationHistogram();
+    private final LongAdder totalTime = new LongAdder();
+
+    void taskAdded() {
+        this.scheduledTasks.incrementAndGet();
+    }
+
+    void taskRemoved() {
+        this.scheduledTasks.decrementAndGet();
+    }
+
+    void recordExecution(long nanos) {
+        this.histogram.record(nanos);
+        this.totalTime.add(nanos);
+    }
+
+    /**
+     * Gets the number of tasks that are currently scheduled.
+     *
+     * @return The number of tasks
+     */
+    public int getScheduledTasks() {
+        return this.scheduledTasks.get();
+    }
+
+    public long getExecutions() {
+        return this.histogram.getCount();
+    }
+
+    /**
+     * Gets the time spent executing tasks.
+     *
+     * @return The time in nanoseconds
+     */
+    public long getTotalTime() {
+        return this.totalTime.sum();
+    }
+
+    /**
+     * Gets a copy of the execution time histogram.
+     *
+     * @return The number of executions per bucket
+     */
+    public long[] getHistogram() {
+        return this.histogram.getCounts();
+    }
+
+    /**
+     * Gets the upper bound of the bucket containing the given percentile of
+     * executions.
+     *
+     * @param percentile The percentile, between 0 and 1
+     * @return The upper bound in microseconds, or 0 if nothing was executed
+     */
+    public long getPercentile(double percentile) {
+        return this.histogram.getPercentile(percentile);
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+/**
+ * A hierarchical timing wheel of entries due at a point in time, measured
+ * in arbitrary units such as ticks or milliseconds.
+ *
+ * <p>Each level has 64 slots, and every slot of a level spans the whole
+ * range of the level below it. Entries are kept in the lowest level whose
+ * current window contains their deadline and are moved down a level when
+ * the wheel reaches their slot, so advancing the wheel only looks at the
+ * entries that are due, plus the occasional move of a slot further out.
+ * Deadlines beyond the range of the highest level wait in an overflow list
+ * that is revisited whenever the highest level wraps around.</p>
+ *
+ * <p>The wheel is not thread safe.</p>
+ *
+ * @param <T> The entry type
+ */
+final class TimingWheel<T> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 6;
+
+    private final Node<T>[][] slots;
+    private final Node<T> overflow = new Node<>(null, 0);
+    private final Node<T> expired = new Node<>(null, 0);
+    private long time;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    TimingWheel(long time) {
+        this.time = time;
+        this.slots = new Node[LEVELS][SLOTS];
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                this.slots[level][slot] = new Node<>(null, 0);
+            }
+        }
+    }
+
+    /**
+     * Gets the time the wheel has been advanced to.
+     *
+     * @return The current time
+     */
+    long getTime() {
+        return this.time;
+    }
+
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * Adds an entry that becomes due at the given deadline. An entry whose
+     * deadline has already passed is due on the next advance.
+     *
+     * @param value The entry
+     * @param deadline The deadline
+     * @return The node of the entry, to cancel it
+     */
+    Node<T> schedule(T value, long deadline) {
+        final Node<T> node = new Node<>(value, deadline);
+        node.wheel = this;
+        this.place(node);
+        this.size++;
+        return node;
+    }
+
+    private void place(Node<T> node) {
+        if (node.deadline <= this.time) {
+            node.linkBefore(this.expired);
+            return;
+        }
+        for (int level = 0; level < LEVELS; level++) {
+            final int shift = SLOT_BITS * (level + 1);
+            // The deadline is inside the current window of this level
+            if ((node.deadline >> shift) == (this.time >> shift)) {
+                node.linkBefore(this.slots[level][(int) (node.deadline >> (SLOT_BITS * level)) & SLOT_MASK]);
+                return;
+            }
+        }
+        node.linkBefore(this.overflow);
+    }
+
+    /**
+     * Advances the wheel to the given time, collecting every entry that
+     * became due in deadline order.
+     *
+     * @param now The time to advance to
+     * @param due The list to add due entries to
+     */
+    void advance(long now, List<T> due) {
+        this.drain(this.expired, due);
+        while (this.time < now) {
+            final long next = this.nextEventTime();
+            if (next > now) {
+                this.time = now;
+                break;
+            }
+            // Nothing happens before the next event, skip straight to it
+            this.time = next;
+            if ((this.time & SLOT_MASK) == 0) {
+                // Find the highest level that wrapped around, then move its
+                // slot down first so lower levels receive all their entries
+                int top = 1;
+                while (top < LEVELS && ((this.time >> (SLOT_BITS * top)) & SLOT_MASK) == 0) {
+                    top++;
+                }
+                if (top == LEVELS) {
+                    this.cascade(this.overflow);
+                    top--;
+                }
+                for (int level = top; level > 0; level--) {
+                    this.cascade(this.slots[level][(int) (this.time >> (SLOT_BITS * level)) & SLOT_MASK]);
+                }
+            }
+            this.drain(this.slots[0][(int) this.time & SLOT_MASK], due);
+            this.drain(this.expired, due);
+        }
+    }
+
+    /**
+     * Gets the next time at which advancing the wheel does any work, either
+     * because entries become due or because a slot is moved down a level.
+     *
+     * @return The next event time, or {@link Long#MAX_VALUE} if the wheel is
+     *     empty
+     */
+    long nextEventTime() {
+        if (this.size == 0) {
+            return Long.MAX_VALUE;
+        }
+        if (!this.expired.isEmpty()) {
+            return this.time;
+        }
+        for (int level = 0; level < LEVELS; level++) {
+            final int shift = SLOT_BITS * level;
+            final long window = (this.time >> (shift + SLOT_BITS)) << (shift + SLOT_BITS);
+            for (int slot = ((int) (this.time >> shift) & SLOT_MASK) + 1; slot < SLOTS; slot++) {
+                if (!this.slots[level][slot].isEmpty()) {
+                    return window | ((long) slot << shift);
+                }
+            }
+        }
+        final int shift = SLOT_BITS * LEVELS;
+        return ((this.time >> shift) + 1) << shift;
+    }
+
+    private void cascade(Node<T> head) {
+        // Detach the list first, overflowing entries are put back into it
+        Node<T> node = head.next;
+        head.prev.next = null;
+        head.prev = head;
+        head.next = head;
+        while (node != null && node != head) {
+            final Node<T> next = node.next;
+            node.prev = node;
+            node.next = node;
+            this.place(node);
+            node = next;
+        }
+    }
+
+    private void drain(Node<T> head, List<T> due) {
+        Node<T> node;
+        while ((node = head.next) != head) {
+            node.unlink();
+            node.wheel = null;
+            this.size--;
+            due.add(node.value);
+        }
+    }
+
+    static final class Node<T> {
+
+        final T value;
+        final long deadline;
+        @Nullable TimingWheel<T> wheel;
+        private Node<T> prev = this;
+        private Node<T> next = this;
+
+        Node(T value, long deadline) {
+            this.value = value;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Removes the entry from its wheel, if it has not become due yet.
+         *
+         * @return True if the entry was removed
+         */
+        boolean cancel() {
+            if (this.wheel == null) {
+                return false;
+            }
+            this.unlink();
+            this.wheel.size--;
+            this.wheel = null;
+            return true;
+        }
+
+        boolean isEmpty() {
+            return this.next == this;
+        }
+
+        void linkBefore(Node<T> head) {
+            this.prev = head.prev;
+            this.next = head;
+            head.prev.next = this;
+            head.prev = this;
+        }
+
+        void unlink() {
+            this.prev.next = this.next;
+            this.next.prev = this.prev;
+            this.prev = this;
+            this.next = this;
+        }
+    }
+}
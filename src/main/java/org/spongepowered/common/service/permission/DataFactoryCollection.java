@@ -32,6 +32,7 @@
 import org.spongepowered.api.service.permission.Subject;
 import org.spongepowered.api.service.permission.SubjectCollection;
 import org.spongepowered.api.util.Tristate;
+import org.spongepowered.common.service.permission.base.GlobalMemorySubjectData;
 import org.spongepowered.common.service.permission.base.SpongeSubject;
 import org.spongepowered.common.service.permission.base.SpongeSubjectCollection;
 
@@ -103,8 +104,23 @@ public MemorySubjectData getSubjectData() {
         }
 
         @Override
-        public Tristate getPermissionValue(Set<Context> contexts, String permission) {
-            Tristate ret = super.getPermissionValue(contexts, permission);
+        protected SpongePermissionService getPermissionCacheService() {
+            return this.data instanceof GlobalMemorySubjectData ? DataFactoryCollection.this.service : null;
+        }
+
+        @Override
+        protected boolean isPermissionCacheable(SpongePermissionService service) {
+            if (!super.isPermissionCacheable(service)) {
+                return false;
+            }
+            // The defaults of the default collection are their own defaults
+            final SpongeSubject defaults = DataFactoryCollection.this.getDefaults();
+            return defaults == this || defaults.isPermissionCacheable(service);
+        }
+
+        @Override
+        protected Tristate resolvePermissionValue(Set<Context> contexts, String permission) {
+            Tristate ret = super.resolvePermissionValue(contexts, permission);
 
             if (ret == Tristate.UNDEFINED) {
                 ret = getDataPermissionValue(DataFactoryCollection.this.getDefaults().getTransientSubjectData(), permission);
@@ -126,5 +126,10 @@ public SubjectCollection getContainingCollection() {
         public MemorySubjectData getSubjectData() {
             return this.data;
         }
+
+        @Override
+        protected SpongePermissionService getPermissionCacheService() {
+            return this.service;
+        }
     }
 }
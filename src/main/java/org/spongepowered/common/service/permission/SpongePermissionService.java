@@ -50,6 +50,7 @@
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 
 /**
@@ -67,6 +68,7 @@ public class SpongePermissionService implements PermissionService {
     private final ConcurrentMap<String, SubjectCollection> subjects = new ConcurrentHashMap<>();
     private final SpongeSubjectCollection defaultCollection;
     private final SpongeSubject defaultData;
+    private final AtomicLong permissionVersion = new AtomicLong();
 
     public SpongePermissionService(Game game) {
         this.game = game;
@@ -99,6 +101,24 @@ static int getServerOpLevel() {
         return SpongeImpl.getServer().getOpPermissionLevel();
     }
 
+    /**
+     * Gets the current version of the permission data of this service, it
+     * changes whenever a permission or parent of any subject is modified.
+     *
+     * @return The permission version
+     */
+    public long getPermissionVersion() {
+        return this.permissionVersion.get();
+    }
+
+    /**
+     * Discards all the permission values that were cached by the subjects
+     * of this service.
+     */
+    public void invalidatePermissionCaches() {
+        this.permissionVersion.incrementAndGet();
+    }
+
     public Subject getGroupForOpLevel(int level) {
         return getGroupSubjects().get("op_" + level);
     }
@@ -30,6 +30,7 @@
 import org.spongepowered.api.service.permission.PermissionService;
 import org.spongepowered.api.service.permission.Subject;
 import org.spongepowered.api.util.Tristate;
+import org.spongepowered.common.service.permission.SpongePermissionService;
 
 import java.util.List;
 import java.util.Map;
@@ -37,6 +38,8 @@
 
 public class GlobalMemorySubjectData extends MemorySubjectData {
 
+    private final PermissionService service;
+
     /**
      * Creates a new subject data instance, using the provided service to request instances of permission subjects.
      *
@@ -44,8 +47,26 @@ public class GlobalMemorySubjectData extends MemorySubjectData {
      */
     public GlobalMemorySubjectData(PermissionService service) {
         super(service);
+        this.service = service;
     }
 
+    /**
+     * Invalidates the permission values cached by the {@link SpongeSubject}s
+     * of the service, must be called after every change that may affect the
+     * resolved permissions.
+     */
+    protected void invalidateCaches() {
+        if (this.service instanceof SpongePermissionService) {
+            ((SpongePermissionService) this.service).invalidatePermissionCaches();
+        }
+    }
+
+    private boolean invalidateIf(boolean changed) {
+        if (changed) {
+            invalidateCaches();
+        }
+        return changed;
+    }
 
     @Override
     public Map<Set<Context>, List<Subject>> getAllParents() {
@@ -57,7 +78,7 @@ public boolean setPermission(Set<Context> contexts, String permission, Tristate
         if (!GLOBAL_CONTEXT.equals(contexts)) {
             return false;
         }
-        return super.setPermission(contexts, permission, value);
+        return invalidateIf(super.setPermission(contexts, permission, value));
     }
 
     @Override
@@ -65,7 +86,12 @@ public boolean clearPermissions(Set<Context> contexts) {
         if (!GLOBAL_CONTEXT.equals(contexts)) {
             return false;
         }
-        return super.clearPermissions(contexts);
+        return invalidateIf(super.clearPermissions(contexts));
+    }
+
+    @Override
+    public boolean clearPermissions() {
+        return invalidateIf(super.clearPermissions());
     }
 
     @Override
@@ -73,7 +99,7 @@ public boolean addParent(Set<Context> contexts, Subject parent) {
         if (!GLOBAL_CONTEXT.equals(contexts)) {
             return false;
         }
-        return super.addParent(contexts, parent);
+        return invalidateIf(super.addParent(contexts, parent));
     }
 
     @Override
@@ -81,7 +107,7 @@ public boolean removeParent(Set<Context> contexts, Subject parent) {
         if (!GLOBAL_CONTEXT.equals(contexts)) {
             return false;
         }
-        return super.removeParent(contexts, parent);
+        return invalidateIf(super.removeParent(contexts, parent));
     }
 
     @Override
@@ -89,6 +115,11 @@ public boolean clearParents(Set<Context> contexts) {
         if (!GLOBAL_CONTEXT.equals(contexts)) {
             return false;
         }
-        return super.clearParents(contexts);
+        return invalidateIf(super.clearParents(contexts));
+    }
+
+    @Override
+    public boolean clearParents() {
+        return invalidateIf(super.clearParents());
     }
 }
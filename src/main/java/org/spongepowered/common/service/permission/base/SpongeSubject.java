@@ -29,13 +29,20 @@
 import org.spongepowered.api.service.permission.Subject;
 import org.spongepowered.api.service.permission.SubjectData;
 import org.spongepowered.api.util.Tristate;
+import org.spongepowered.common.service.permission.SpongePermissionService;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nullable;
 
 public abstract class SpongeSubject implements Subject {
 
+    @Nullable private volatile PermissionCache permissionCache;
+
     @Override
     public MemorySubjectData getTransientSubjectData() {
         return getSubjectData();
@@ -51,9 +58,68 @@ public boolean hasPermission(Set<Context> contexts, String permission) {
 
     @Override
     public Tristate getPermissionValue(Set<Context> contexts, String permission) {
+        final SpongePermissionService service = getPermissionCacheService();
+        if (service == null) {
+            return resolvePermissionValue(contexts, permission);
+        }
+        // All contexts resolve to the global one, so the permission alone is enough as key
+        final long version = service.getPermissionVersion();
+        PermissionCache cache = this.permissionCache;
+        if (cache == null || cache.version != version) {
+            this.permissionCache = cache = new PermissionCache(version);
+        }
+        Tristate value = cache.values.get(permission);
+        if (value == null) {
+            value = resolvePermissionValue(contexts, permission);
+            if (isPermissionCacheable(service)) {
+                cache.values.put(permission, value);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Resolves the permission value of this subject without using the cache.
+     *
+     * @param contexts The contexts to check with
+     * @param permission The permission to check
+     * @return The permission value
+     */
+    protected Tristate resolvePermissionValue(Set<Context> contexts, String permission) {
         return getDataPermissionValue(getSubjectData(), permission);
     }
 
+    /**
+     * Gets the service that is notified of every change to the data of this
+     * subject, the resolved permissions are only cached if it is present.
+     *
+     * @return The service, or null if the permissions cannot be cached
+     */
+    @Nullable
+    protected SpongePermissionService getPermissionCacheService() {
+        return null;
+    }
+
+    /**
+     * Gets whether the permissions of this subject only depend on data
+     * whose changes are tracked by the given service, including the data
+     * of all its parents.
+     *
+     * @param service The service
+     * @return Whether the resolved permissions may be cached
+     */
+    protected boolean isPermissionCacheable(SpongePermissionService service) {
+        if (getPermissionCacheService() != service) {
+            return false;
+        }
+        for (Subject parent : getSubjectData().getParents(SubjectData.GLOBAL_CONTEXT)) {
+            if (!(parent instanceof SpongeSubject) || !((SpongeSubject) parent).isPermissionCacheable(service)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     protected Tristate getDataPermissionValue(MemorySubjectData subject, String permission) {
         Tristate res = subject.getNodeTree(SubjectData.GLOBAL_CONTEXT).get(permission);
 
@@ -103,4 +169,14 @@ public Optional<String> getOption(Set<Context> contexts, String key) {
     public Set<Context> getActiveContexts() {
         return SubjectData.GLOBAL_CONTEXT;
     }
+
+    private static final class PermissionCache {
+
+        final long version;
+        final Map<String, Tristate> values = new ConcurrentHashMap<>();
+
+        PermissionCache(long version) {
+            this.version = version;
+        }
+    }
 }
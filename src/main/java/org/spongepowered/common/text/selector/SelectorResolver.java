@@ -27,7 +27,9 @@
 import static com.google.common.base.Preconditions.checkNotNull;
 import static org.spongepowered.common.util.OptionalUtils.asSet;
 
+import com.flowpowered.math.GenericMath;
 import com.flowpowered.math.vector.Vector3d;
+import com.google.common.base.Predicates;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
@@ -52,6 +54,7 @@
 import org.spongepowered.api.text.selector.Selector;
 import org.spongepowered.api.text.selector.SelectorType;
 import org.spongepowered.api.text.selector.SelectorTypes;
+import org.spongepowered.api.util.AABB;
 import org.spongepowered.api.util.Functional;
 import org.spongepowered.api.command.CommandSource;
 import org.spongepowered.api.world.Locatable;
@@ -59,6 +62,7 @@
 import org.spongepowered.api.world.World;
 import org.spongepowered.api.world.extent.Extent;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.util.VecHelper;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -70,6 +74,8 @@
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import javax.annotation.Nullable;
+
 /**
  * A resolver that acts like Vanilla Minecraft in many regards.
  */
@@ -81,6 +87,10 @@ public class SelectorResolver {
     private static final Set<ArgumentType<?>> LOCATION_BASED_ARGUMENTS;
     private static final Function<Number, Double> TO_DOUBLE = Number::doubleValue;
     private static final Collection<SelectorType> INFINITE_TYPES = ImmutableSet.of(SelectorTypes.ALL_ENTITIES, SelectorTypes.ALL_PLAYERS);
+    // Used for axes the arguments leave open, the world border never reaches this far
+    private static final double UNBOUNDED = 30000000;
+    // Searching the chunks of larger boxes costs more than walking the loaded entities
+    private static final int MAX_BOUNDED_CHUNKS = 32 * 32;
 
     static {
         ImmutableSet.Builder<ArgumentType<?>> builder = ImmutableSet.builder();
@@ -116,6 +126,8 @@ private static <I, R> Predicate<I> requireTypePredicate(Class<I> inputType, fina
     private final Selector selector;
     private final Predicate<Entity> selectorFilter;
     private final boolean alwaysUsePosition;
+    private final boolean playerOnly;
+    @Nullable private final AABB bounds;
 
     public SelectorResolver(Collection<? extends Extent> extents, Selector selector, boolean force) {
         this(extents, null, null, selector, force);
@@ -135,7 +147,9 @@ private SelectorResolver(Collection<? extends Extent> extents, Vector3d position
         this.position = position == null ? ORIGIN : position;
         this.original = Optional.ofNullable(original);
         this.selector = checkNotNull(selector);
+        this.playerOnly = isPlayerOnlySelector();
         this.selectorFilter = makeFilter();
+        this.bounds = makeBounds();
         this.alwaysUsePosition = force;
     }
 
@@ -153,20 +167,74 @@ private Predicate<Entity> makeFilter() {
         addRotationFilters(filters);
         addTeamFilters(filters);
         addScoreFilters(filters);
-        SelectorType selectorType = sel.getType();
-        Optional<Invertible<EntityType>> type = sel.getArgument(ArgumentTypes.ENTITY_TYPE);
-        // isn't an ALL_ENTITIES selector or it is a RANDOM selector for only players
-        boolean isPlayerOnlySelector =
-            selectorType == SelectorTypes.ALL_PLAYERS || selectorType == SelectorTypes.NEAREST_PLAYER
-                || (selectorType == SelectorTypes.RANDOM && type.isPresent() && !type.get().isInverted()
-                && type.get().getValue() != EntityTypes.PLAYER);
-        if (isPlayerOnlySelector) {
+        if (this.playerOnly) {
             // insert at the start so it applies first
             filters.add(0, requireTypePredicate(Entity.class, Player.class));
         }
         return Functional.predicateAnd(filters);
     }
 
+    private boolean isPlayerOnlySelector() {
+        SelectorType selectorType = this.selector.getType();
+        Optional<Invertible<EntityType>> type = this.selector.getArgument(ArgumentTypes.ENTITY_TYPE);
+        // isn't an ALL_ENTITIES selector or it is a RANDOM selector for only players
+        return selectorType == SelectorTypes.ALL_PLAYERS || selectorType == SelectorTypes.NEAREST_PLAYER
+                || (selectorType == SelectorTypes.RANDOM && type.isPresent() && !type.get().isInverted()
+                && type.get().getValue() != EntityTypes.PLAYER);
+    }
+
+    /**
+     * Gets the box containing every position the radius and dimension
+     * arguments accept, if they bound both horizontal axes to at most
+     * {@link #MAX_BOUNDED_CHUNKS} chunks. Only the chunks within it have
+     * to be searched for entities.
+     */
+    @Nullable
+    private AABB makeBounds() {
+        final Selector sel = this.selector;
+        final Vector3d position = getPositionOrDefault(this.position, ArgumentTypes.POSITION);
+        Vector3d min = new Vector3d(-UNBOUNDED, -UNBOUNDED, -UNBOUNDED);
+        Vector3d max = new Vector3d(UNBOUNDED, UNBOUNDED, UNBOUNDED);
+        boolean boundedX = false;
+        boolean boundedZ = false;
+        Optional<Integer> radiusMax = sel.get(ArgumentTypes.RADIUS.maximum());
+        if (radiusMax.isPresent()) {
+            final double radius = radiusMax.get();
+            min = position.sub(radius, radius, radius);
+            max = position.add(radius, radius, radius);
+            boundedX = true;
+            boundedZ = true;
+        }
+        Vector3d boxDimensions = getPositionOrDefault(ORIGIN, ArgumentTypes.DIMENSION);
+        final Vector3d boxMin = position.min(position.add(boxDimensions));
+        final Vector3d boxMax = position.max(position.add(boxDimensions));
+        if (sel.has(ArgumentTypes.DIMENSION.x())) {
+            min = new Vector3d(Math.max(min.getX(), boxMin.getX()), min.getY(), min.getZ());
+            max = new Vector3d(Math.min(max.getX(), boxMax.getX()), max.getY(), max.getZ());
+            boundedX = true;
+        }
+        if (sel.has(ArgumentTypes.DIMENSION.y())) {
+            min = new Vector3d(min.getX(), Math.max(min.getY(), boxMin.getY()), min.getZ());
+            max = new Vector3d(max.getX(), Math.min(max.getY(), boxMax.getY()), max.getZ());
+        }
+        if (sel.has(ArgumentTypes.DIMENSION.z())) {
+            min = new Vector3d(min.getX(), min.getY(), Math.max(min.getZ(), boxMin.getZ()));
+            max = new Vector3d(max.getX(), max.getY(), Math.min(max.getZ(), boxMax.getZ()));
+            boundedZ = true;
+        }
+        if (!boundedX || !boundedZ) {
+            return null;
+        }
+        final long chunksX = (GenericMath.floor(max.getX() + 1) >> 4) - (GenericMath.floor(min.getX() - 1) >> 4) + 1L;
+        final long chunksZ = (GenericMath.floor(max.getZ() + 1) >> 4) - (GenericMath.floor(min.getZ() - 1) >> 4) + 1L;
+        if (chunksX * chunksZ > MAX_BOUNDED_CHUNKS) {
+            return null;
+        }
+        // The box is tested against entity bounding boxes, widen it so that entities on its edges are still found.
+        // The filters still test the exact positions.
+        return new AABB(min.sub(Vector3d.ONE), max.add(Vector3d.ONE));
+    }
+
     private void addDimensionFilters(final Vector3d position, List<Predicate<Entity>> filters) {
         Selector sel = this.selector;
         Vector3d boxDimensions = getPositionOrDefault(ORIGIN, ArgumentTypes.DIMENSION);
@@ -350,7 +418,7 @@ public Set<Entity> resolve() {
         int count = 0;
         ImmutableSet.Builder<Entity> entities = ImmutableSet.builder();
         for (Extent extent : extents) {
-            Collection<Entity> allEntities = extent.getEntities();
+            Collection<? extends Entity> allEntities = getCandidates(extent);
             if (selectorType == SelectorTypes.RANDOM) {
                 List<Entity> entityList = new ArrayList<>(allEntities);
                 Collections.shuffle(entityList);
@@ -363,14 +431,27 @@ public Set<Entity> resolve() {
                 }
                 entities.add(e);
                 count++;
-                if (maxToSelect != 0 && count > maxToSelect) {
-                    break;
+                if (maxToSelect != 0 && count >= maxToSelect) {
+                    return entities.build();
                 }
             }
         }
         return entities.build();
     }
 
+    private Collection<? extends Entity> getCandidates(Extent extent) {
+        if (this.playerOnly && extent instanceof World) {
+            return ((World) extent).getPlayers();
+        }
+        if (this.bounds != null && extent instanceof net.minecraft.world.World) {
+            // A list in chunk order, as vanilla selectors use, so count limited selectors pick entities in a stable order.
+            // The overload without a predicate skips spectators, which is left to the selector filters.
+            return (List<Entity>) (List<?>) ((net.minecraft.world.World) extent).getEntitiesWithinAABB(net.minecraft.entity.Entity.class,
+                    VecHelper.toMC(this.bounds), Predicates.alwaysTrue());
+        }
+        return extent.getEntities();
+    }
+
     private Set<? extends Extent> getExtentSet() {
         if (!this.alwaysUsePosition && Collections.disjoint(getArgumentTypes(this.selector.getArguments()), LOCATION_BASED_ARGUMENTS)) {
             return ImmutableSet.copyOf(SpongeImpl.getGame().getServer().getWorlds());
@@ -0,0 +1,444 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util;
+
+import it.unimi.dsi.fastutil.HashCommon;
+import it.unimi.dsi.fastutil.longs.AbstractLong2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.objects.AbstractObjectIterator;
+import it.unimi.dsi.fastutil.objects.AbstractObjectSet;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import it.unimi.dsi.fastutil.objects.ObjectSet;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import javax.annotation.Nullable;
+
+/**
+ * A long keyed hash map that can be read from any thread without locking.
+ *
+ * <p>Keys are spread over a fixed number of stripes, each an open addressed
+ * table guarded by its own lock for writes. Removed slots are marked with a
+ * tombstone rather than shifted, so a concurrent reader probing a table never
+ * skips over a live entry, and a table that needs to grow or to drop its
+ * tombstones is rebuilt and swapped in whole.</p>
+ *
+ * <p>The last entry found by {@link #get(long)} is kept as a shortcut for
+ * repeated lookups of the same key, which is the common pattern when working
+ * through the blocks of a chunk. Entries are flagged when they are removed or
+ * replaced, so the shortcut never returns a stale value.</p>
+ *
+ * <p>Iteration is weakly consistent: it never fails because of concurrent
+ * modification, but may or may not reflect changes made while it runs.</p>
+ *
+ * @param <V> The value type
+ */
+public class ConcurrentLong2ObjectMap<V> extends AbstractLong2ObjectMap<V> {
+
+    private static final long serialVersionUID = 4410916448259034961L;
+    private static final Object TOMBSTONE = new Object();
+    private static final int DEFAULT_STRIPES = 16;
+    private static final int INITIAL_CAPACITY = 64;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private final Stripe[] stripes;
+    private final int stripeMask;
+    @Nullable private transient Node<V> lastHit;
+
+    public ConcurrentLong2ObjectMap() {
+        this(DEFAULT_STRIPES);
+    }
+
+    public ConcurrentLong2ObjectMap(int stripes) {
+        final int count = HashCommon.nextPowerOfTwo(Math.max(1, stripes));
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            this.stripes[i] = new Stripe();
+        }
+        this.stripeMask = count - 1;
+    }
+
+    private static long hash(long key) {
+        return HashCommon.mix(key);
+    }
+
+    private Stripe stripeFor(long hash) {
+        return this.stripes[(int) (hash >>> 32) & this.stripeMask];
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private Node<V> find(long key) {
+        final long hash = hash(key);
+        final AtomicReferenceArray<Object> table = stripeFor(hash).table;
+        final int mask = table.length() - 1;
+        int index = (int) hash & mask;
+        Object slot;
+        while ((slot = table.get(index)) != null) {
+            if (slot != TOMBSTONE && ((Node<V>) slot).key == key) {
+                return (Node<V>) slot;
+            }
+            index = (index + 1) & mask;
+        }
+        return null;
+    }
+
+    @Override
+    public V get(long key) {
+        Node<V> node = this.lastHit;
+        if (node != null && node.key == key && !node.removed) {
+            return node.value;
+        }
+        node = find(key);
+        if (node == null) {
+            return this.defRetValue;
+        }
+        this.lastHit = node;
+        return node.value;
+    }
+
+    @Override
+    public boolean containsKey(long key) {
+        return find(key) != null;
+    }
+
+    @Override
+    public V put(long key, V value) {
+        final long hash = hash(key);
+        final Stripe stripe = stripeFor(hash);
+        synchronized (stripe) {
+            final Node<V> previous = stripe.put(hash, new Node<>(key, value));
+            if (previous == null) {
+                return this.defRetValue;
+            }
+            previous.removed = true;
+            return previous.value;
+        }
+    }
+
+    @Override
+    public V remove(long key) {
+        final long hash = hash(key);
+        final Stripe stripe = stripeFor(hash);
+        synchronized (stripe) {
+            final Node<V> previous = stripe.remove(hash, key, null);
+            return previous == null ? this.defRetValue : previous.value;
+        }
+    }
+
+    /**
+     * Removes the given entry if it is still mapped.
+     *
+     * @param node The entry to remove
+     */
+    void removeNode(Node<V> node) {
+        final long hash = hash(node.key);
+        final Stripe stripe = stripeFor(hash);
+        synchronized (stripe) {
+            stripe.remove(hash, node.key, node);
+        }
+    }
+
+    @Override
+    public void clear() {
+        for (Stripe stripe : this.stripes) {
+            synchronized (stripe) {
+                stripe.clear();
+            }
+        }
+        this.lastHit = null;
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : this.stripes) {
+            size += stripe.size;
+        }
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        for (Stripe stripe : this.stripes) {
+            if (stripe.size != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public ObjectSet<Long2ObjectMap.Entry<V>> long2ObjectEntrySet() {
+        return new EntrySet();
+    }
+
+    static final class Node<V> implements Long2ObjectMap.Entry<V> {
+
+        final long key;
+        final V value;
+        volatile boolean removed;
+
+        Node(long key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public long getLongKey() {
+            return this.key;
+        }
+
+        @Override
+        @Deprecated
+        public Long getKey() {
+            return this.key;
+        }
+
+        @Override
+        public V getValue() {
+            return this.value;
+        }
+
+        @Override
+        public V setValue(V value) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Long2ObjectMap.Entry)) {
+                return false;
+            }
+            final Long2ObjectMap.Entry<?> other = (Long2ObjectMap.Entry<?>) obj;
+            return this.key == other.getLongKey() && (this.value == null ? other.getValue() == null : this.value.equals(other.getValue()));
+        }
+
+        @Override
+        public int hashCode() {
+            return HashCommon.long2int(this.key) ^ (this.value == null ? 0 : this.value.hashCode());
+        }
+
+        @Override
+        public String toString() {
+            return this.key + "->" + this.value;
+        }
+    }
+
+    /**
+     * A single open addressed table. All writes happen while holding the
+     * stripe's monitor, reads only go through the volatile table reference.
+     */
+    private static final class Stripe {
+
+        volatile AtomicReferenceArray<Object> table = new AtomicReferenceArray<>(INITIAL_CAPACITY);
+        volatile int size;
+        // Live entries plus tombstones, guarded by this
+        private int used;
+
+        @Nullable
+        @SuppressWarnings("unchecked")
+        <V> Node<V> put(long hash, Node<V> node) {
+            AtomicReferenceArray<Object> table = this.table;
+            int mask = table.length() - 1;
+            int index = (int) hash & mask;
+            int free = -1;
+            Object slot;
+            while ((slot = table.get(index)) != null) {
+                if (slot == TOMBSTONE) {
+                    if (free < 0) {
+                        free = index;
+                    }
+                } else if (((Node<V>) slot).key == node.key) {
+                    table.set(index, node);
+                    return (Node<V>) slot;
+                }
+                index = (index + 1) & mask;
+            }
+            if (free >= 0) {
+                table.set(free, node);
+                this.size++;
+                return null;
+            }
+            if (this.used + 1 > table.length() * LOAD_FACTOR) {
+                table = rehash();
+                mask = table.length() - 1;
+                index = (int) hash & mask;
+                while (table.get(index) != null) {
+                    index = (index + 1) & mask;
+                }
+            }
+            table.set(index, node);
+            this.used++;
+            this.size++;
+            return null;
+        }
+
+        /**
+         * Removes the entry for the given key, optionally only if it is the
+         * given node.
+         */
+        @Nullable
+        @SuppressWarnings("unchecked")
+        <V> Node<V> remove(long hash, long key, @Nullable Node<V> expected) {
+            final AtomicReferenceArray<Object> table = this.table;
+            final int mask = table.length() - 1;
+            int index = (int) hash & mask;
+            Object slot;
+            while ((slot = table.get(index)) != null) {
+                if (slot != TOMBSTONE && ((Node<V>) slot).key == key) {
+                    if (expected != null && slot != expected) {
+                        return null;
+                    }
+                    table.set(index, TOMBSTONE);
+                    ((Node<V>) slot).removed = true;
+                    this.size--;
+                    return (Node<V>) slot;
+                }
+                index = (index + 1) & mask;
+            }
+            return null;
+        }
+
+        void clear() {
+            final AtomicReferenceArray<Object> table = this.table;
+            for (int i = 0; i < table.length(); i++) {
+                final Object slot = table.get(i);
+                if (slot != null && slot != TOMBSTONE) {
+                    ((Node<?>) slot).removed = true;
+                }
+            }
+            this.table = new AtomicReferenceArray<>(INITIAL_CAPACITY);
+            this.used = 0;
+            this.size = 0;
+        }
+
+        /**
+         * Copies the live entries into a new table, growing it if the stripe
+         * is mostly full of live entries rather than tombstones. The old table
+         * is left untouched for readers that are still probing it.
+         */
+        private AtomicReferenceArray<Object> rehash() {
+            final AtomicReferenceArray<Object> old = this.table;
+            int capacity = old.length();
+            while ((this.size + 1) > capacity * LOAD_FACTOR / 2) {
+                capacity <<= 1;
+            }
+            final AtomicReferenceArray<Object> table = new AtomicReferenceArray<>(capacity);
+            final int mask = capacity - 1;
+            for (int i = 0; i < old.length(); i++) {
+                final Object slot = old.get(i);
+                if (slot == null || slot == TOMBSTONE) {
+                    continue;
+                }
+                int index = (int) hash(((Node<?>) slot).key) & mask;
+                while (table.get(index) != null) {
+                    index = (index + 1) & mask;
+                }
+                table.set(index, slot);
+            }
+            this.used = this.size;
+            this.table = table;
+            return table;
+        }
+    }
+
+    private final class EntrySet extends AbstractObjectSet<Long2ObjectMap.Entry<V>> {
+
+        @Override
+        public ObjectIterator<Long2ObjectMap.Entry<V>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return ConcurrentLong2ObjectMap.this.size();
+        }
+
+        @Override
+        public void clear() {
+            ConcurrentLong2ObjectMap.this.clear();
+        }
+    }
+
+    private final class EntryIterator extends AbstractObjectIterator<Long2ObjectMap.Entry<V>> {
+
+        private int stripe = -1;
+        @Nullable private AtomicReferenceArray<Object> table;
+        private int index;
+        @Nullable private Node<V> next;
+        @Nullable private Node<V> last;
+
+        EntryIterator() {
+            advance();
+        }
+
+        @SuppressWarnings("unchecked")
+        private void advance() {
+            this.next = null;
+            while (true) {
+                if (this.table != null) {
+                    while (this.index < this.table.length()) {
+                        final Object slot = this.table.get(this.index++);
+                        if (slot != null && slot != TOMBSTONE) {
+                            this.next = (Node<V>) slot;
+                            return;
+                        }
+                    }
+                }
+                if (++this.stripe >= ConcurrentLong2ObjectMap.this.stripes.length) {
+                    return;
+                }
+                this.table = ConcurrentLong2ObjectMap.this.stripes[this.stripe].table;
+                this.index = 0;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.next != null;
+        }
+
+        @Override
+        public Long2ObjectMap.Entry<V> next() {
+            if (this.next == null) {
+                throw new NoSuchElementException();
+            }
+            this.last = this.next;
+            advance();
+            return this.last;
+        }
+
+        @Override
+        public void remove() {
+            if (this.last == null) {
+                throw new IllegalStateException();
+            }
+            removeNode(this.last);
+            this.last = null;
+        }
+    }
+}
@@ -26,22 +26,36 @@
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
-import java.io.File;
+import java.io.BufferedReader;
 import java.io.IOException;
 import java.lang.reflect.Type;
 import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.annotation.Nullable;
 
 import org.spongepowered.common.SpongeImpl;
 import com.google.common.base.Charsets;
 import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.Maps;
-import com.google.common.io.Files;
 import com.google.common.reflect.TypeToken;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonSyntaxException;
@@ -59,18 +73,34 @@
  * here :
  * 
  * https://github.com/MinecraftForge/MinecraftForge/blob/1.8.9/src/main/java/net/minecraftforge/common/UsernameCache.java
+ * <p>
+ * Unlike Forge, changes are appended to a log on save, and the full cache
+ * file is only rewritten on a background thread once the log has grown
+ * large compared to the cache.
  */
 public final class SpongeUsernameCache {
 
-    // Thread-safe map
-    private static Map<UUID, String> map = new ConcurrentHashMap<>();
+    // Thread-safe maps, names are indexed in lower case. A name held by several players, as names can be
+    // reused after a name change, resolves to the player which took it last, or to any of them after a load
+    private static final Map<UUID, String> map = new ConcurrentHashMap<>();
+    private static final Map<String, NameHolders> uuidsByName = new ConcurrentHashMap<>();
+    // Changes not yet appended to the log, a removal is logged as a lone uuid
+    private static final Queue<String> pendingChanges = new ConcurrentLinkedQueue<>();
 
     private static final Charset charset = Charsets.UTF_8;
 
-    private static final File saveFile = new File(".", "usernamecache.json");
+    private static final Path saveFile = Paths.get(".", "usernamecache.json");
+    private static final Path logFile = Paths.get(".", "usernamecache.log");
+    // The log that is being merged into the save file, replayed before the current log
+    private static final Path compactingLogFile = Paths.get(".", "usernamecache.log.old");
+    private static final int MIN_COMPACTION_ENTRIES = 1000;
     private static final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+    private static final ExecutorService compactionExecutor = Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder().setNameFormat("Sponge - Username Cache Compaction Thread").setDaemon(true).build());
+    private static final AtomicBoolean compacting = new AtomicBoolean();
 
     private static boolean loaded = false;
+    private static int logEntries;
 
     /**
      * Set a player's current username
@@ -87,11 +117,21 @@ public static void setUsername(UUID uuid, String username) {
             load();
         }
 
-        if (username.equals(map.get(uuid))) {
-            return;
+        if (put(uuid, username)) {
+            pendingChanges.add(uuid + "\t" + username);
         }
+    }
 
-        map.put(uuid, username);
+    private static boolean put(UUID uuid, String username) {
+        final String previous = map.put(uuid, username);
+        if (username.equals(previous)) {
+            return false;
+        }
+        if (previous != null) {
+            unindex(uuid, previous);
+        }
+        index(uuid, username);
+        return true;
     }
 
     /**
@@ -107,13 +147,48 @@ public static boolean removeUsername(UUID uuid) {
             load();
         }
 
-        if (map.remove(uuid) != null) {
+        if (remove(uuid)) {
+            pendingChanges.add(uuid.toString());
             return true;
         }
 
         return false;
     }
 
+    private static boolean remove(UUID uuid) {
+        final String previous = map.remove(uuid);
+        if (previous != null) {
+            unindex(uuid, previous);
+            return true;
+        }
+        return false;
+    }
+
+    private static void index(UUID uuid, String username) {
+        uuidsByName.compute(username.toLowerCase(Locale.ENGLISH), (name, holders) -> {
+            if (holders == null) {
+                holders = new NameHolders();
+            }
+            holders.all.add(uuid);
+            holders.latest = uuid;
+            return holders;
+        });
+    }
+
+    private static void unindex(UUID uuid, String username) {
+        uuidsByName.computeIfPresent(username.toLowerCase(Locale.ENGLISH), (name, holders) -> {
+            holders.all.remove(uuid);
+            if (holders.all.isEmpty()) {
+                return null;
+            }
+            if (uuid.equals(holders.latest)) {
+                // Another player still holds the name, they take over the lookups
+                holders.latest = holders.all.iterator().next();
+            }
+            return holders;
+        });
+    }
+
     /**
      * Get the player's last known username
      * <p>
@@ -138,6 +213,10 @@ public static String getLastKnownUsername(UUID uuid) {
      * Get the player's last known {@link java.util.UUID UUID}
      * <p>
      * <b>May be <code>null</code></b>
+     * <p>
+     * If several players have the username as their last known one, the
+     * player which took it most recently is returned. The order in which
+     * they took it isn't saved, so after a load this may be any of them.
      *
      * @param username
      *            the player's username
@@ -151,13 +230,8 @@ public static UUID getLastKnownUUID(String username) {
             load();
         }
 
-        for (Map.Entry<UUID, String> mapEntry : map.entrySet()) {
-            if (mapEntry.getValue().equalsIgnoreCase(username)) {
-                return mapEntry.getKey();
-            }
-        }
-
-        return null;
+        final NameHolders holders = uuidsByName.get(username.toLowerCase(Locale.ENGLISH));
+        return holders == null ? null : holders.latest;
     }
 
     /**
@@ -192,43 +266,142 @@ public static Map<UUID, String> getMap() {
     /**
      * Save the cache to file
      */
-    public static void save() {
+    public static synchronized void save() {
         if (!loaded) {
             load();
         }
 
+        final List<String> changes = new ArrayList<>();
+        for (String change = pendingChanges.poll(); change != null; change = pendingChanges.poll()) {
+            changes.add(change);
+        }
+        if (!changes.isEmpty()) {
+            try {
+                Files.write(logFile, changes, charset, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                logEntries += changes.size();
+            } catch (IOException e) {
+                // The changes are still in the cache and will be written by the next compaction
+                SpongeImpl.getLogger().error("Failed to save username cache to file!", e);
+            }
+        }
+
+        if ((logEntries >= Math.max(MIN_COMPACTION_ENTRIES, map.size() / 2) || Files.exists(compactingLogFile))
+                && compacting.compareAndSet(false, true)) {
+            try {
+                // A log left behind by a failed compaction is merged by this one as well
+                if (Files.notExists(compactingLogFile)) {
+                    Files.move(logFile, compactingLogFile);
+                    logEntries = 0;
+                }
+            } catch (IOException e) {
+                SpongeImpl.getLogger().error("Failed to rotate the username cache log!", e);
+                compacting.set(false);
+                return;
+            }
+            compactionExecutor.execute(SpongeUsernameCache::compact);
+        }
+    }
+
+    private static void compact() {
         try {
-            // Make sure we don't save when another thread is still saving
-            Files.write(gson.toJson(map), saveFile, charset);
+            // Taken after the log was rotated, so it contains every change of the rotated log
+            writeSaveFile(ImmutableMap.copyOf(map));
+            Files.deleteIfExists(compactingLogFile);
         } catch (IOException e) {
             SpongeImpl.getLogger().error("Failed to save username cache to file!", e);
+        } finally {
+            compacting.set(false);
         }
     }
 
+    private static void writeSaveFile(Map<UUID, String> entries) throws IOException {
+        final Path tempFile = saveFile.resolveSibling(saveFile.getFileName() + ".tmp");
+        Files.write(tempFile, gson.toJson(entries).getBytes(charset));
+        Files.move(tempFile, saveFile, StandardCopyOption.REPLACE_EXISTING);
+    }
+
     /**
      * Load the cache from file
      */
-    public static void load() {
+    public static synchronized void load() {
         loaded = true;
-        if (!saveFile.exists()) return;
+        map.clear();
+        uuidsByName.clear();
+        logEntries = 0;
 
-        try {
+        if (Files.exists(saveFile)) {
+            try {
+                String json = new String(Files.readAllBytes(saveFile), charset);
+                Type type = new TypeToken<Map<UUID, String>>() { private static final long serialVersionUID = 1L; }.getType();
 
-            String json = Files.toString(saveFile, charset);
-            Type type = new TypeToken<Map<UUID, String>>() { private static final long serialVersionUID = 1L; }.getType();
+                final Map<UUID, String> saved = gson.fromJson(json, type);
+                // Can sometimes be null when the json file is malformed
+                if (saved != null) {
+                    saved.forEach((uuid, username) -> {
+                        if (uuid != null && username != null) {
+                            put(uuid, username);
+                        }
+                    });
+                }
+            } catch (JsonSyntaxException e) {
+                SpongeImpl.getLogger().error("Could not parse username cache file as valid json, deleting file", e);
+                deleteFile(saveFile);
+            } catch (IOException e) {
+                SpongeImpl.getLogger().error("Failed to read username cache file from disk, deleting file", e);
+                deleteFile(saveFile);
+            }
+        }
 
-            map = gson.fromJson(json, type);
-        } catch (JsonSyntaxException e) {
-            SpongeImpl.getLogger().error("Could not parse username cache file as valid json, deleting file", e);
-            saveFile.delete();
-        } catch (IOException e) {
-            SpongeImpl.getLogger().error("Failed to read username cache file from disk, deleting file", e);
-            saveFile.delete();
-        } finally {
-            // Can sometimes occur when the json file is malformed
-            if (map == null) {
-                map = Maps.newHashMap();
+        final boolean replayed = replay(compactingLogFile) | replay(logFile);
+        if (replayed) {
+            // Start from a single file again, the logs are already applied
+            try {
+                writeSaveFile(map);
+                Files.deleteIfExists(compactingLogFile);
+                Files.deleteIfExists(logFile);
+            } catch (IOException e) {
+                SpongeImpl.getLogger().error("Failed to save username cache to file!", e);
             }
         }
     }
-}
\ No newline at end of file
+
+    private static boolean replay(Path log) {
+        if (Files.notExists(log)) {
+            return false;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(log, charset)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                final int separator = line.indexOf('\t');
+                try {
+                    if (separator == -1) {
+                        remove(UUID.fromString(line));
+                    } else {
+                        put(UUID.fromString(line.substring(0, separator)), line.substring(separator + 1));
+                    }
+                } catch (IllegalArgumentException e) {
+                    // A line cut short while it was appended
+                }
+            }
+        } catch (IOException e) {
+            SpongeImpl.getLogger().error("Failed to read username cache log [{}] from disk", log, e);
+        }
+        return true;
+    }
+
+    private static void deleteFile(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            SpongeImpl.getLogger().error("Failed to delete [{}]", file, e);
+        }
+    }
+
+    private static final class NameHolders {
+
+        // Only accessed while the index entry is locked by a compute call
+        final Set<UUID> all = new HashSet<>(2);
+        volatile UUID latest;
+
+    }
+}
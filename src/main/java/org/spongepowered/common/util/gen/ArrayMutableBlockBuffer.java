@@ -35,6 +35,7 @@
 import org.spongepowered.api.world.extent.StorageType;
 import org.spongepowered.api.world.extent.UnmodifiableBlockVolume;
 import org.spongepowered.api.world.extent.worker.MutableBlockVolumeWorker;
+import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeFiller;
 import org.spongepowered.api.world.schematic.BlockPalette;
 import org.spongepowered.common.world.extent.MutableBlockViewDownsize;
 import org.spongepowered.common.world.extent.MutableBlockViewTransform;
@@ -107,6 +108,42 @@ public BlockPalette getPalette() {
     @Override
     public boolean setBlock(int x, int y, int z, BlockState block, Cause cause) {
         checkRange(x, y, z);
+        final int id = getOrAssign(block);
+        this.data.set(getIndex(x, y, z), id);
+        return true;
+    }
+
+    /**
+     * Sets every block between the two positions to the one produced by the
+     * filler. The blocks are visited in the order they are stored in, and
+     * consecutive identical states are only looked up in the palette once.
+     *
+     * @param min The lowest position, inclusive
+     * @param max The highest position, inclusive
+     * @param filler The filler producing the blocks
+     */
+    public void setBlocks(Vector3i min, Vector3i max, BlockVolumeFiller filler) {
+        checkRange(min.getX(), min.getY(), min.getZ());
+        checkRange(max.getX(), max.getY(), max.getZ());
+        BlockState last = null;
+        int lastId = 0;
+        for (int x = min.getX(); x <= max.getX(); x++) {
+            for (int z = min.getZ(); z <= max.getZ(); z++) {
+                int index = getIndex(x, min.getY(), z);
+                for (int y = min.getY(); y <= max.getY(); y++, index++) {
+                    final BlockState block = filler.produce(x, y, z);
+                    if (block != last) {
+                        // Ids assigned earlier may change when the palette is replaced, so only the latest is kept
+                        lastId = getOrAssign(block);
+                        last = block;
+                    }
+                    this.data.set(index, lastId);
+                }
+            }
+        }
+    }
+
+    private int getOrAssign(BlockState block) {
         int id = this.palette.getOrAssign(block);
         if (id > this.data.getMax()) {
 
@@ -133,8 +170,7 @@ public boolean setBlock(int x, int y, int z, BlockState block, Cause cause) {
             }
             this.data = newdata;
         }
-        this.data.set(getIndex(x, y, z), id);
-        return true;
+        return id;
     }
 
     @Override
@@ -0,0 +1,198 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.gen.ChunkProviderServer;
+import org.spongepowered.common.interfaces.IMixinChunk;
+import org.spongepowered.common.interfaces.server.management.IMixinPlayerChunkMap;
+import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
+import org.spongepowered.common.util.SpongeHooks;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Finds loaded chunks that no player is watching and queues them for
+ * unload. Instead of sweeping every loaded chunk, the collector keeps the
+ * set of chunks that were loaded or stopped being watched, which the
+ * player chunk map and chunk loading keep up to date. A pass walks a copy
+ * of that set in slices limited by a per tick time budget.
+ *
+ * <p>Chunks that cannot be dropped, such as persisted and spawn chunks, are
+ * moved out of the candidates into a retained set. They only become
+ * candidates again once they stop being persisted or the spawn moves.</p>
+ */
+public final class ChunkGarbageCollector {
+
+    private static final int BUDGET_CHECK_INTERVAL = 16;
+
+    private final WorldServer world;
+    private final LongOpenHashSet candidates = new LongOpenHashSet();
+    private final LongOpenHashSet retained = new LongOpenHashSet();
+    private long retainedSpawn;
+    private final LongArrayList pass = new LongArrayList();
+    private int passIndex = -1;
+    private long budget;
+
+    private int passChecked;
+    private int passLeaked;
+    private long passTime;
+    private int lastPassChecked;
+    private int lastPassLeaked;
+    private long lastPassTime;
+    private long totalLeaked;
+
+    public ChunkGarbageCollector(WorldServer world) {
+        this.world = world;
+    }
+
+    public void setTickBudget(int milliseconds) {
+        this.budget = TimeUnit.MILLISECONDS.toNanos(milliseconds);
+    }
+
+    public void addCandidate(int x, int z) {
+        final long key = ChunkPos.asLong(x, z);
+        this.retained.remove(key);
+        this.candidates.add(key);
+    }
+
+    public void removeCandidate(int x, int z) {
+        final long key = ChunkPos.asLong(x, z);
+        this.retained.remove(key);
+        this.candidates.remove(key);
+    }
+
+    public int getCandidateCount() {
+        return this.candidates.size();
+    }
+
+    public boolean isPassRunning() {
+        return this.passIndex >= 0;
+    }
+
+    /**
+     * Starts a new pass over the current candidates. The candidates are
+     * processed by subsequent calls to {@link #tick()}.
+     */
+    public void startPass() {
+        // Spawn chunks may only be dropped once the spawn moves away from them
+        final long spawn = this.world.getSpawnPoint().toLong();
+        if (spawn != this.retainedSpawn) {
+            this.candidates.addAll(this.retained);
+            this.retained.clear();
+            this.retainedSpawn = spawn;
+        }
+        this.pass.clear();
+        this.pass.addAll(this.candidates);
+        this.passIndex = 0;
+        this.passChecked = 0;
+        this.passLeaked = 0;
+        this.passTime = 0;
+    }
+
+    /**
+     * Processes the running pass until it completes or the tick budget is
+     * used up.
+     */
+    public void tick() {
+        if (this.passIndex < 0) {
+            return;
+        }
+        final long start = System.nanoTime();
+        final ChunkProviderServer chunkProvider = this.world.getChunkProvider();
+        final IMixinPlayerChunkMap playerChunkMap = (IMixinPlayerChunkMap) this.world.getPlayerChunkMap();
+        final int size = this.pass.size();
+        int processed = 0;
+        while (this.passIndex < size) {
+            if (this.budget > 0 && ++processed % BUDGET_CHECK_INTERVAL == 0 && System.nanoTime() - start >= this.budget) {
+                break;
+            }
+            final long key = this.pass.getLong(this.passIndex++);
+            final int x = (int) key;
+            final int z = (int) (key >>> 32);
+            this.passChecked++;
+
+            final Chunk chunk = ((IMixinChunkProviderServer) chunkProvider).getLoadedChunkWithoutMarkingActive(x, z);
+            if (chunk == null) {
+                this.candidates.remove(key);
+                continue;
+            }
+            if (chunk.unloadQueued) {
+                continue;
+            }
+            if (((IMixinChunk) chunk).isPersistedChunk() || !this.world.provider.canDropChunk(x, z)) {
+                this.candidates.remove(key);
+                this.retained.add(key);
+                continue;
+            }
+            // If a player is currently using the chunk, it is no longer a candidate until the last player leaves
+            if (playerChunkMap.isChunkInUse(x, z)) {
+                this.candidates.remove(key);
+                continue;
+            }
+
+            // If we reach this point the chunk leaked so queue for unload
+            chunkProvider.queueUnload(chunk);
+            SpongeHooks.logChunkGCQueueUnload(this.world, chunk);
+            this.passLeaked++;
+        }
+        this.passTime += System.nanoTime() - start;
+
+        if (this.passIndex >= size) {
+            this.passIndex = -1;
+            this.pass.clear();
+            this.lastPassChecked = this.passChecked;
+            this.lastPassLeaked = this.passLeaked;
+            this.lastPassTime = this.passTime;
+            this.totalLeaked += this.passLeaked;
+        }
+    }
+
+    public int getLastPassChecked() {
+        return this.lastPassChecked;
+    }
+
+    public int getLastPassLeaked() {
+        return this.lastPassLeaked;
+    }
+
+    /**
+     * Gets the time spent by the last completed pass, summed over every
+     * tick it ran in.
+     *
+     * @return The time in nanoseconds
+     */
+    public long getLastPassTime() {
+        return this.lastPassTime;
+    }
+
+    public long getTotalLeaked() {
+        return this.totalLeaked;
+    }
+}
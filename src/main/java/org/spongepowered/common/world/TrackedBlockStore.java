@@ -0,0 +1,304 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+
+import javax.annotation.Nullable;
+
+/**
+ * The owner and notifier indices of the tracked blocks in a chunk.
+ *
+ * <p>Positions are grouped by 16 block high section. Each section keeps an
+ * open addressed table from the position within the section to both
+ * indices packed into a single long, so no object is created per tracked
+ * block and lookups do not depend on how many blocks are tracked.</p>
+ *
+ * <p>Block x and z coordinates may be given as world or chunk relative
+ * coordinates, only their lowest four bits are used.</p>
+ */
+public final class TrackedBlockStore {
+
+    public static final int NONE = -1;
+
+    private static final int SECTIONS = 16;
+
+    private final Section[] sections = new Section[SECTIONS];
+    // Sections outside of the usual world height, rarely used
+    @Nullable private Int2ObjectMap<Section> extraSections;
+    private int size;
+
+    public int getOwner(int x, int y, int z) {
+        final Section section = this.getSection(y >> 4, false);
+        return section == null ? NONE : owner(section.get(index(x, y, z)));
+    }
+
+    public int getNotifier(int x, int y, int z) {
+        final Section section = this.getSection(y >> 4, false);
+        return section == null ? NONE : notifier(section.get(index(x, y, z)));
+    }
+
+    public boolean contains(int x, int y, int z) {
+        final Section section = this.getSection(y >> 4, false);
+        return section != null && section.get(index(x, y, z)) != Section.ABSENT;
+    }
+
+    /**
+     * Sets the owner of a block, which is tracked without a notifier if it
+     * was not tracked yet.
+     */
+    public void setOwner(int x, int y, int z, int owner) {
+        final Section section = this.getSection(y >> 4, true);
+        final int index = index(x, y, z);
+        final long value = section.get(index);
+        this.put(section, index, pack(owner, value == Section.ABSENT ? NONE : notifier(value)));
+    }
+
+    /**
+     * Sets the notifier of a block, which is tracked without an owner if it
+     * was not tracked yet.
+     */
+    public void setNotifier(int x, int y, int z, int notifier) {
+        final Section section = this.getSection(y >> 4, true);
+        final int index = index(x, y, z);
+        final long value = section.get(index);
+        this.put(section, index, pack(value == Section.ABSENT ? NONE : owner(value), notifier));
+    }
+
+    public void set(int x, int y, int z, int owner, int notifier) {
+        this.put(this.getSection(y >> 4, true), index(x, y, z), pack(owner, notifier));
+    }
+
+    public boolean remove(int x, int y, int z) {
+        final Section section = this.getSection(y >> 4, false);
+        if (section != null && section.remove(index(x, y, z))) {
+            this.size--;
+            return true;
+        }
+        return false;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Visits every tracked block, with chunk relative x and z coordinates.
+     *
+     * @param visitor The visitor
+     */
+    public void forEach(Visitor visitor) {
+        for (int i = 0; i < SECTIONS; i++) {
+            if (this.sections[i] != null) {
+                this.sections[i].forEach(i, visitor);
+            }
+        }
+        if (this.extraSections != null) {
+            for (Int2ObjectMap.Entry<Section> entry : this.extraSections.int2ObjectEntrySet()) {
+                entry.getValue().forEach(entry.getIntKey(), visitor);
+            }
+        }
+    }
+
+    private void put(Section section, int index, long value) {
+        if (section.put(index, value)) {
+            this.size++;
+        }
+    }
+
+    @Nullable
+    private Section getSection(int sectionY, boolean create) {
+        if (sectionY >= 0 && sectionY < SECTIONS) {
+            Section section = this.sections[sectionY];
+            if (section == null && create) {
+                section = this.sections[sectionY] = new Section();
+            }
+            return section;
+        }
+        if (this.extraSections == null) {
+            if (!create) {
+                return null;
+            }
+            this.extraSections = new Int2ObjectOpenHashMap<>();
+        }
+        Section section = this.extraSections.get(sectionY);
+        if (section == null && create) {
+            section = new Section();
+            this.extraSections.put(sectionY, section);
+        }
+        return section;
+    }
+
+    private static int index(int x, int y, int z) {
+        return (y & 15) << 8 | (z & 15) << 4 | (x & 15);
+    }
+
+    private static long pack(int owner, int notifier) {
+        return (long) owner << 32 | notifier & 0xFFFFFFFFL;
+    }
+
+    private static int owner(long value) {
+        return value == Section.ABSENT ? NONE : (int) (value >> 32);
+    }
+
+    private static int notifier(long value) {
+        return value == Section.ABSENT ? NONE : (int) value;
+    }
+
+    @FunctionalInterface
+    public interface Visitor {
+
+        void accept(int x, int y, int z, int owner, int notifier);
+    }
+
+    /**
+     * An open addressed table of the tracked blocks in a section, keyed by
+     * their index within the section.
+     */
+    private static final class Section {
+
+        // No valid owner index is this low
+        static final long ABSENT = Long.MIN_VALUE;
+
+        // The block index plus one, zero marks a free slot
+        private short[] keys = new short[16];
+        private long[] values = new long[16];
+        private int size;
+
+        long get(int index) {
+            final short key = (short) (index + 1);
+            final int mask = this.keys.length - 1;
+            for (int slot = mix(index) & mask; ; slot = (slot + 1) & mask) {
+                final short current = this.keys[slot];
+                if (current == key) {
+                    return this.values[slot];
+                }
+                if (current == 0) {
+                    return ABSENT;
+                }
+            }
+        }
+
+        /**
+         * Puts the value of a block.
+         *
+         * @return True if the block was not in the table before
+         */
+        boolean put(int index, long value) {
+            final short key = (short) (index + 1);
+            final int mask = this.keys.length - 1;
+            int slot = mix(index) & mask;
+            for (short current; (current = this.keys[slot]) != 0; slot = (slot + 1) & mask) {
+                if (current == key) {
+                    this.values[slot] = value;
+                    return false;
+                }
+            }
+            this.keys[slot] = key;
+            this.values[slot] = value;
+            if (++this.size * 2 > this.keys.length) {
+                this.rehash(this.keys.length * 2);
+            }
+            return true;
+        }
+
+        boolean remove(int index) {
+            final short key = (short) (index + 1);
+            final int mask = this.keys.length - 1;
+            for (int slot = mix(index) & mask; ; slot = (slot + 1) & mask) {
+                final short current = this.keys[slot];
+                if (current == 0) {
+                    return false;
+                }
+                if (current == key) {
+                    this.shiftKeys(slot);
+                    this.size--;
+                    return true;
+                }
+            }
+        }
+
+        /**
+         * Closes the gap left at a slot by moving back the entries after it
+         * that would no longer be found.
+         */
+        private void shiftKeys(int gap) {
+            final int mask = this.keys.length - 1;
+            for (int slot = (gap + 1) & mask; ; slot = (slot + 1) & mask) {
+                final short current = this.keys[slot];
+                if (current == 0) {
+                    break;
+                }
+                final int home = mix(current - 1) & mask;
+                // Move the entry if its home slot is not between the gap and the slot
+                if (gap <= slot ? (home <= gap || home > slot) : (home <= gap && home > slot)) {
+                    this.keys[gap] = current;
+                    this.values[gap] = this.values[slot];
+                    gap = slot;
+                }
+            }
+            this.keys[gap] = 0;
+        }
+
+        private void rehash(int capacity) {
+            final short[] oldKeys = this.keys;
+            final long[] oldValues = this.values;
+            this.keys = new short[capacity];
+            this.values = new long[capacity];
+            final int mask = capacity - 1;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != 0) {
+                    int slot = mix(oldKeys[i] - 1) & mask;
+                    while (this.keys[slot] != 0) {
+                        slot = (slot + 1) & mask;
+                    }
+                    this.keys[slot] = oldKeys[i];
+                    this.values[slot] = oldValues[i];
+                }
+            }
+        }
+
+        void forEach(int sectionY, Visitor visitor) {
+            for (int i = 0; i < this.keys.length; i++) {
+                if (this.keys[i] != 0) {
+                    final int index = this.keys[i] - 1;
+                    final long value = this.values[i];
+                    visitor.accept(index & 15, sectionY << 4 | index >> 8, (index >> 4) & 15, (int) (value >> 32), (int) value);
+                }
+            }
+        }
+
+        private static int mix(int index) {
+            // Spreads neighbouring blocks across the table
+            final int hash = index * 0x9E3779B9;
+            return hash ^ (hash >>> 16);
+        }
+    }
+}
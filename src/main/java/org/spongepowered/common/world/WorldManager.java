@@ -508,6 +508,7 @@ public static boolean unloadWorld(WorldServer worldServer, boolean checkConfig)
             worldByDimensionId.remove(dimensionId);
             weakWorldByWorld.remove(worldServer);
             ((IMixinMinecraftServer) server).removeWorldTickTimes(dimensionId);
+            WorldTickScheduler.getInstance().removeWorld(dimensionId);
             SpongeImpl.getLogger().info("Unloading world [{}] (DIM{})", worldServer.getWorldInfo().getWorldName(), dimensionId);
             reorderWorldsVanillaFirst();
         }
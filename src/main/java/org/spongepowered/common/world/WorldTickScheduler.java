@@ -0,0 +1,287 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.minecraft.crash.CrashReport;
+import net.minecraft.util.ReportedException;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.config.category.ParallelWorldTickingCategory;
+import org.spongepowered.common.event.tracking.CauseTracker;
+import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+import javax.annotation.Nullable;
+
+/**
+ * Ticks worlds concurrently on a fork-join pool when parallel world ticking
+ * is enabled. Worlds are submitted one at a time from the server thread as
+ * vanilla walks its world list, and {@link #awaitWorldTicks()} acts as the
+ * barrier at which the server thread waits for every world to finish before
+ * running any work that was deferred because it touches more than one world.
+ *
+ * <p>Each worker thread owns its own {@link CauseTracker} so that phases
+ * entered while ticking one world never leak into another. Checks that
+ * used to only allow the server thread to modify a world should go
+ * through {@link #isOwningThread(World)}, which also accepts the worker
+ * currently ticking that world. Timings are not thread safe and are only
+ * recorded on the server thread.</p>
+ */
+public final class WorldTickScheduler {
+
+    private static final int SAMPLE_COUNT = 100;
+    private static final WorldTickScheduler INSTANCE = new WorldTickScheduler();
+
+    public static WorldTickScheduler getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Gets whether the current thread is one of the world tick worker
+     * threads. Code that needs to reach into other worlds should defer
+     * itself through {@link #deferCrossWorld(Runnable)} when this is true.
+     *
+     * @return True if currently ticking a world on a worker thread
+     */
+    public static boolean isWorldTickThread() {
+        return Thread.currentThread() instanceof WorldTickThread;
+    }
+
+    /**
+     * Gets whether the current thread may modify the given world, which is
+     * the case for the server thread and for the world tick thread that is
+     * currently ticking that world.
+     *
+     * @param world The world
+     * @return True if the world may be modified from the current thread
+     */
+    public static boolean isOwningThread(World world) {
+        final Thread thread = Thread.currentThread();
+        if (thread instanceof WorldTickThread) {
+            return ((WorldTickThread) thread).tickingWorld == world;
+        }
+        return SpongeImpl.getServer().isCallingFromMinecraftThread();
+    }
+
+    @Nullable private ForkJoinPool pool;
+    private final List<WorldTickJob> pendingJobs = new ArrayList<>();
+    private final List<Runnable> postTickTasks = new ArrayList<>();
+    private final ConcurrentLinkedQueue<Runnable> crossWorldTasks = new ConcurrentLinkedQueue<>();
+    private final Int2ObjectOpenHashMap<long[]> worldTickTimes = new Int2ObjectOpenHashMap<>();
+    private final long[] wallTimes = new long[SAMPLE_COUNT];
+    private final long[] worldTimes = new long[SAMPLE_COUNT];
+    private int sampleIndex;
+    private long sectionStart;
+
+    private WorldTickScheduler() {
+    }
+
+    /**
+     * Schedules the full tick of the given world, including entity updates,
+     * on the worker pool.
+     *
+     * @param worldServer The world to tick
+     */
+    public void scheduleTick(WorldServer worldServer) {
+        if (this.pendingJobs.isEmpty()) {
+            this.sectionStart = System.nanoTime();
+        }
+        final WorldTickJob job = new WorldTickJob(worldServer);
+        job.future = CompletableFuture.runAsync(job, getPool());
+        this.pendingJobs.add(job);
+    }
+
+    /**
+     * Runs the given task once all scheduled worlds have finished ticking,
+     * or immediately if no worlds are currently ticking. Tasks run on the
+     * server thread in the order they were added.
+     *
+     * @param task The task to run
+     */
+    public void afterWorldTicks(Runnable task) {
+        if (this.pendingJobs.isEmpty()) {
+            task.run();
+        } else {
+            this.postTickTasks.add(task);
+        }
+    }
+
+    /**
+     * Queues work that touches more than one world, such as a dimension
+     * change, to run on the server thread at the end of the parallel
+     * section. May be called from any thread.
+     *
+     * @param task The task to run
+     */
+    public void deferCrossWorld(Runnable task) {
+        this.crossWorldTasks.add(task);
+    }
+
+    /**
+     * Waits for every scheduled world to finish ticking, then runs the
+     * deferred cross world tasks followed by the post tick tasks.
+     */
+    public void awaitWorldTicks() {
+        if (this.pendingJobs.isEmpty()) {
+            return;
+        }
+
+        long summedWorldTime = 0;
+        try {
+            for (WorldTickJob job : this.pendingJobs) {
+                job.future.join();
+            }
+            for (WorldTickJob job : this.pendingJobs) {
+                if (job.failure != null) {
+                    final CrashReport report = CrashReport.makeCrashReport(job.failure, "Exception ticking world");
+                    job.worldServer.addWorldInfoToCrashReport(report);
+                    throw new ReportedException(report);
+                }
+                final int dimensionId = ((IMixinWorldServer) job.worldServer).getDimensionId();
+                long[] tickTimes = this.worldTickTimes.get(dimensionId);
+                if (tickTimes == null) {
+                    tickTimes = new long[SAMPLE_COUNT];
+                    this.worldTickTimes.put(dimensionId, tickTimes);
+                }
+                tickTimes[this.sampleIndex] = job.tickTime;
+                summedWorldTime += job.tickTime;
+            }
+            this.wallTimes[this.sampleIndex] = System.nanoTime() - this.sectionStart;
+            this.worldTimes[this.sampleIndex] = summedWorldTime;
+            this.sampleIndex = (this.sampleIndex + 1) % SAMPLE_COUNT;
+        } finally {
+            this.pendingJobs.clear();
+        }
+
+        Runnable task;
+        while ((task = this.crossWorldTasks.poll()) != null) {
+            task.run();
+        }
+        final List<Runnable> tasks = new ArrayList<>(this.postTickTasks);
+        this.postTickTasks.clear();
+        for (Runnable postTickTask : tasks) {
+            postTickTask.run();
+        }
+    }
+
+    /**
+     * Gets the recent tick times of the given dimension in nanoseconds, as
+     * measured on the worker that ticked it.
+     *
+     * @param dimensionId The dimension id
+     * @return The tick times, or null if the dimension was never ticked in parallel
+     */
+    @Nullable
+    public long[] getWorldTickTimes(int dimensionId) {
+        return this.worldTickTimes.get(dimensionId);
+    }
+
+    /**
+     * Gets the ratio between the summed tick time of all worlds and the wall
+     * clock time spent waiting for them, averaged over recent ticks. A value
+     * of 1 means no speedup over ticking the worlds sequentially.
+     *
+     * @return The parallel speedup
+     */
+    public double getParallelSpeedup() {
+        long wallTime = 0;
+        long worldTime = 0;
+        for (int i = 0; i < SAMPLE_COUNT; i++) {
+            wallTime += this.wallTimes[i];
+            worldTime += this.worldTimes[i];
+        }
+        return wallTime == 0 ? 1.0D : (double) worldTime / wallTime;
+    }
+
+    /**
+     * Discards the tick times recorded for the given dimension.
+     *
+     * @param dimensionId The dimension id
+     */
+    public void removeWorld(int dimensionId) {
+        this.worldTickTimes.remove(dimensionId);
+    }
+
+    private ForkJoinPool getPool() {
+        if (this.pool == null) {
+            final ParallelWorldTickingCategory config = SpongeImpl.getGlobalConfig().getConfig().getOptimizations()
+                    .getParallelWorldTickingCategory();
+            final int threads = config.getThreads() > 0 ? config.getThreads() : Runtime.getRuntime().availableProcessors();
+            this.pool = new ForkJoinPool(threads, WorldTickThread::new, null, false);
+        }
+        return this.pool;
+    }
+
+    private static final class WorldTickJob implements Runnable {
+
+        final WorldServer worldServer;
+        CompletableFuture<Void> future;
+        @Nullable volatile Throwable failure;
+        volatile long tickTime;
+
+        WorldTickJob(WorldServer worldServer) {
+            this.worldServer = worldServer;
+        }
+
+        @Override
+        public void run() {
+            final WorldTickThread thread = (WorldTickThread) Thread.currentThread();
+            final long start = System.nanoTime();
+            thread.tickingWorld = this.worldServer;
+            try {
+                this.worldServer.tick();
+                this.worldServer.updateEntities();
+            } catch (Throwable t) {
+                this.failure = t;
+            } finally {
+                thread.tickingWorld = null;
+            }
+            this.tickTime = System.nanoTime() - start;
+        }
+    }
+
+    public static final class WorldTickThread extends ForkJoinWorkerThread {
+
+        private final CauseTracker causeTracker = CauseTracker.createWorldTickTracker();
+        @Nullable WorldServer tickingWorld;
+
+        WorldTickThread(ForkJoinPool pool) {
+            super(pool);
+            setName("Sponge - World Tick Thread #" + getPoolIndex());
+        }
+
+        public CauseTracker getCauseTracker() {
+            return this.causeTracker;
+        }
+    }
+}
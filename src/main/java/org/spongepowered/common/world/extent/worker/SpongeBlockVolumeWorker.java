@@ -32,6 +32,7 @@
 import org.spongepowered.api.event.cause.NamedCause;
 import org.spongepowered.api.world.Chunk;
 import org.spongepowered.api.world.extent.BlockVolume;
+import org.spongepowered.api.world.extent.ImmutableBlockVolume;
 import org.spongepowered.api.world.extent.MutableBlockVolume;
 import org.spongepowered.api.world.extent.UnmodifiableBlockVolume;
 import org.spongepowered.api.world.extent.worker.BlockVolumeWorker;
@@ -39,19 +40,28 @@
 import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeMerger;
 import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeReducer;
 import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeVisitor;
+import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.event.InternalNamedCauses;
 import org.spongepowered.common.event.tracking.CauseTracker;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.phase.plugin.PluginPhase;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+import org.spongepowered.common.util.gen.AbstractBlockBuffer;
+import org.spongepowered.common.util.gen.ArrayMutableBlockBuffer;
 
 import java.util.function.BiFunction;
+import java.util.stream.IntStream;
+
+import javax.annotation.Nullable;
 
 /**
  *
  */
 public class SpongeBlockVolumeWorker<V extends BlockVolume> implements BlockVolumeWorker<V> {
 
+    // Smaller volumes are reduced faster than the tasks can be forked
+    private static final int PARALLEL_THRESHOLD = 1 << 16;
+
     protected final V volume;
     protected final Cause cause;
 
@@ -85,12 +95,17 @@ public void map(BlockVolumeMapper mapper, MutableBlockVolume destination) {
                 .addCaptures()
                 .complete());
         }
-        for (int z = zMin; z <= zMax; z++) {
-            for (int y = yMin; y <= yMax; y++) {
-                for (int x = xMin; x <= xMax; x++) {
-                    final BlockState block = mapper.map(unmodifiableVolume, x, y, z);
+        if (destination instanceof ArrayMutableBlockBuffer) {
+            ((ArrayMutableBlockBuffer) destination).setBlocks(unmodifiableVolume.getBlockMin().add(offset), unmodifiableVolume.getBlockMax().add(offset),
+                (x, y, z) -> mapper.map(unmodifiableVolume, x - xOffset, y - yOffset, z - zOffset));
+        } else {
+            for (int z = zMin; z <= zMax; z++) {
+                for (int y = yMin; y <= yMax; y++) {
+                    for (int x = xMin; x <= xMax; x++) {
+                        final BlockState block = mapper.map(unmodifiableVolume, x, y, z);
 
-                    destination.setBlock(x + xOffset, y + yOffset, z + zOffset, block, this.cause);
+                        destination.setBlock(x + xOffset, y + yOffset, z + zOffset, block, this.cause);
+                    }
                 }
             }
         }
@@ -125,12 +140,22 @@ public void merge(BlockVolume second, BlockVolumeMerger merger, MutableBlockVolu
                 .addCaptures()
                 .complete());
         }
-        for (int z = zMin; z <= zMax; z++) {
-            for (int y = yMin; y <= yMax; y++) {
-                for (int x = xMin; x <= xMax; x++) {
-                    final BlockState block = merger.merge(firstUnmodifiableVolume, x, y, z,
-                        secondUnmodifiableVolume, x + xOffsetSecond, y + yOffsetSecond, z + zOffsetSecond);
-                    destination.setBlock(x + xOffsetDestination, y + yOffsetDestination, z + zOffsetDestination, block, this.cause);
+        if (destination instanceof ArrayMutableBlockBuffer) {
+            final int xOffset = xOffsetSecond - xOffsetDestination;
+            final int yOffset = yOffsetSecond - yOffsetDestination;
+            final int zOffset = zOffsetSecond - zOffsetDestination;
+            ((ArrayMutableBlockBuffer) destination).setBlocks(firstUnmodifiableVolume.getBlockMin().add(offsetDestination),
+                firstUnmodifiableVolume.getBlockMax().add(offsetDestination),
+                (x, y, z) -> merger.merge(firstUnmodifiableVolume, x - xOffsetDestination, y - yOffsetDestination, z - zOffsetDestination,
+                    secondUnmodifiableVolume, x + xOffset, y + yOffset, z + zOffset));
+        } else {
+            for (int z = zMin; z <= zMax; z++) {
+                for (int y = yMin; y <= yMax; y++) {
+                    for (int x = xMin; x <= xMax; x++) {
+                        final BlockState block = merger.merge(firstUnmodifiableVolume, x, y, z,
+                            secondUnmodifiableVolume, x + xOffsetSecond, y + yOffsetSecond, z + zOffsetSecond);
+                        destination.setBlock(x + xOffsetDestination, y + yOffsetDestination, z + zOffsetDestination, block, this.cause);
+                    }
                 }
             }
         }
@@ -174,17 +199,46 @@ public <T> T reduce(BlockVolumeReducer<T> reducer, BiFunction<T, T, T> merge, T
         final int xMax = unmodifiableVolume.getBlockMax().getX();
         final int yMax = unmodifiableVolume.getBlockMax().getY();
         final int zMax = unmodifiableVolume.getBlockMax().getZ();
+        if (zMin < zMax && isImmutable(identity) && isParallel()) {
+            // Each z slab is reduced from the same identity, which is only safe to share between threads when it can't be mutated
+            return IntStream.rangeClosed(zMin, zMax)
+                .parallel()
+                .mapToObj(z -> reduce(reducer, unmodifiableVolume, xMin, yMin, z, xMax, yMax, z, identity))
+                .reduce(merge::apply)
+                .orElse(identity);
+        }
+        return reduce(reducer, unmodifiableVolume, xMin, yMin, zMin, xMax, yMax, zMax, identity);
+    }
+
+    private static <T> T reduce(BlockVolumeReducer<T> reducer, UnmodifiableBlockVolume volume, int xMin, int yMin, int zMin,
+        int xMax, int yMax, int zMax, T identity) {
         T reduction = identity;
         for (int z = zMin; z <= zMax; z++) {
             for (int y = yMin; y <= yMax; y++) {
                 for (int x = xMin; x <= xMax; x++) {
-                    reduction = reducer.reduce(unmodifiableVolume, x, y, z, reduction);
+                    reduction = reducer.reduce(volume, x, y, z, reduction);
                 }
             }
         }
         return reduction;
     }
 
+    private static boolean isImmutable(@Nullable Object identity) {
+        return identity == null || identity instanceof Integer || identity instanceof Long || identity instanceof Short || identity instanceof Byte
+            || identity instanceof Double || identity instanceof Float || identity instanceof Boolean || identity instanceof Character
+            || identity instanceof String || identity instanceof BlockState;
+    }
+
+    private boolean isParallel() {
+        // Only buffers can be read from other threads, worlds and chunks may load or generate while being read
+        if (!(this.volume instanceof AbstractBlockBuffer) && !(this.volume instanceof ImmutableBlockVolume)) {
+            return false;
+        }
+        final Vector3i size = this.volume.getBlockSize();
+        return size.getX() * size.getY() * size.getZ() >= PARALLEL_THRESHOLD
+            && SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useParallelBlockWorkers();
+    }
+
     private Vector3i align(BlockVolume other) {
         final Vector3i thisSize = this.volume.getBlockSize();
         final Vector3i otherSize = other.getBlockSize();
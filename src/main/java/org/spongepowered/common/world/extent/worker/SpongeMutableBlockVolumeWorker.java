@@ -29,6 +29,7 @@
 import org.spongepowered.api.world.extent.MutableBlockVolume;
 import org.spongepowered.api.world.extent.worker.MutableBlockVolumeWorker;
 import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeFiller;
+import org.spongepowered.common.util.gen.ArrayMutableBlockBuffer;
 
 /**
  *
@@ -47,6 +48,10 @@ public void fill(BlockVolumeFiller filler, Cause cause) {
         final int xMax = this.volume.getBlockMax().getX();
         final int yMax = this.volume.getBlockMax().getY();
         final int zMax = this.volume.getBlockMax().getZ();
+        if (this.volume instanceof ArrayMutableBlockBuffer) {
+            ((ArrayMutableBlockBuffer) this.volume).setBlocks(this.volume.getBlockMin(), this.volume.getBlockMax(), filler);
+            return;
+        }
         for (int z = zMin; z <= zMax; z++) {
             for (int y = yMin; y <= yMax; y++) {
                 for (int x = xMin; x <= xMax; x++) {
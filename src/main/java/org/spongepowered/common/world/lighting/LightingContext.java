@@ -0,0 +1,124 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.lighting;
+
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.chunk.Chunk;
+
+import javax.annotation.Nullable;
+
+/**
+ * The state a lighting thread reuses between light updates, so propagating
+ * light does not allocate positions or queues.
+ *
+ * <p>While a chunk's updates are processed, the context also holds the 3x3
+ * area of chunks around it. Only these chunks are read or written; light
+ * spreading any further than that is ignored, as it was before.</p>
+ */
+public final class LightingContext {
+
+    private final int[] queue = new int[32768];
+    private final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+    private final BlockPos.MutableBlockPos neighborPos = new BlockPos.MutableBlockPos();
+    private final BlockPos.MutableBlockPos lookupPos = new BlockPos.MutableBlockPos();
+    private final Chunk[] area = new Chunk[9];
+    private int originX;
+    private int originZ;
+
+    final LongArrayList blockLight = new LongArrayList();
+    final LongArrayList skyLight = new LongArrayList();
+    final int[] locks = new int[4];
+
+    /**
+     * Gets the queue of packed relative positions used by light propagation.
+     *
+     * @return The queue
+     */
+    public int[] getQueue() {
+        return this.queue;
+    }
+
+    /**
+     * Gets the position of the block being updated.
+     *
+     * @return The position
+     */
+    public BlockPos.MutableBlockPos getPos() {
+        return this.pos;
+    }
+
+    /**
+     * Gets a position for the neighbours of the block being updated.
+     *
+     * @return The position
+     */
+    public BlockPos.MutableBlockPos getNeighborPos() {
+        return this.neighborPos;
+    }
+
+    /**
+     * Gets a position for single light lookups.
+     *
+     * @return The position
+     */
+    public BlockPos.MutableBlockPos getLookupPos() {
+        return this.lookupPos;
+    }
+
+    void setArea(Chunk[] area, int chunkX, int chunkZ) {
+        System.arraycopy(area, 0, this.area, 0, this.area.length);
+        this.originX = chunkX - 1;
+        this.originZ = chunkZ - 1;
+    }
+
+    void clearArea() {
+        for (int i = 0; i < this.area.length; i++) {
+            this.area[i] = null;
+        }
+    }
+
+    /**
+     * Gets the chunk containing the given block, if it is part of the area
+     * being updated and has not been queued for unload.
+     *
+     * @param blockX The block x coordinate
+     * @param blockZ The block z coordinate
+     * @return The chunk, or null
+     */
+    @Nullable
+    public Chunk getChunk(int blockX, int blockZ) {
+        final int x = (blockX >> 4) - this.originX;
+        final int z = (blockZ >> 4) - this.originZ;
+        if (x < 0 || x > 2 || z < 0 || z > 2) {
+            return null;
+        }
+        final Chunk chunk = this.area[x + z * 3];
+        if (chunk == null || chunk.unloadQueued) {
+            return null;
+        }
+        return chunk;
+    }
+}
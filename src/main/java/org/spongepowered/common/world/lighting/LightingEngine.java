@@ -0,0 +1,372 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.lighting;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.EnumSkyBlock;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.interfaces.IMixinChunk;
+import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.annotation.Nullable;
+
+/**
+ * Runs the light updates of a world on a pool of lighting threads.
+ *
+ * <p>Updates are queued per chunk. A position queued again before its chunk
+ * is processed is only checked once, so bursts of block changes in the same
+ * area collapse into a single job. A job reads and writes the 3x3 chunks
+ * around its chunk, and holds the locks of the 4x4 chunk cells that area
+ * covers while it runs. Jobs whose areas overlap therefore never run at the
+ * same time, while jobs in different parts of the world run in parallel.
+ * Sky light gap rechecks of a chunk run as part of its job for the same
+ * reason.</p>
+ */
+public final class LightingEngine {
+
+    private static final AtomicInteger THREAD_ID = new AtomicInteger();
+    private static final int CELL_SHIFT = 2;
+    private static final int LOCK_STRIPES = 64;
+    private static final double LATENCY_SMOOTHING = 0.05;
+
+    private final WorldServer world;
+    private final ThreadPoolExecutor executor;
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+    // Guarded by itself
+    private final Long2ObjectMap<ChunkJob> jobs = new Long2ObjectOpenHashMap<>();
+    private volatile int queuedUpdates;
+    private final LongAdder processedUpdates = new LongAdder();
+    private double averageLatency;
+    private long maxLatency;
+
+    public LightingEngine(WorldServer world, int threads) {
+        this.world = world;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            this.locks[i] = new ReentrantLock();
+        }
+        final int count = Math.max(1, threads);
+        this.executor = new ThreadPoolExecutor(count, count, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                runnable -> new LightingThread(runnable, "Sponge - Async Light Thread #" + THREAD_ID.incrementAndGet()));
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Queues a light check at the given position.
+     *
+     * @param lightType The light type to check
+     * @param pos The position
+     * @return False if the chunk or one of its neighbours is not loaded
+     */
+    public boolean queueUpdate(EnumSkyBlock lightType, BlockPos pos) {
+        final int chunkX = pos.getX() >> 4;
+        final int chunkZ = pos.getZ() >> 4;
+        if (!this.canUpdate(chunkX, chunkZ)) {
+            return false;
+        }
+
+        final long key = ChunkPos.asLong(chunkX, chunkZ);
+        final ChunkJob job;
+        final boolean schedule;
+        synchronized (this.jobs) {
+            ChunkJob existing = this.jobs.get(key);
+            schedule = existing == null;
+            if (schedule) {
+                existing = new ChunkJob(chunkX, chunkZ, key);
+                this.jobs.put(key, existing);
+            }
+            job = existing;
+            final LongOpenHashSet positions = lightType == EnumSkyBlock.SKY ? job.skyLight : job.blockLight;
+            if (positions.add(pos.toLong())) {
+                if (job.queuedSince == 0) {
+                    job.queuedSince = System.nanoTime();
+                }
+                this.queuedUpdates++;
+            }
+        }
+
+        if (schedule) {
+            this.schedule(job);
+        }
+        return true;
+    }
+
+    /**
+     * Queues a recheck of the sky light gaps of the given chunk. A recheck
+     * queued again before the previous one ran is dropped.
+     *
+     * @param chunkX The chunk x coordinate
+     * @param chunkZ The chunk z coordinate
+     * @param recheck The recheck to run
+     * @return False if the chunk or one of its neighbours is not loaded
+     */
+    public boolean queueGapRecheck(int chunkX, int chunkZ, Runnable recheck) {
+        if (!this.canUpdate(chunkX, chunkZ)) {
+            return false;
+        }
+
+        final long key = ChunkPos.asLong(chunkX, chunkZ);
+        final ChunkJob job;
+        final boolean schedule;
+        synchronized (this.jobs) {
+            ChunkJob existing = this.jobs.get(key);
+            schedule = existing == null;
+            if (schedule) {
+                existing = new ChunkJob(chunkX, chunkZ, key);
+                this.jobs.put(key, existing);
+            }
+            job = existing;
+            if (job.gapRecheck == null) {
+                job.gapRecheck = recheck;
+                if (job.queuedSince == 0) {
+                    job.queuedSince = System.nanoTime();
+                }
+            }
+        }
+
+        if (schedule) {
+            this.schedule(job);
+        }
+        return true;
+    }
+
+    private boolean canUpdate(int chunkX, int chunkZ) {
+        final Chunk chunk = ((IMixinChunkProviderServer) this.world.getChunkProvider()).getLoadedChunkWithoutMarkingActive(chunkX, chunkZ);
+        return chunk != null && !chunk.unloadQueued && ((IMixinChunk) chunk).areNeighborsLoaded();
+    }
+
+    private void schedule(ChunkJob job) {
+        final IMixinChunkProviderServer chunkProvider = (IMixinChunkProviderServer) this.world.getChunkProvider();
+        final long time = this.world.getTotalWorldTime();
+        for (int z = -1; z <= 1; z++) {
+            for (int x = -1; x <= 1; x++) {
+                final Chunk areaChunk = chunkProvider.getLoadedChunkWithoutMarkingActive(job.chunkX + x, job.chunkZ + z);
+                if (areaChunk != null) {
+                    // Keeps the chunk loaded until the job is done
+                    ((IMixinChunk) areaChunk).getPendingLightUpdates().incrementAndGet();
+                    ((IMixinChunk) areaChunk).setLightUpdateTime(time);
+                }
+                job.area[(x + 1) + (z + 1) * 3] = areaChunk;
+            }
+        }
+        this.executor.execute(() -> this.run(job));
+    }
+
+    private void run(ChunkJob job) {
+        final LightingContext context = ((LightingThread) Thread.currentThread()).context;
+        context.setArea(job.area, job.chunkX, job.chunkZ);
+        final int lockCount = this.lockArea(job, context.locks);
+        try {
+            while (true) {
+                final long queuedSince;
+                final Runnable gapRecheck;
+                synchronized (this.jobs) {
+                    final int count = job.blockLight.size() + job.skyLight.size();
+                    if (count == 0 && job.gapRecheck == null) {
+                        this.jobs.remove(job.key);
+                        break;
+                    }
+                    gapRecheck = job.gapRecheck;
+                    job.gapRecheck = null;
+                    context.blockLight.clear();
+                    context.blockLight.addAll(job.blockLight);
+                    job.blockLight.clear();
+                    context.skyLight.clear();
+                    context.skyLight.addAll(job.skyLight);
+                    job.skyLight.clear();
+                    queuedSince = job.queuedSince;
+                    job.queuedSince = 0;
+                    this.queuedUpdates -= count;
+                }
+
+                try {
+                    // Light checks queued by the recheck in this chunk are picked up by the next iteration
+                    if (gapRecheck != null) {
+                        gapRecheck.run();
+                    }
+                    this.process(EnumSkyBlock.BLOCK, context.blockLight, context);
+                    this.process(EnumSkyBlock.SKY, context.skyLight, context);
+                } catch (Throwable e) {
+                    SpongeImpl.getLogger().error("Failed to update light in chunk ({}, {}) of world {}", job.chunkX, job.chunkZ,
+                            this.world.getWorldInfo().getWorldName(), e);
+                }
+                this.recordBatch(context.blockLight.size() + context.skyLight.size(), System.nanoTime() - queuedSince);
+            }
+        } finally {
+            for (int i = lockCount - 1; i >= 0; i--) {
+                this.locks[context.locks[i]].unlock();
+            }
+            final long time = this.world.getTotalWorldTime();
+            for (Chunk areaChunk : job.area) {
+                if (areaChunk != null) {
+                    ((IMixinChunk) areaChunk).setLightUpdateTime(time);
+                    ((IMixinChunk) areaChunk).getPendingLightUpdates().decrementAndGet();
+                }
+            }
+            context.clearArea();
+        }
+    }
+
+    private void process(EnumSkyBlock lightType, LongArrayList positions, LightingContext context) {
+        final IMixinWorldServer world = (IMixinWorldServer) this.world;
+        final BlockPos.MutableBlockPos pos = context.getPos();
+        for (int i = 0; i < positions.size(); i++) {
+            final long packed = positions.getLong(i);
+            // Same layout as BlockPos#toLong
+            final int x = (int) (packed >> 38);
+            final int y = (int) (packed << 26 >> 52);
+            final int z = (int) (packed << 38 >> 38);
+            world.checkLightAsync(lightType, pos.setPos(x, y, z), context);
+        }
+    }
+
+    /**
+     * Locks the cells covered by the area of the given job, always in
+     * ascending stripe order so that two jobs can never wait on each other.
+     *
+     * @return The number of locks held
+     */
+    private int lockArea(ChunkJob job, int[] stripes) {
+        int count = 0;
+        for (int cellZ = (job.chunkZ - 1) >> CELL_SHIFT; cellZ <= (job.chunkZ + 1) >> CELL_SHIFT; cellZ++) {
+            for (int cellX = (job.chunkX - 1) >> CELL_SHIFT; cellX <= (job.chunkX + 1) >> CELL_SHIFT; cellX++) {
+                final int stripe = ((cellX * 31 + cellZ) * 0x9E3779B9 >>> 16) & (LOCK_STRIPES - 1);
+                boolean duplicate = false;
+                for (int i = 0; i < count; i++) {
+                    duplicate |= stripes[i] == stripe;
+                }
+                if (!duplicate) {
+                    stripes[count++] = stripe;
+                }
+            }
+        }
+        Arrays.sort(stripes, 0, count);
+        for (int i = 0; i < count; i++) {
+            this.locks[stripes[i]].lock();
+        }
+        return count;
+    }
+
+    private synchronized void recordBatch(int updates, long latency) {
+        this.processedUpdates.add(updates);
+        this.averageLatency += (latency - this.averageLatency) * LATENCY_SMOOTHING;
+        if (latency > this.maxLatency) {
+            this.maxLatency = latency;
+        }
+    }
+
+    public ExecutorService getExecutor() {
+        return this.executor;
+    }
+
+    /**
+     * Gets the number of distinct positions waiting for a light check.
+     *
+     * @return The number of queued updates
+     */
+    public int getQueuedUpdates() {
+        return this.queuedUpdates;
+    }
+
+    /**
+     * Gets the number of chunks with light updates queued or running.
+     *
+     * @return The number of chunks
+     */
+    public int getQueuedChunks() {
+        synchronized (this.jobs) {
+            return this.jobs.size();
+        }
+    }
+
+    public long getProcessedUpdates() {
+        return this.processedUpdates.sum();
+    }
+
+    /**
+     * Gets the smoothed time between an update being queued and being
+     * processed.
+     *
+     * @return The latency in nanoseconds
+     */
+    public synchronized long getAverageLatency() {
+        return (long) this.averageLatency;
+    }
+
+    /**
+     * Gets the highest time between an update being queued and being
+     * processed since the engine was created.
+     *
+     * @return The latency in nanoseconds
+     */
+    public synchronized long getMaxLatency() {
+        return this.maxLatency;
+    }
+
+    private static final class ChunkJob {
+
+        final int chunkX;
+        final int chunkZ;
+        final long key;
+        final Chunk[] area = new Chunk[9];
+        // Guarded by the job map
+        final LongOpenHashSet blockLight = new LongOpenHashSet();
+        final LongOpenHashSet skyLight = new LongOpenHashSet();
+        @Nullable Runnable gapRecheck;
+        long queuedSince;
+
+        ChunkJob(int chunkX, int chunkZ, long key) {
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+            this.key = key;
+        }
+    }
+
+    private static final class LightingThread extends Thread {
+
+        final LightingContext context = new LightingContext();
+
+        LightingThread(Runnable target, String name) {
+            super(target, name);
+            this.setDaemon(true);
+        }
+    }
+}
@@ -22,10 +22,4 @@
  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
  * THE SOFTWARE.
  */
-package org.spongepowered.common.interfaces;
-
-public interface IMixinCachable {
-
-    long getCacheKey();
-
-}
+@org.spongepowered.api.util.annotation.NonnullByDefault package org.spongepowered.common.world.lighting;
@@ -30,6 +30,8 @@
 import com.flowpowered.math.GenericMath;
 import com.flowpowered.math.vector.Vector3d;
 import com.flowpowered.math.vector.Vector3i;
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
 import org.apache.commons.lang3.time.DurationFormatUtils;
 import org.slf4j.Logger;
 import org.spongepowered.api.Sponge;
@@ -44,9 +46,16 @@
 import org.spongepowered.api.world.World;
 import org.spongepowered.api.world.WorldBorder;
 import org.spongepowered.api.world.storage.WorldProperties;
+import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.interfaces.world.IMixinAnvilChunkLoader;
 import org.spongepowered.common.world.storage.SpongeChunkLayout;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
@@ -61,6 +70,7 @@ public class SpongeChunkPreGenerateTask implements ChunkPreGenerate, Consumer<Ta
 
     private static final int DEFAULT_TICK_INTERVAL = 4;
     private static final float DEFAULT_TICK_PERCENT = 0.8f;
+    private static final long CHECKPOINT_INTERVAL = 30000;
 
     private static final Vector3i[] OFFSETS = {
             Vector3i.UNIT_Z.negate().mul(2),
@@ -82,6 +92,9 @@ public class SpongeChunkPreGenerateTask implements ChunkPreGenerate, Consumer<Ta
     private final Task spongeTask;
     private final int tickInterval;
     private final Object plugin;
+    private final Vector3i centerChunk;
+    // The progress is written here, so that a restarted server resumes where it stopped
+    @Nullable private final Path checkpointFile;
 
     // If null, no listeners have been assigned, so they don't need to be registered or unregistered.
     @Nullable private final EventListener<ChunkPreGenerationEvent> eventListener;
@@ -94,6 +107,7 @@ public class SpongeChunkPreGenerateTask implements ChunkPreGenerate, Consumer<Ta
 
     private int chunksSkipped = 0;
     private int chunksGenerated = 0;
+    private long lastCheckpointTime;
 
     // Used for wall clock times.
     private long generationStartTime = 0;
@@ -134,6 +148,7 @@ private SpongeChunkPreGenerateTask(Object plugin,
         } else {
             throw new IllegalArgumentException("Center is not a valid chunk coordinate");
         }
+        this.centerChunk = this.currentPosition;
         this.currentGenCount = 4;
         this.currentLayer = 0;
         this.currentIndex = 0;
@@ -141,9 +156,18 @@ private SpongeChunkPreGenerateTask(Object plugin,
 
         this.totalChunksToGenerate = (int) Math.pow(this.chunkRadius * 2 + 1, 2);
 
+        final Path worldDirectory = world.getDirectory();
+        if (worldDirectory != null) {
+            this.checkpointFile = worldDirectory.resolve("data").resolve(String.format("sponge_pregen_%d_%d_%d.dat",
+                    this.centerChunk.getX(), this.centerChunk.getZ(), this.chunkRadius));
+            readCheckpoint();
+        } else {
+            this.checkpointFile = null;
+        }
+
         this.spongeTask = scheduler
                 .createTaskBuilder()
-                .intervalTicks(preferredTickInterval)
+                .intervalTicks(tickInterval)
                 .execute(this)
                 .submit(plugin);
 
@@ -207,6 +231,7 @@ public void cancel() {
             }
             this.spongeTask.cancel();
             isCancelled = true;
+            writeCheckpoint();
         }
     }
 
@@ -215,6 +240,7 @@ public void accept(Task task) {
         final long stepStartTime = System.currentTimeMillis();
         if (this.generationStartTime == 0) {
             this.generationStartTime = stepStartTime;
+            this.lastCheckpointTime = stepStartTime;
         }
 
         // Create and fire event.
@@ -267,6 +293,9 @@ public void accept(Task task) {
 
         final long deltaTime = System.currentTimeMillis() - stepStartTime;
         this.generationEndTime = System.currentTimeMillis();
+        if (this.generationEndTime - this.lastCheckpointTime >= CHECKPOINT_INTERVAL && hasNextChunkPosition()) {
+            writeCheckpoint();
+        }
 
         // Create and fire event.
         if (Sponge.getEventManager().post(SpongeEventFactory.createChunkPreGenerationEventPost(
@@ -292,6 +321,7 @@ public void accept(Task task) {
             this.isCancelled = true;
             unregisterListener();
             task.cancel();
+            deleteCheckpoint();
         }
     }
 
@@ -320,6 +350,70 @@ private void cancelTask(Task task) {
 
         this.isCancelled = true;
         unregisterListener();
+        writeCheckpoint();
+    }
+
+    private void readCheckpoint() {
+        if (this.checkpointFile == null || Files.notExists(this.checkpointFile)) {
+            return;
+        }
+        try (InputStream stream = Files.newInputStream(this.checkpointFile)) {
+            final NBTTagCompound compound = CompressedStreamTools.readCompressed(stream);
+            // The file name already matches, but a renamed or hand edited file should not move the spiral
+            if (compound.getInteger("CenterX") != this.centerChunk.getX() || compound.getInteger("CenterZ") != this.centerChunk.getZ()
+                    || compound.getInteger("Radius") != this.chunkRadius) {
+                return;
+            }
+            this.currentPosition = new Vector3i(compound.getInteger("X"), 0, compound.getInteger("Z"));
+            this.currentGenCount = compound.getInteger("GenCount");
+            this.currentLayer = compound.getInteger("Layer");
+            this.currentIndex = compound.getInteger("Index");
+            this.nextJump = compound.getInteger("NextJump");
+            this.chunksGenerated = compound.getInteger("Generated");
+            this.chunksSkipped = compound.getInteger("Skipped");
+        } catch (IOException e) {
+            SpongeImpl.getLogger().error("Could not read the chunk pre-generation checkpoint [{}], starting over", this.checkpointFile, e);
+        }
+    }
+
+    private void writeCheckpoint() {
+        this.lastCheckpointTime = System.currentTimeMillis();
+        if (this.checkpointFile == null || this.generationStartTime == 0) {
+            return;
+        }
+        final NBTTagCompound compound = new NBTTagCompound();
+        compound.setInteger("CenterX", this.centerChunk.getX());
+        compound.setInteger("CenterZ", this.centerChunk.getZ());
+        compound.setInteger("Radius", this.chunkRadius);
+        compound.setInteger("X", this.currentPosition.getX());
+        compound.setInteger("Z", this.currentPosition.getZ());
+        compound.setInteger("GenCount", this.currentGenCount);
+        compound.setInteger("Layer", this.currentLayer);
+        compound.setInteger("Index", this.currentIndex);
+        compound.setInteger("NextJump", this.nextJump);
+        compound.setInteger("Generated", this.chunksGenerated);
+        compound.setInteger("Skipped", this.chunksSkipped);
+        final Path tempFile = this.checkpointFile.resolveSibling(this.checkpointFile.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(this.checkpointFile.getParent());
+            try (OutputStream stream = Files.newOutputStream(tempFile)) {
+                CompressedStreamTools.writeCompressed(compound, stream);
+            }
+            Files.move(tempFile, this.checkpointFile, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            SpongeImpl.getLogger().error("Could not write the chunk pre-generation checkpoint [{}]", this.checkpointFile, e);
+        }
+    }
+
+    private void deleteCheckpoint() {
+        if (this.checkpointFile == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(this.checkpointFile);
+        } catch (IOException e) {
+            SpongeImpl.getLogger().error("Could not delete the chunk pre-generation checkpoint [{}]", this.checkpointFile, e);
+        }
     }
 
     private boolean hasNextChunkPosition() {
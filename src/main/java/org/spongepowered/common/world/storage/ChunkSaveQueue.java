@@ -0,0 +1,228 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.storage.ThreadedFileIOBase;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.config.category.GlobalGeneralCategory;
+import org.spongepowered.common.interfaces.world.IMixinAnvilChunkLoader;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nullable;
+
+/**
+ * Writes queued chunks to their region files on a fixed set of writer
+ * lanes. Every region file is hashed onto exactly one lane, so writes to
+ * the same file never race while writes to different files proceed in
+ * parallel.
+ *
+ * <p>Only the chunk position is queued. The most recent compound for a
+ * position is kept by the owning {@link IMixinAnvilChunkLoader}, so saving
+ * a chunk again while it is still waiting replaces the pending data
+ * instead of queueing a second write. The number of distinct waiting
+ * chunks is bounded; once the backlog is full, queueing blocks until a
+ * writer frees up a slot.</p>
+ *
+ * <p>The lanes bypass {@link ThreadedFileIOBase}, so waiting for it drains
+ * the lanes through {@link #drain()} before any region file is closed.</p>
+ */
+public final class ChunkSaveQueue {
+
+    private static final long RATE_WINDOW = TimeUnit.SECONDS.toNanos(1);
+
+    @Nullable private static ChunkSaveQueue instance;
+
+    public static synchronized ChunkSaveQueue getInstance() {
+        if (instance == null) {
+            final GlobalGeneralCategory config = SpongeImpl.getGlobalConfig().getConfig().getGeneral();
+            final int threads = config.getChunkSaveThreads() > 0 ? config.getChunkSaveThreads()
+                    : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+            instance = new ChunkSaveQueue(threads, Math.max(1, config.getChunkSaveBacklog()));
+        }
+        return instance;
+    }
+
+    /**
+     * Blocks until every chunk that was handed to the serialization threads
+     * or queued on a lane has been written. Region files must not be closed
+     * before this returns, or the writes still in progress would be lost.
+     */
+    public static void drain() {
+        ChunkSerializationExecutor.awaitPending();
+        final ChunkSaveQueue queue;
+        synchronized (ChunkSaveQueue.class) {
+            queue = instance;
+        }
+        if (queue != null) {
+            queue.awaitIdle();
+        }
+    }
+
+    private final Lane[] lanes;
+    private final Semaphore backlog;
+    private final Object idleLock = new Object();
+    private final int maxBacklog;
+    private final AtomicLong bytesWritten = new AtomicLong();
+    private final AtomicLong chunksWritten = new AtomicLong();
+    private long windowStart = System.nanoTime();
+    private long windowBytes;
+    private double bytesPerSecond;
+
+    private ChunkSaveQueue(int threads, int maxBacklog) {
+        this.maxBacklog = maxBacklog;
+        this.backlog = new Semaphore(maxBacklog);
+        this.lanes = new Lane[threads];
+        for (int i = 0; i < threads; i++) {
+            this.lanes[i] = new Lane(i);
+            this.lanes[i].start();
+        }
+    }
+
+    /**
+     * Queues the given chunk of the loader to be written. Callers must only
+     * queue a position once until the loader has written it.
+     *
+     * @param loader The chunk loader owning the pending compound
+     * @param pos The chunk position
+     */
+    public void queue(IMixinAnvilChunkLoader loader, ChunkPos pos) {
+        this.backlog.acquireUninterruptibly();
+        final int regionX = pos.chunkXPos >> 5;
+        final int regionZ = pos.chunkZPos >> 5;
+        final int hash = (loader.getWorldDir().hashCode() * 31 + regionX) * 31 + regionZ;
+        this.lanes[(hash & Integer.MAX_VALUE) % this.lanes.length].queue.add(new PendingSave(loader, pos));
+    }
+
+    private void awaitIdle() {
+        synchronized (this.idleLock) {
+            while (getQueueDepth() > 0) {
+                try {
+                    this.idleLock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the number of distinct chunks waiting to be written.
+     *
+     * @return The queue depth
+     */
+    public int getQueueDepth() {
+        return this.maxBacklog - this.backlog.availablePermits();
+    }
+
+    public int getMaxBacklog() {
+        return this.maxBacklog;
+    }
+
+    public int getThreadCount() {
+        return this.lanes.length;
+    }
+
+    public long getChunksWritten() {
+        return this.chunksWritten.get();
+    }
+
+    public long getBytesWritten() {
+        return this.bytesWritten.get();
+    }
+
+    /**
+     * Gets the uncompressed chunk data written per second, measured over
+     * the last full second in which chunks were written.
+     *
+     * @return The bytes per second
+     */
+    public synchronized double getBytesPerSecond() {
+        return System.nanoTime() - this.windowStart > RATE_WINDOW * 2 ? 0 : this.bytesPerSecond;
+    }
+
+    synchronized void recordWrite(long bytes) {
+        this.bytesWritten.addAndGet(bytes);
+        this.chunksWritten.incrementAndGet();
+        this.windowBytes += bytes;
+        final long now = System.nanoTime();
+        final long elapsed = now - this.windowStart;
+        if (elapsed >= RATE_WINDOW) {
+            this.bytesPerSecond = this.windowBytes * (double) RATE_WINDOW / elapsed;
+            this.windowBytes = 0;
+            this.windowStart = now;
+        }
+    }
+
+    private static final class PendingSave {
+
+        final IMixinAnvilChunkLoader loader;
+        final ChunkPos pos;
+
+        PendingSave(IMixinAnvilChunkLoader loader, ChunkPos pos) {
+            this.loader = loader;
+            this.pos = pos;
+        }
+    }
+
+    private final class Lane extends Thread {
+
+        final LinkedBlockingQueue<PendingSave> queue = new LinkedBlockingQueue<>();
+
+        Lane(int index) {
+            super("Sponge - Chunk Save Thread #" + index);
+            setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                final PendingSave save;
+                try {
+                    save = this.queue.take();
+                } catch (InterruptedException e) {
+                    continue;
+                }
+                try {
+                    recordWrite(save.loader.writeQueuedChunk(save.pos));
+                } catch (Throwable t) {
+                    SpongeImpl.getLogger().error("Failed to save chunk {} in {}", save.pos, save.loader.getWorldDir(), t);
+                } finally {
+                    ChunkSaveQueue.this.backlog.release();
+                    if (getQueueDepth() == 0) {
+                        synchronized (ChunkSaveQueue.this.idleLock) {
+                            ChunkSaveQueue.this.idleLock.notifyAll();
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
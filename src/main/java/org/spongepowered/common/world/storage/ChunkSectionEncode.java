@@ -0,0 +1,62 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.world.chunk.NibbleArray;
+
+/**
+ * A section of a chunk compound whose block arrays are filled in after the
+ * compound itself was written.
+ */
+public final class ChunkSectionEncode {
+
+    private final int sectionIndex;
+    private final ChunkSectionSnapshot snapshot;
+    private final byte[] blockIds;
+    private final NibbleArray data;
+
+    /**
+     * Creates a new section encode.
+     *
+     * @param sectionIndex The index of the section compound in the sections list
+     * @param snapshot The block states of the section
+     * @param blockIds The block id array already referenced by the section compound
+     * @param data The metadata array already referenced by the section compound
+     */
+    public ChunkSectionEncode(int sectionIndex, ChunkSectionSnapshot snapshot, byte[] blockIds, NibbleArray data) {
+        this.sectionIndex = sectionIndex;
+        this.snapshot = snapshot;
+        this.blockIds = blockIds;
+        this.data = data;
+    }
+
+    public void encode(NBTTagList sections) {
+        final NibbleArray extension = this.snapshot.encode(this.blockIds, this.data);
+        if (extension != null) {
+            sections.getCompoundTagAt(this.sectionIndex).setByteArray("Add", extension.getData());
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.world.chunk.NibbleArray;
+
+import javax.annotation.Nullable;
+
+/**
+ * An immutable copy of the packed contents of a
+ * {@link net.minecraft.world.chunk.BlockStateContainer}. Copying the backing
+ * long array and the small local palette is cheap enough for the server
+ * thread, while {@link #encode(byte[], NibbleArray)} produces the same
+ * arrays as {@code BlockStateContainer#getDataForNBT} on any thread.
+ */
+public final class ChunkSectionSnapshot {
+
+    private static final int SECTION_SIZE = 4096;
+
+    private final int bits;
+    private final long maxEntryValue;
+    private final long[] data;
+    // Null when the container uses the global registry palette
+    @Nullable private final IBlockState[] palette;
+
+    public ChunkSectionSnapshot(int bits, long[] data, @Nullable IBlockState[] palette) {
+        this.bits = bits;
+        this.maxEntryValue = (1L << bits) - 1L;
+        this.data = data;
+        this.palette = palette;
+    }
+
+    private IBlockState get(int index) {
+        final int bitIndex = index * this.bits;
+        final int startLong = bitIndex >> 6;
+        final int endLong = ((index + 1) * this.bits - 1) >> 6;
+        final int startOffset = bitIndex & 63;
+        final int id;
+        if (startLong == endLong) {
+            id = (int) (this.data[startLong] >>> startOffset & this.maxEntryValue);
+        } else {
+            id = (int) ((this.data[startLong] >>> startOffset | this.data[endLong] << (64 - startOffset)) & this.maxEntryValue);
+        }
+        final IBlockState state;
+        if (this.palette == null) {
+            state = Block.BLOCK_STATE_IDS.getByValue(id);
+        } else {
+            state = id < this.palette.length ? this.palette[id] : null;
+        }
+        return state == null ? Blocks.AIR.getDefaultState() : state;
+    }
+
+    /**
+     * Encodes the snapshot into the legacy block id and metadata arrays.
+     *
+     * @param blockIds The array receiving the low 8 bits of each block id
+     * @param data The array receiving the metadata of each block
+     * @return The array holding the high 4 bits of each block id, or null if
+     *     no block needed them
+     */
+    @Nullable
+    public NibbleArray encode(byte[] blockIds, NibbleArray data) {
+        NibbleArray extension = null;
+        for (int i = 0; i < SECTION_SIZE; ++i) {
+            final int id = Block.BLOCK_STATE_IDS.get(this.get(i));
+            final int x = i & 15;
+            final int y = i >> 8 & 15;
+            final int z = i >> 4 & 15;
+            if ((id >> 12 & 15) != 0) {
+                if (extension == null) {
+                    extension = new NibbleArray();
+                }
+                extension.set(x, y, z, id >> 12 & 15);
+            }
+            blockIds[i] = (byte) (id >> 4 & 255);
+            data.set(x, y, z, id & 15);
+        }
+        return extension;
+    }
+}
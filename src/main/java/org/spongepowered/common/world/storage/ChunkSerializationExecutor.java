@@ -0,0 +1,75 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.annotation.Nullable;
+
+/**
+ * Runs the deferred parts of chunk serialization, such as encoding
+ * {@link ChunkSectionSnapshot}s, off the server thread.
+ */
+public final class ChunkSerializationExecutor {
+
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(Math.max(1, Runtime.getRuntime().availableProcessors() / 2),
+            new ThreadFactoryBuilder().setNameFormat("Sponge - Chunk Serialization Thread #%d").setDaemon(true).build());
+    private static final Set<CompletableFuture<Void>> PENDING = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Submits a serialization task that must only run once the previous
+     * task for the same chunk, if any, has finished.
+     *
+     * @param previous The pending task of the same chunk
+     * @param task The task to run
+     * @return The future of the task
+     */
+    public static CompletableFuture<Void> submit(@Nullable CompletableFuture<Void> previous, Runnable task) {
+        final CompletableFuture<Void> future = previous == null
+                ? CompletableFuture.runAsync(task, EXECUTOR)
+                : previous.exceptionally(t -> null).thenRunAsync(task, EXECUTOR);
+        PENDING.add(future);
+        future.whenComplete((result, throwable) -> PENDING.remove(future));
+        return future;
+    }
+
+    /**
+     * Blocks until every submitted task has finished.
+     */
+    public static void awaitPending() {
+        while (!PENDING.isEmpty()) {
+            CompletableFuture.allOf(PENDING.toArray(new CompletableFuture<?>[0])).exceptionally(t -> null).join();
+        }
+    }
+
+    private ChunkSerializationExecutor() {
+    }
+}
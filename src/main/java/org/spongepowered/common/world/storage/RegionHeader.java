@@ -0,0 +1,87 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import org.spongepowered.common.SpongeImpl;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * The offset table at the start of a region file, read without going
+ * through {@link net.minecraft.world.chunk.storage.RegionFile} so nothing
+ * but the header has to be touched.
+ */
+final class RegionHeader {
+
+    static final int CHUNK_COUNT = 1024;
+    static final int SECTOR_SIZE = 4096;
+    private static final int HEADER_SIZE = SECTOR_SIZE * 2;
+
+    private final int[] offsets = new int[CHUNK_COUNT];
+
+    private RegionHeader() {
+    }
+
+    static RegionHeader read(Path regionFile) throws IOException {
+        final RegionHeader header = new RegionHeader();
+        try (FileChannel channel = FileChannel.open(regionFile, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE) {
+                // Empty or truncated, vanilla treats this as a file without chunks
+                return header;
+            }
+            channel.map(FileChannel.MapMode.READ_ONLY, 0, SECTOR_SIZE).asIntBuffer().get(header.offsets);
+        }
+        return header;
+    }
+
+    /**
+     * Counts the chunks stored in the given region file from its header,
+     * without reading or decompressing any chunk.
+     *
+     * @param regionFile The region file
+     * @return The number of chunks, or 0 if the header can't be read
+     */
+    static int countChunks(Path regionFile) {
+        try {
+            return read(regionFile).count();
+        } catch (IOException e) {
+            SpongeImpl.getLogger().warn("Could not read region header of {}", regionFile, e);
+            return 0;
+        }
+    }
+
+    int count() {
+        int count = 0;
+        for (int offset : this.offsets) {
+            if (offset != 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -27,6 +27,10 @@
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
 
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.cache.RemovalNotification;
 import net.minecraft.nbt.CompressedStreamTools;
 import net.minecraft.nbt.NBTTagCompound;
 import org.spongepowered.api.Sponge;
@@ -39,71 +43,51 @@
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.nio.file.DirectoryIteratorException;
-import java.nio.file.DirectoryStream;
 import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.time.Instant;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
-import javax.annotation.Nullable;
-
 public final class SpongePlayerDataHandler {
 
     private static final String SPONGE_DATA = "sponge";
+    // Only the data of recently seen players is kept, the files of every other player are read when needed
+    private static final int MAX_CACHED_PLAYERS = 10000;
     private boolean hasInitialized = false;
     private Path playerDir;
 
-    private Map<UUID, SpongePlayerData> playerDataMap;
+    private LoadingCache<UUID, Optional<SpongePlayerData>> playerDataCache;
+    // The data of players which was changed since it was last saved. An entry is only removed once its file is written,
+    // so evicted data is reloaded from here rather than from a file which is stale or still being written
+    private final ConcurrentHashMap<UUID, SpongePlayerData> dirtyPlayers = new ConcurrentHashMap<>();
 
     public static void init() {
         final SpongePlayerDataHandler handlerInstance = Holder.INSTANCE;
         if (!Sponge.isServerAvailable()) {
             return;
         }
-        handlerInstance.playerDataMap = new ConcurrentHashMap<>();
+        handlerInstance.dirtyPlayers.clear();
+        handlerInstance.playerDataCache = CacheBuilder.newBuilder()
+                .maximumSize(MAX_CACHED_PLAYERS)
+                .removalListener((RemovalNotification<UUID, Optional<SpongePlayerData>> notification) -> {
+                    if (notification.wasEvicted() && notification.getValue().isPresent()) {
+                        handlerInstance.dirtyPlayers.computeIfPresent(notification.getKey(), (id, data) -> {
+                            saveFile(id.toString(), createCompoundFor(data));
+                            return null;
+                        });
+                    }
+                })
+                .build(CacheLoader.from(handlerInstance::loadPlayerData));
         final Path filePath = WorldManager.getCurrentSavesDirectory().get().resolve("data").resolve
                 (SPONGE_DATA);
 
         try {
             handlerInstance.playerDir = filePath;
             Files.createDirectories(handlerInstance.playerDir);
-
-            final List<Path> playerFiles = new ArrayList<>();
-            try (DirectoryStream<Path> stream = Files.newDirectoryStream(filePath, "*.{dat}")) {
-                for (Path entry : stream) {
-                    playerFiles.add(entry);
-                }
-            } catch (DirectoryIteratorException e) {
-                SpongeImpl.getLogger().error("Something happened when trying to gather all player files", e);
-            }
-            for (Path playerFile : playerFiles) {
-                if (Files.isReadable(playerFile)) {
-                    NBTTagCompound compound;
-
-                    try (final InputStream stream = Files.newInputStream(playerFile)) {
-                        compound = CompressedStreamTools.readCompressed(stream);
-                    }
-
-                    // TODO Hard exception? Logger entry?
-                    if (compound == null) {
-                        throw new RuntimeException("Failed to decompress player data within [" + playerFile + "]!");
-                    }
-
-                    DataContainer container = NbtTranslator.getInstance().translateFrom(compound);
-                    SpongePlayerData data = container.getSerializable(DataQuery.of(), SpongePlayerData.class).get();
-                    handlerInstance.playerDataMap.put(data.uuid, data);
-                }
-            }
-            playerFiles.clear();
-
         } catch (FileAlreadyExistsException e) {
             SpongeImpl.getLogger().error("Someone went and created a file for the desired path: {}", filePath);
         } catch (Exception e) {
@@ -113,12 +97,37 @@ public static void init() {
         handlerInstance.hasInitialized = true;
     }
 
+    private Optional<SpongePlayerData> loadPlayerData(UUID id) {
+        final SpongePlayerData dirtyData = this.dirtyPlayers.get(id);
+        if (dirtyData != null) {
+            return Optional.of(dirtyData);
+        }
+        final Path playerFile = this.playerDir.resolve(id.toString() + ".dat");
+        if (!Files.isReadable(playerFile)) {
+            return Optional.empty();
+        }
+        try {
+            final NBTTagCompound compound;
+            try (final InputStream stream = Files.newInputStream(playerFile)) {
+                compound = CompressedStreamTools.readCompressed(stream);
+            }
+            final DataContainer container = NbtTranslator.getInstance().translateFrom(compound);
+            return container.getSerializable(DataQuery.of(), SpongePlayerData.class);
+        } catch (Exception e) {
+            SpongeImpl.getLogger().error("Failed to load player data within [{}]!", playerFile, e);
+            return Optional.empty();
+        }
+    }
+
     public static void savePlayer(UUID id) {
         checkState(Holder.INSTANCE.hasInitialized, "PlayerDataHandler hasn't initialized yet!");
         SpongePlayerDataHandler instance = Holder.INSTANCE;
-        @Nullable SpongePlayerData data = instance.playerDataMap.get(checkNotNull(id, "Player id cannot be null!"));
-        if (data != null) {
-            saveFile(id.toString(), createCompoundFor(data));
+        final Optional<SpongePlayerData> data = instance.playerDataCache.getUnchecked(checkNotNull(id, "Player id cannot be null!"));
+        if (data.isPresent()) {
+            instance.dirtyPlayers.compute(id, (key, dirtyData) -> {
+                saveFile(key.toString(), createCompoundFor(data.get()));
+                return null;
+            });
         } else {
             SpongeImpl.getLogger().error("Couldn't find a player data for the uuid: " + id.toString());
         }
@@ -174,26 +183,29 @@ public static void setPlayerInfo(UUID playerId, Instant join, Instant last) {
         checkNotNull(last, "Last joined date cannot be null!");
         SpongePlayerDataHandler instance = Holder.INSTANCE;
 
-        SpongePlayerData data = instance.playerDataMap.get(checkNotNull(playerId, "Player UUID cannot be null!"));
-        if (data == null) {
-            data = new SpongePlayerData();
-            data.uuid = playerId;
-        }
-        data.firstJoined = join.toEpochMilli();
-        data.lastJoined = last.toEpochMilli();
-        instance.playerDataMap.put(playerId, data);
+        final SpongePlayerData data = instance.playerDataCache.getUnchecked(checkNotNull(playerId, "Player UUID cannot be null!"))
+                .orElseGet(() -> {
+                    final SpongePlayerData newData = new SpongePlayerData();
+                    newData.uuid = playerId;
+                    return newData;
+                });
+        // Changed while holding the entry, so the data isn't written back half updated
+        instance.dirtyPlayers.compute(playerId, (id, dirtyData) -> {
+            data.firstJoined = join.toEpochMilli();
+            data.lastJoined = last.toEpochMilli();
+            return data;
+        });
+        instance.playerDataCache.put(playerId, Optional.of(data));
     }
 
     public static Optional<Instant> getFirstJoined(UUID player) {
         checkState(Holder.INSTANCE.hasInitialized, "PlayerDataHandler hasn't initialized yet!");
-        final SpongePlayerData data = Holder.INSTANCE.playerDataMap.get(player);
-        return Optional.ofNullable(data == null ? null : Instant.ofEpochMilli(data.firstJoined));
+        return Holder.INSTANCE.playerDataCache.getUnchecked(player).map(data -> Instant.ofEpochMilli(data.firstJoined));
     }
 
     public static Optional<Instant> getLastPlayed(UUID player) {
         checkState(Holder.INSTANCE.hasInitialized, "PlayerDataHandler hasn't initialized yet!");
-        final SpongePlayerData data = Holder.INSTANCE.playerDataMap.get(player);
-        return Optional.ofNullable(data == null ? null : Instant.ofEpochMilli(data.lastJoined));
+        return Holder.INSTANCE.playerDataCache.getUnchecked(player).map(data -> Instant.ofEpochMilli(data.lastJoined));
     }
 
     SpongePlayerDataHandler() { }
@@ -58,6 +58,7 @@
 import org.spongepowered.common.event.listener.InvalidIncludeExcludeListener;
 import org.spongepowered.common.event.listener.NamedCauseListener;
 import org.spongepowered.common.event.listener.RootListener;
+import org.spongepowered.common.event.listener.SharedCauseListener;
 import org.spongepowered.common.event.listener.SimpleListener;
 
 import java.util.Optional;
@@ -206,6 +207,27 @@ public void testFirstLastCauseListener() throws Exception {
         Assert.assertFalse("Listener with @Last with exclusions was called when an improper Cause was provided!", listener.lastCauseCalledEx);
     }
 
+    @Test
+    public void testSharedCauseListener() throws Exception {
+        SharedCauseListener listener = new SharedCauseListener();
+        AnnotatedEventListener sharedCauseListener = this.getListener(listener, "sharedCauseListener", SubEvent.class, Player.class, Entity.class,
+                Player.class);
+
+        Player player1 = mock(Player.class);
+        Player player2 = mock(Player.class);
+        Cause cause1 = Cause.of(NamedCause.of("foo", "Foo"), NamedCause.of("Entity", mock(Entity.class)), NamedCause.of("Player", player1));
+        Cause cause2 = Cause.of(NamedCause.of("foo", "Foo"), NamedCause.of("Player1", player1), NamedCause.of("Player2", player2));
+
+        sharedCauseListener.handle(new SubEvent(cause1));
+        Assert.assertFalse("Listener was called when the first entity did not match the type filter!", listener.sharedCauseCalled);
+
+        sharedCauseListener.handle(new SubEvent(cause2));
+        Assert.assertTrue("Listener with shared cause lookups was not called when proper Cause was provided!", listener.sharedCauseCalled);
+        Assert.assertSame(player1, listener.first);
+        Assert.assertSame(player1, listener.firstEntity);
+        Assert.assertSame(player2, listener.last);
+    }
+
     @Test
     public void testAllCauseListener() throws Exception {
         AllCauseListener listener = new AllCauseListener();
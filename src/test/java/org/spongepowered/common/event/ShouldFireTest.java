@@ -28,6 +28,7 @@
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
+import org.spongepowered.api.event.Event;
 import org.spongepowered.api.event.EventManager;
 import org.spongepowered.api.event.Listener;
 import org.spongepowered.api.event.entity.SpawnEntityEvent;
@@ -88,25 +89,77 @@ public void testMultipleListeners() {
         Assert.assertFalse("SPAWN_ENTITY_EVENT is not false!", ShouldFire.SPAWN_ENTITY_EVENT);
         Assert.assertFalse("SPAWN_ENTITY_EVENT_CUSTOM is not false!", ShouldFire.SPAWN_ENTITY_EVENT_CUSTOM);
 
+        this.eventManager.registerListeners(this.plugin, second);
+
+        Assert.assertTrue("SPAWN_ENTITY_EVENT is not true!", ShouldFire.SPAWN_ENTITY_EVENT);
+        Assert.assertTrue("SPAWN_ENTITY_EVENT_CUSTOM is not true!", ShouldFire.SPAWN_ENTITY_EVENT_CUSTOM);
+        Assert.assertFalse("SPAWN_ENTITY_EVENT_SPAWNER is not false!", ShouldFire.SPAWN_ENTITY_EVENT_SPAWNER);
+
         this.eventManager.registerListeners(this.plugin, first);
 
         Assert.assertTrue("SPAWN_ENTITY_EVENT is not true!", ShouldFire.SPAWN_ENTITY_EVENT);
-        Assert.assertFalse("SPAWN_ENTITY_EVENT_CUSTOM is not false!", ShouldFire.SPAWN_ENTITY_EVENT_CUSTOM);
+        Assert.assertTrue("SPAWN_ENTITY_EVENT_CUSTOM is not true!", ShouldFire.SPAWN_ENTITY_EVENT_CUSTOM);
+        Assert.assertTrue("SPAWN_ENTITY_EVENT_SPAWNER is not true!", ShouldFire.SPAWN_ENTITY_EVENT_SPAWNER);
 
-        this.eventManager.registerListeners(this.plugin, second);
+        this.eventManager.unregisterListeners(first);
 
         Assert.assertTrue("SPAWN_ENTITY_EVENT is not true!", ShouldFire.SPAWN_ENTITY_EVENT);
         Assert.assertTrue("SPAWN_ENTITY_EVENT_CUSTOM is not true!", ShouldFire.SPAWN_ENTITY_EVENT_CUSTOM);
+        Assert.assertFalse("SPAWN_ENTITY_EVENT_SPAWNER is not false!", ShouldFire.SPAWN_ENTITY_EVENT_SPAWNER);
 
         this.eventManager.unregisterListeners(second);
 
-        Assert.assertTrue("SPAWN_ENTITY_EVENT is not true!", ShouldFire.SPAWN_ENTITY_EVENT);
+        Assert.assertFalse("SPAWN_ENTITY_EVENT is not false!", ShouldFire.SPAWN_ENTITY_EVENT);
         Assert.assertFalse("SPAWN_ENTITY_EVENT_CUSTOM is not false!", ShouldFire.SPAWN_ENTITY_EVENT_CUSTOM);
+    }
+
+    @Test
+    public void testListenersForSameEvent() {
+        SpawnListener first = new SpawnListener();
+        SpawnListener second = new SpawnListener();
+
+        this.eventManager.registerListeners(this.plugin, first);
+        this.eventManager.registerListeners(this.plugin, second);
+        Assert.assertTrue("SPAWN_ENTITY_EVENT is not true!", ShouldFire.SPAWN_ENTITY_EVENT);
 
         this.eventManager.unregisterListeners(first);
+        Assert.assertTrue("SPAWN_ENTITY_EVENT is not true while a listener remains!", ShouldFire.SPAWN_ENTITY_EVENT);
 
+        this.eventManager.unregisterListeners(second);
         Assert.assertFalse("SPAWN_ENTITY_EVENT is not false!", ShouldFire.SPAWN_ENTITY_EVENT);
-        Assert.assertFalse("SPAWN_ENTITY_EVENT_CUSTOM is not false!", ShouldFire.SPAWN_ENTITY_EVENT_CUSTOM);
+    }
+
+    @Test
+    public void testSupertypeListener() {
+        CatchAllListener catchAll = new CatchAllListener();
+        SpawnListener spawn = new SpawnListener();
+
+        this.eventManager.registerListeners(this.plugin, catchAll);
+        Assert.assertTrue("COLLIDE_ENTITY_EVENT is not true!", ShouldFire.COLLIDE_ENTITY_EVENT);
+        Assert.assertTrue("MOVE_ENTITY_EVENT is not true!", ShouldFire.MOVE_ENTITY_EVENT);
+        Assert.assertTrue("CHANGE_INVENTORY_EVENT is not true!", ShouldFire.CHANGE_INVENTORY_EVENT);
+        Assert.assertTrue("SPAWN_ENTITY_EVENT_SPAWNER is not true!", ShouldFire.SPAWN_ENTITY_EVENT_SPAWNER);
+
+        this.eventManager.registerListeners(this.plugin, spawn);
+        this.eventManager.unregisterListeners(catchAll);
+        Assert.assertFalse("COLLIDE_ENTITY_EVENT is not false!", ShouldFire.COLLIDE_ENTITY_EVENT);
+        Assert.assertFalse("MOVE_ENTITY_EVENT is not false!", ShouldFire.MOVE_ENTITY_EVENT);
+        Assert.assertFalse("CHANGE_INVENTORY_EVENT is not false!", ShouldFire.CHANGE_INVENTORY_EVENT);
+        Assert.assertTrue("SPAWN_ENTITY_EVENT_SPAWNER is not true while a listener remains!", ShouldFire.SPAWN_ENTITY_EVENT_SPAWNER);
+
+        this.eventManager.registerListeners(this.plugin, catchAll);
+        this.eventManager.unregisterListeners(spawn);
+        Assert.assertTrue("SPAWN_ENTITY_EVENT is not true while a listener remains!", ShouldFire.SPAWN_ENTITY_EVENT);
+
+        this.eventManager.unregisterListeners(catchAll);
+        Assert.assertFalse("SPAWN_ENTITY_EVENT is not false!", ShouldFire.SPAWN_ENTITY_EVENT);
+        Assert.assertFalse("SPAWN_ENTITY_EVENT_SPAWNER is not false!", ShouldFire.SPAWN_ENTITY_EVENT_SPAWNER);
+    }
+
+    private static class CatchAllListener {
+
+        @Listener
+        public void onEvent(Event event) {}
     }
 
     private static class SpawnListener {
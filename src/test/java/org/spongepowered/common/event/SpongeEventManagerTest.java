@@ -0,0 +1,139 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.api.plugin.PluginManager;
+import org.spongepowered.common.InjectedTest;
+import org.spongepowered.common.event.EventFilterTest.OtherSubEvent;
+import org.spongepowered.common.event.EventFilterTest.SubEvent;
+import org.spongepowered.common.event.EventFilterTest.TestEvent;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class SpongeEventManagerTest extends InjectedTest {
+
+    private SpongeEventManager eventManager;
+    private Object plugin;
+
+    @Before
+    public void init() throws Exception {
+        PluginManager manager = Mockito.mock(PluginManager.class);
+        this.eventManager = new SpongeEventManager(this.logger, manager);
+
+        this.plugin = new Object();
+        PluginContainer container = Mockito.mock(PluginContainer.class);
+        Mockito.when(manager.fromInstance(this.plugin)).thenReturn(Optional.of(container));
+    }
+
+    private List<RegisteredListener<?>> listenersFor(TestEvent event) {
+        return this.eventManager.getHandlerCache(event).getListeners();
+    }
+
+    @Test
+    public void testBakedCacheIsUpdated() {
+        final SubEvent subEvent = new SubEvent(Cause.source(this).build());
+        final OtherSubEvent otherEvent = new OtherSubEvent(Cause.source(this).build());
+        final RootListener root = new RootListener();
+        final SubListener sub = new SubListener();
+
+        Assert.assertTrue(listenersFor(subEvent).isEmpty());
+        Assert.assertTrue(listenersFor(otherEvent).isEmpty());
+
+        this.eventManager.registerListeners(this.plugin, root);
+        Assert.assertEquals(1, listenersFor(subEvent).size());
+        Assert.assertEquals(1, listenersFor(otherEvent).size());
+
+        this.eventManager.registerListeners(this.plugin, sub);
+        Assert.assertEquals(2, listenersFor(subEvent).size());
+        Assert.assertEquals("Listener for a sibling event was added", 1, listenersFor(otherEvent).size());
+        Assert.assertEquals("Listeners are not sorted by order", Order.FIRST, listenersFor(subEvent).get(0).getOrder());
+
+        this.eventManager.unregisterListeners(root);
+        Assert.assertEquals(1, listenersFor(subEvent).size());
+        Assert.assertSame(sub, listenersFor(subEvent).get(0).getHandle());
+        Assert.assertTrue(listenersFor(otherEvent).isEmpty());
+
+        this.eventManager.unregisterListeners(sub);
+        Assert.assertTrue(listenersFor(subEvent).isEmpty());
+    }
+
+    @Test
+    public void testLookupDuringRegistrationChurn() throws InterruptedException {
+        final SubEvent subEvent = new SubEvent(Cause.source(this).build());
+        final RootListener root = new RootListener();
+        this.eventManager.registerListeners(this.plugin, root);
+
+        final AtomicBoolean running = new AtomicBoolean(true);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final Thread reader = new Thread(() -> {
+            try {
+                while (running.get()) {
+                    // The root listener is never removed, so it must always be dispatched to
+                    if (listenersFor(subEvent).isEmpty()) {
+                        throw new AssertionError("Root listener missing from the dispatch table");
+                    }
+                }
+            } catch (Throwable e) {
+                failure.set(e);
+            }
+        });
+        reader.start();
+        for (int i = 0; i < 2000; i++) {
+            final SubListener sub = new SubListener();
+            this.eventManager.registerListeners(this.plugin, sub);
+            this.eventManager.unregisterListeners(sub);
+        }
+        running.set(false);
+        reader.join();
+
+        Assert.assertNull(failure.get());
+        Assert.assertEquals(1, listenersFor(subEvent).size());
+    }
+
+    public static class RootListener {
+
+        @Listener
+        public void onEvent(TestEvent event) {
+        }
+    }
+
+    public static class SubListener {
+
+        @Listener(order = Order.FIRST)
+        public void onEvent(SubEvent event) {
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.plugin.entityactivation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+public class ActivationGridTest {
+
+    private static final double PLAYER_WIDTH = 0.6;
+    private static final double PLAYER_HEIGHT = 1.8;
+
+    @Test
+    public void testEmptyGrid() {
+        ActivationGrid grid = new ActivationGrid();
+        grid.reset(32);
+        assertFalse(grid.isInRange(0, 64, 0, 1, 65, 1, 32, 256));
+    }
+
+    @Test
+    public void testRangeBoundaries() {
+        ActivationGrid grid = new ActivationGrid();
+        grid.reset(32);
+        addPlayer(grid, 0.5, 64, 0.5);
+        assertTrue(grid.isInRange(31, 64, 0, 32, 65, 1, 32, 256));
+        assertFalse(grid.isInRange(33, 64, 0, 34, 65, 1, 32, 256));
+        assertTrue(grid.isInRange(-31, 64, -31, -30, 65, -30, 32, 256));
+        assertFalse(grid.isInRange(-40, 64, 0, -39, 65, 1, 32, 256));
+    }
+
+    @Test
+    public void testResetClearsPlayers() {
+        ActivationGrid grid = new ActivationGrid();
+        grid.reset(32);
+        addPlayer(grid, 0.5, 64, 0.5);
+        grid.reset(32);
+        assertEquals(0, grid.size());
+        assertFalse(grid.isInRange(0, 64, 0, 1, 65, 1, 32, 256));
+    }
+
+    @Test
+    public void testClusteredPlayersMatchBruteForce() {
+        compareWithBruteForce(150, 48, 2000, 24);
+    }
+
+    @Test
+    public void testSpreadPlayersMatchBruteForce() {
+        compareWithBruteForce(150, 5000, 2000, 96);
+    }
+
+    private static void compareWithBruteForce(int players, int playerSpread, int entities, int maxRange) {
+        Random random = new Random(players * 31L + playerSpread);
+        ActivationGrid grid = new ActivationGrid();
+        grid.reset(maxRange);
+        double[][] playerPositions = new double[players][];
+        for (int i = 0; i < players; i++) {
+            double x = (random.nextDouble() - 0.5) * playerSpread;
+            double z = (random.nextDouble() - 0.5) * playerSpread;
+            playerPositions[i] = new double[] {x, 64, z};
+            addPlayer(grid, x, 64, z);
+        }
+
+        for (int i = 0; i < entities; i++) {
+            double x = (random.nextDouble() - 0.5) * (playerSpread + maxRange * 4);
+            double z = (random.nextDouble() - 0.5) * (playerSpread + maxRange * 4);
+            double y = random.nextInt(256);
+            int range = 1 + random.nextInt(maxRange);
+            boolean expected = false;
+            for (double[] player : playerPositions) {
+                if (x + 1 > player[0] - PLAYER_WIDTH / 2 - range && x < player[0] + PLAYER_WIDTH / 2 + range
+                        && y + 1 > player[1] - 256 && y < player[1] + PLAYER_HEIGHT + 256
+                        && z + 1 > player[2] - PLAYER_WIDTH / 2 - range && z < player[2] + PLAYER_WIDTH / 2 + range) {
+                    expected = true;
+                    break;
+                }
+            }
+            assertEquals(expected, grid.isInRange(x, y, z, x + 1, y + 1, z + 1, range, 256));
+        }
+    }
+
+    private static void addPlayer(ActivationGrid grid, double x, double y, double z) {
+        grid.add(x - PLAYER_WIDTH / 2, y, z - PLAYER_WIDTH / 2, x + PLAYER_WIDTH / 2, y + PLAYER_HEIGHT, z + PLAYER_WIDTH / 2);
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class TimingWheelTest {
+
+    @Test
+    public void testEntriesBecomeDueAtTheirDeadline() {
+        final Random random = new Random(4321);
+        final TimingWheel<Long> wheel = new TimingWheel<>(0);
+        final List<TimingWheel.Node<Long>> pending = new ArrayList<>();
+        final List<Long> due = new ArrayList<>();
+        long now = 0;
+        for (int i = 0; i < 20000; i++) {
+            // Mostly near deadlines, some far enough to cascade down several levels or overflow
+            final long delay = random.nextInt(10) == 0 ? (long) random.nextInt(Integer.MAX_VALUE) << 8 : random.nextInt(5000);
+            pending.add(wheel.schedule(now + delay, now + delay));
+            if (random.nextInt(8) == 0) {
+                final TimingWheel.Node<Long> node = pending.remove(random.nextInt(pending.size()));
+                assertTrue(node.cancel());
+                assertFalse(node.cancel());
+            }
+            // Sometimes jump far ahead, so whole levels are skipped at once
+            now += random.nextInt(50) == 0 ? (long) random.nextInt(Integer.MAX_VALUE) << 4 : random.nextInt(100);
+            wheel.advance(now, due);
+            long last = Long.MIN_VALUE;
+            for (long deadline : due) {
+                assertTrue(deadline <= now);
+                assertTrue(deadline >= last);
+                last = deadline;
+            }
+            final long time = now;
+            final int before = pending.size();
+            pending.removeIf(node -> node.deadline <= time);
+            assertEquals(before - pending.size(), due.size());
+            assertEquals(pending.size(), wheel.size());
+            due.clear();
+        }
+    }
+
+    @Test
+    public void testPastDeadlineIsDueOnNextAdvance() {
+        final TimingWheel<String> wheel = new TimingWheel<>(100);
+        final List<String> due = new ArrayList<>();
+        wheel.schedule("past", 50);
+        wheel.schedule("now", 100);
+        assertEquals(100, wheel.nextEventTime());
+        wheel.advance(100, due);
+        assertEquals(2, due.size());
+        assertEquals(0, wheel.size());
+        assertEquals(Long.MAX_VALUE, wheel.nextEventTime());
+    }
+
+    @Test
+    public void testNextEventTimeNeverSkipsAnEntry() {
+        final Random random = new Random(99);
+        final TimingWheel<Long> wheel = new TimingWheel<>(0);
+        final List<Long> due = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            final long deadline = wheel.getTime() + 1 + random.nextInt(1 << 20);
+            wheel.schedule(deadline, deadline);
+            while (due.isEmpty()) {
+                final long next = wheel.nextEventTime();
+                assertTrue(next > wheel.getTime() && next <= deadline);
+                wheel.advance(next, due);
+            }
+            assertEquals(deadline, wheel.getTime());
+            assertEquals(1, due.size());
+            due.clear();
+        }
+    }
+}
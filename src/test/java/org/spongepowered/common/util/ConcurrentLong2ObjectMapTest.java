@@ -0,0 +1,148 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class ConcurrentLong2ObjectMapTest {
+
+    @Test
+    public void testMatchesOpenHashMap() {
+        final Random random = new Random(12345);
+        final Long2ObjectMap<String> expected = new Long2ObjectOpenHashMap<>();
+        final ConcurrentLong2ObjectMap<String> map = new ConcurrentLong2ObjectMap<>(4);
+        for (int i = 0; i < 200000; i++) {
+            // Small key space so keys are removed and put back often, leaving tombstones behind
+            final long key = random.nextInt(4096) - 2048;
+            switch (random.nextInt(3)) {
+                case 0:
+                    assertEquals(expected.put(key, "v" + i), map.put(key, "v" + i));
+                    break;
+                case 1:
+                    assertEquals(expected.remove(key), map.remove(key));
+                    break;
+                default:
+                    assertEquals(expected.get(key), map.get(key));
+                    assertEquals(expected.containsKey(key), map.containsKey(key));
+            }
+        }
+        assertEquals(expected.size(), map.size());
+        assertEquals(expected, map);
+    }
+
+    @Test
+    public void testLastHitIsInvalidated() {
+        final ConcurrentLong2ObjectMap<String> map = new ConcurrentLong2ObjectMap<>();
+        map.put(1L, "a");
+        assertEquals("a", map.get(1L));
+        map.put(1L, "b");
+        assertEquals("b", map.get(1L));
+        map.remove(1L);
+        assertNull(map.get(1L));
+        map.put(1L, "c");
+        map.clear();
+        assertNull(map.get(1L));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void testIteratorRemove() {
+        final ConcurrentLong2ObjectMap<String> map = new ConcurrentLong2ObjectMap<>();
+        for (long i = 0; i < 1000; i++) {
+            map.put(i, String.valueOf(i));
+        }
+        final Iterator<String> iterator = map.values().iterator();
+        while (iterator.hasNext()) {
+            if (Long.parseLong(iterator.next()) % 2 == 0) {
+                iterator.remove();
+            }
+        }
+        assertEquals(500, map.size());
+        for (long i = 0; i < 1000; i++) {
+            assertEquals(i % 2 != 0, map.containsKey(i));
+        }
+    }
+
+    @Test
+    public void testConcurrentReadersSeeStableKeys() throws InterruptedException {
+        final ConcurrentLong2ObjectMap<String> map = new ConcurrentLong2ObjectMap<>();
+        // Keys below 1024 are never touched by the writer and must always be visible
+        for (long i = 0; i < 1024; i++) {
+            map.put(i, String.valueOf(i));
+        }
+        final AtomicBoolean running = new AtomicBoolean(true);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final Thread[] readers = new Thread[4];
+        for (int t = 0; t < readers.length; t++) {
+            final long seed = t;
+            readers[t] = new Thread(() -> {
+                final Random random = new Random(seed);
+                try {
+                    while (running.get()) {
+                        final long key = random.nextInt(1024);
+                        final String value = map.get(key);
+                        if (value == null || Long.parseLong(value) != key) {
+                            throw new AssertionError("Lost key " + key);
+                        }
+                    }
+                } catch (Throwable e) {
+                    failure.set(e);
+                }
+            });
+            readers[t].start();
+        }
+        final Random random = new Random(42);
+        for (int i = 0; i < 500000; i++) {
+            final long key = 1024 + random.nextInt(8192);
+            if (random.nextBoolean()) {
+                map.put(key, "writer");
+            } else {
+                map.remove(key);
+            }
+        }
+        running.set(false);
+        for (Thread reader : readers) {
+            reader.join();
+        }
+        assertNull(failure.get());
+        for (long i = 0; i < 1024; i++) {
+            assertSame(map.get(i), map.get(i));
+            assertFalse(map.get(i) == null);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class DurationHistogramTest {
+
+    @Test
+    public void testBuckets() {
+        final DurationHistogram histogram = new DurationHistogram();
+        histogram.record(500);
+        histogram.record(1000);
+        histogram.record(3000);
+        histogram.record(Long.MAX_VALUE);
+
+        final long[] expected = new long[DurationHistogram.BUCKETS];
+        expected[0] = 1;
+        expected[1] = 1;
+        expected[2] = 1;
+        expected[DurationHistogram.BUCKETS - 1] = 1;
+        assertArrayEquals(expected, histogram.getCounts());
+        assertEquals(4, histogram.getCount());
+    }
+
+    @Test
+    public void testPercentiles() {
+        final DurationHistogram histogram = new DurationHistogram();
+        assertEquals(0, histogram.getPercentile(0.5));
+
+        for (int i = 0; i < 90; i++) {
+            histogram.record(5000);
+        }
+        for (int i = 0; i < 10; i++) {
+            histogram.record(100000);
+        }
+        assertEquals(8, histogram.getPercentile(0.5));
+        assertEquals(8, histogram.getPercentile(0.9));
+        assertEquals(128, histogram.getPercentile(0.99));
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public class SpongeUsernameCacheTest {
+
+    @After
+    public void deleteFiles() throws IOException {
+        Files.deleteIfExists(Paths.get(".", "usernamecache.json"));
+        Files.deleteIfExists(Paths.get(".", "usernamecache.log"));
+        Files.deleteIfExists(Paths.get(".", "usernamecache.log.old"));
+        Files.deleteIfExists(Paths.get(".", "usernamecache.json.tmp"));
+        // Without any files this only clears the cache
+        SpongeUsernameCache.load();
+    }
+
+    @Test
+    public void testNamesAreFoundIgnoringCase() {
+        final UUID uuid = UUID.randomUUID();
+        SpongeUsernameCache.setUsername(uuid, "Notch");
+        assertEquals(uuid, SpongeUsernameCache.getLastKnownUUID("notch"));
+
+        SpongeUsernameCache.setUsername(uuid, "jeb_");
+        assertNull(SpongeUsernameCache.getLastKnownUUID("Notch"));
+        assertEquals(uuid, SpongeUsernameCache.getLastKnownUUID("JEB_"));
+    }
+
+    @Test
+    public void testChangesSurviveReload() {
+        final UUID first = UUID.randomUUID();
+        final UUID second = UUID.randomUUID();
+        SpongeUsernameCache.setUsername(first, "Alex");
+        SpongeUsernameCache.setUsername(second, "Steve");
+        SpongeUsernameCache.save();
+        SpongeUsernameCache.removeUsername(second);
+        SpongeUsernameCache.setUsername(first, "Herobrine");
+        SpongeUsernameCache.save();
+
+        SpongeUsernameCache.load();
+        assertEquals("Herobrine", SpongeUsernameCache.getLastKnownUsername(first));
+        assertNull(SpongeUsernameCache.getLastKnownUsername(second));
+        assertEquals(first, SpongeUsernameCache.getLastKnownUUID("herobrine"));
+        assertNull(SpongeUsernameCache.getLastKnownUUID("Steve"));
+    }
+
+    @Test
+    public void testReusedNamesStayIndexed() {
+        final UUID previous = UUID.randomUUID();
+        final UUID current = UUID.randomUUID();
+        SpongeUsernameCache.setUsername(previous, "Dinnerbone");
+        SpongeUsernameCache.setUsername(current, "Dinnerbone");
+        assertEquals(current, SpongeUsernameCache.getLastKnownUUID("dinnerbone"));
+
+        SpongeUsernameCache.removeUsername(current);
+        assertEquals(previous, SpongeUsernameCache.getLastKnownUUID("dinnerbone"));
+
+        SpongeUsernameCache.setUsername(previous, "Grumm");
+        assertNull(SpongeUsernameCache.getLastKnownUUID("dinnerbone"));
+        assertEquals(previous, SpongeUsernameCache.getLastKnownUUID("grumm"));
+    }
+
+    @Test
+    public void testIndexFollowsManyRenames() {
+        final List<UUID> uuids = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            final UUID uuid = UUID.randomUUID();
+            uuids.add(uuid);
+            SpongeUsernameCache.setUsername(uuid, "Player" + i);
+        }
+        // Every ten players end up sharing a name, the last one to take it is found
+        for (int i = 0; i < uuids.size(); i++) {
+            SpongeUsernameCache.setUsername(uuids.get(i), "Renamed" + i % 100);
+        }
+        for (int i = 0; i < uuids.size(); i++) {
+            assertNull(SpongeUsernameCache.getLastKnownUUID("player" + i));
+        }
+        for (int i = 0; i < 100; i++) {
+            assertEquals(uuids.get(900 + i), SpongeUsernameCache.getLastKnownUUID("renamed" + i));
+        }
+
+        // Removing the latest holders hands the names to players still holding them
+        for (int i = 900; i < uuids.size(); i++) {
+            SpongeUsernameCache.removeUsername(uuids.get(i));
+        }
+        for (int i = 0; i < 100; i++) {
+            final UUID holder = SpongeUsernameCache.getLastKnownUUID("renamed" + i);
+            assertNotNull(holder);
+            assertEquals("Renamed" + i, SpongeUsernameCache.getLastKnownUsername(holder));
+        }
+
+        // Names nobody holds anymore are gone from the index
+        for (int i = 0; i < 900; i++) {
+            if (i % 100 < 50) {
+                SpongeUsernameCache.removeUsername(uuids.get(i));
+            }
+        }
+        for (int i = 0; i < 100; i++) {
+            final UUID holder = SpongeUsernameCache.getLastKnownUUID("renamed" + i);
+            if (i < 50) {
+                assertNull(holder);
+            } else {
+                assertEquals("Renamed" + i, SpongeUsernameCache.getLastKnownUsername(holder));
+            }
+        }
+    }
+}
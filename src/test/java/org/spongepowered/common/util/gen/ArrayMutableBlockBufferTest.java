@@ -0,0 +1,121 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util.gen;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.flowpowered.math.vector.Vector3i;
+import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.block.BlockTypes;
+import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeFiller;
+import org.spongepowered.api.world.schematic.BlockPaletteTypes;
+import org.spongepowered.common.world.schematic.GlobalPalette;
+import org.spongepowered.lwts.runner.LaunchWrapperTestRunner;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+@RunWith(LaunchWrapperTestRunner.class)
+public class ArrayMutableBlockBufferTest {
+
+    private static final Vector3i START = new Vector3i(-8, 0, 16);
+
+    private static List<BlockState> states;
+
+    @BeforeClass
+    public static void collectStates() {
+        final Set<BlockState> distinct = new LinkedHashSet<>();
+        for (IBlockState state : Block.BLOCK_STATE_IDS) {
+            distinct.add((BlockState) state);
+        }
+        states = new ArrayList<>(distinct);
+    }
+
+    @Test
+    public void testSetBlocksGrowsLocalPalette() {
+        final ArrayMutableBlockBuffer buffer = new ArrayMutableBlockBuffer(START, new Vector3i(16, 16, 16));
+        final BlockVolumeFiller filler = (x, y, z) -> states.get(Math.floorMod(x * 31 + y * 17 + z, 40));
+        buffer.setBlocks(buffer.getBlockMin(), buffer.getBlockMax(), filler);
+
+        assertSame(BlockPaletteTypes.LOCAL, buffer.getPalette().getType());
+        assertFilled(buffer, buffer.getBlockMin(), buffer.getBlockMax(), filler);
+    }
+
+    @Test
+    public void testSetBlocksSwitchesToGlobalPalette() {
+        final ArrayMutableBlockBuffer buffer = new ArrayMutableBlockBuffer(START, new Vector3i(32, 32, 32));
+        assertTrue(32 * 32 * 32 > states.size());
+        // Every state is produced at least once, so the local palette outgrows half of the global one part way through the fill
+        final BlockVolumeFiller filler = (x, y, z) -> states.get(Math.floorMod((x * 32 + z) * 32 + y, states.size()));
+        buffer.setBlocks(buffer.getBlockMin(), buffer.getBlockMax(), filler);
+
+        assertSame(GlobalPalette.instance, buffer.getPalette());
+        assertFilled(buffer, buffer.getBlockMin(), buffer.getBlockMax(), filler);
+    }
+
+    @Test
+    public void testSetBlocksLeavesRestOfBuffer() {
+        final ArrayMutableBlockBuffer buffer = new ArrayMutableBlockBuffer(START, new Vector3i(16, 16, 16));
+        final Vector3i min = START.add(4, 2, 6);
+        final Vector3i max = START.add(9, 13, 10);
+        final BlockVolumeFiller filler = (x, y, z) -> states.get(Math.floorMod(y, 4) + 1);
+        buffer.setBlocks(min, max, filler);
+
+        assertFilled(buffer, min, max, filler);
+        final BlockState air = BlockTypes.AIR.getDefaultState();
+        int unchanged = 0;
+        for (int x = buffer.getBlockMin().getX(); x <= buffer.getBlockMax().getX(); x++) {
+            for (int y = buffer.getBlockMin().getY(); y <= buffer.getBlockMax().getY(); y++) {
+                for (int z = buffer.getBlockMin().getZ(); z <= buffer.getBlockMax().getZ(); z++) {
+                    if (x < min.getX() || y < min.getY() || z < min.getZ() || x > max.getX() || y > max.getY() || z > max.getZ()) {
+                        assertSame(air, buffer.getBlock(x, y, z));
+                        unchanged++;
+                    }
+                }
+            }
+        }
+        assertEquals(16 * 16 * 16 - 6 * 12 * 5, unchanged);
+    }
+
+    private static void assertFilled(ArrayMutableBlockBuffer buffer, Vector3i min, Vector3i max, BlockVolumeFiller filler) {
+        for (int x = min.getX(); x <= max.getX(); x++) {
+            for (int y = min.getY(); y <= max.getY(); y++) {
+                for (int z = min.getZ(); z <= max.getZ(); z++) {
+                    assertSame(filler.produce(x, y, z), buffer.getBlock(x, y, z));
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,102 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+public class TrackedBlockStoreTest {
+
+    @Test
+    public void testMatchesMap() {
+        final Random random = new Random(2468);
+        final Map<Long, int[]> expected = new HashMap<>();
+        final TrackedBlockStore store = new TrackedBlockStore();
+        for (int i = 0; i < 200000; i++) {
+            final int x = random.nextInt(16);
+            // Includes heights outside of the usual sections
+            final int y = random.nextInt(320) - 32;
+            final int z = random.nextInt(16);
+            final Long key = (long) x << 40 | (long) (y & 0xFFFFFF) << 8 | z;
+            final int index = random.nextInt(100) - 1;
+            switch (random.nextInt(4)) {
+                case 0:
+                    store.setOwner(x, y, z, index);
+                    expected.computeIfAbsent(key, k -> new int[] {-1, -1})[0] = index;
+                    break;
+                case 1:
+                    store.setNotifier(x, y, z, index);
+                    expected.computeIfAbsent(key, k -> new int[] {-1, -1})[1] = index;
+                    break;
+                case 2:
+                    assertEquals(expected.remove(key) != null, store.remove(x, y, z));
+                    break;
+                default:
+                    final int[] tracked = expected.get(key);
+                    assertEquals(tracked != null, store.contains(x, y, z));
+                    assertEquals(tracked == null ? TrackedBlockStore.NONE : tracked[0], store.getOwner(x, y, z));
+                    assertEquals(tracked == null ? TrackedBlockStore.NONE : tracked[1], store.getNotifier(x, y, z));
+            }
+            assertEquals(expected.size(), store.size());
+        }
+        final int[] visited = new int[1];
+        store.forEach((x, y, z, owner, notifier) -> {
+            final int[] tracked = expected.get((long) x << 40 | (long) (y & 0xFFFFFF) << 8 | z);
+            assertEquals(tracked[0], owner);
+            assertEquals(tracked[1], notifier);
+            visited[0]++;
+        });
+        assertEquals(expected.size(), visited[0]);
+    }
+
+    @Test
+    public void testTenThousandTrackedBlocks() {
+        final TrackedBlockStore store = new TrackedBlockStore();
+        // World coordinates of a chunk, only the position within the chunk matters
+        for (int i = 0; i < 10000; i++) {
+            store.set(160 + (i & 15), i >> 8, -32 + ((i >> 4) & 15), i, i + 1);
+        }
+        assertEquals(10000, store.size());
+        for (int i = 0; i < 10000; i++) {
+            assertEquals(i, store.getOwner(i & 15, i >> 8, (i >> 4) & 15));
+            assertEquals(i + 1, store.getNotifier(i & 15, i >> 8, (i >> 4) & 15));
+        }
+        for (int i = 0; i < 10000; i += 2) {
+            assertTrue(store.remove(i & 15, i >> 8, (i >> 4) & 15));
+        }
+        assertEquals(5000, store.size());
+        for (int i = 0; i < 10000; i++) {
+            assertEquals(i % 2 == 1, store.contains(i & 15, i >> 8, (i >> 4) & 15));
+        }
+        assertFalse(store.contains(0, 200, 0));
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class RegionHeaderTest {
+
+    private static Path writeRegion(int[] offsets) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(RegionHeader.SECTOR_SIZE * 2);
+        for (int offset : offsets) {
+            buffer.putInt(offset);
+        }
+        Path file = Files.createTempFile("r.0.0", ".mca");
+        file.toFile().deleteOnExit();
+        Files.write(file, buffer.array());
+        return file;
+    }
+
+    @Test
+    public void testCountFromHeader() throws IOException {
+        int[] offsets = new int[RegionHeader.CHUNK_COUNT];
+        offsets[0] = 2 << 8 | 1;
+        offsets[31] = 3 << 8 | 2;
+        offsets[1023] = 5 << 8 | 1;
+        Path file = writeRegion(offsets);
+
+        Assert.assertEquals(3, RegionHeader.read(file).count());
+        Assert.assertEquals(3, RegionHeader.countChunks(file));
+    }
+
+    @Test
+    public void testTruncatedFileHasNoChunks() throws IOException {
+        Path file = Files.createTempFile("r.0.1", ".mca");
+        file.toFile().deleteOnExit();
+        Assert.assertEquals(0, RegionHeader.read(file).count());
+        Assert.assertEquals(0, RegionHeader.countChunks(file));
+    }
+}